@@ -0,0 +1,74 @@
+package org.univ.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Product;
+import org.univ.service.OrderService;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.StandardDelivery;
+import org.univ.strategy.payment.PaymentMethod;
+
+/**
+ * 결제 지연(1ms)이 있을 때 주문 ORDERS건을 처리하는 처리량
+ * - sync: placeOrder를 차례로 호출 (주문마다 호출 스레드가 결제를 기다림)
+ * - async: placeOrderAsync로 모두 제출한 뒤 한꺼번에 기다림 (결제 대기는 가상 스레드에서)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class AsyncPlaceOrderBenchmark {
+
+    private static final int ORDERS = 200;
+    private static final long PAYMENT_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Customer customer = Fixtures.customer();
+    private final PaymentMethod slowPayment = amountMinor -> LockSupport.parkNanos(PAYMENT_LATENCY_NANOS);
+    private final DeliveryMethod delivery = new StandardDelivery();
+
+    private OrderService service;
+    private List<Product> cart;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        service = new OrderService();
+        cart = List.of(Fixtures.products(1, Fixtures.LARGE_STOCK).get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public Order sync() {
+        Order last = null;
+        for (int i = 0; i < ORDERS; i++) {
+            last = service.placeOrder(customer, cart, slowPayment, delivery);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public Object async() {
+        List<CompletableFuture<Order>> futures = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            futures.add(service.placeOrderAsync(customer, cart, slowPayment, delivery));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+}
@@ -0,0 +1,66 @@
+package org.univ.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
+import org.univ.persistence.CatalogSnapshot;
+
+/**
+ * 카탈로그 시작 비용: 상품 객체를 모두 만들어 등록 vs 스냅샷을 메모리 매핑으로 열기
+ * (스냅샷 쪽은 첫 조회 시 상품 한 건만 만든다)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CatalogSnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int skuCount;
+
+    private List<Product> products;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        products = Fixtures.products(skuCount, 100);
+        snapshot = Files.createTempFile("catalog-bench", ".snapshot");
+        CatalogSnapshot.write(snapshot, products);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public ProductCatalog buildFromObjects() {
+        ProductCatalog catalog = new ProductCatalog();
+        for (Product product : Fixtures.products(skuCount, 100)) {
+            catalog.add(product);
+        }
+        return catalog;
+    }
+
+    @Benchmark
+    public Product openSnapshotAndLookup() {
+        ProductCatalog catalog = new ProductCatalog(CatalogSnapshot.open(snapshot));
+        return catalog.findById("P-" + (skuCount / 2)).orElseThrow();
+    }
+}
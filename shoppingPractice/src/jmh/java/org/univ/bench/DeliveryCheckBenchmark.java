@@ -0,0 +1,69 @@
+package org.univ.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Product;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
+import org.univ.strategy.delivery.ExpressDelivery;
+import org.univ.strategy.delivery.StandardDelivery;
+
+/**
+ * DeliveryMethod의 배송 가능 검사
+ * - summary: 주문 요약 문자열에서 "주소:"/"냉장" 등을 찾는 이전 방식 (요약 생성 비용 포함)
+ * - request: 주소 유무와 취급 조건 플래그만 보는 DeliveryRequest 방식
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class DeliveryCheckBenchmark {
+
+    private final DeliveryMethod standard = new StandardDelivery();
+    private final DeliveryMethod express = new ExpressDelivery();
+
+    private Order order;
+    private DeliveryRequest request;
+
+    @Setup
+    public void setUp() {
+        // 의류 + 냉장 식품: 일반/특급 배송 모두 가능한 장바구니
+        List<Product> products = Fixtures.products(3, Fixtures.LARGE_STOCK);
+        order = new Order("ORD-BENCH", Fixtures.customer(), List.of(products.get(0), products.get(2)),
+                amountMinor -> { }, standard);
+        int flags = products.get(0).getHandlingFlags() | products.get(2).getHandlingFlags();
+        request = new DeliveryRequest(order.getOrderId(), order.getCustomer().getAddress(), flags,
+                order::getOrderSummary);
+    }
+
+    @Benchmark
+    public void standardBySummary() {
+        standard.deliver(order.getOrderSummary());
+    }
+
+    @Benchmark
+    public void standardByRequest() {
+        standard.deliver(request);
+    }
+
+    @Benchmark
+    public void expressBySummary() {
+        express.deliver(order.getOrderSummary());
+    }
+
+    @Benchmark
+    public void expressByRequest() {
+        express.deliver(request);
+    }
+}
@@ -0,0 +1,43 @@
+package org.univ.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Electronics;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+
+// 벤치마크 공통 데이터: 고객과 종류별 상품
+final class Fixtures {
+
+    // 측정 중 재고가 바닥나지 않을 만큼의 재고
+    static final int LARGE_STOCK = 1_000_000_000;
+
+    private Fixtures() {
+    }
+
+    static Customer customer() {
+        return new Customer("C-BENCH", "벤치", "bench@univ.org", "010-0000-0000", "서울시 관악구 1");
+    }
+
+    // 종류를 돌아가며 섞은 상품 count개 (i번째 상품 ID: P-i)
+    static List<Product> products(int count, int stock) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = "P-" + i;
+            switch (i % 3) {
+                case 0:
+                    products.add(new Clothing(id, "티셔츠 " + i, 10_000 + i, "면 티셔츠", stock, "M", "면"));
+                    break;
+                case 1:
+                    products.add(new Electronics(id, "이어폰 " + i, 59_000 + i, "무선", stock, 12));
+                    break;
+                default:
+                    products.add(new Food(id, "냉장 우유 " + i, 2_500 + i, "1L", stock, true));
+                    break;
+            }
+        }
+        return products;
+    }
+}
@@ -0,0 +1,83 @@
+package org.univ.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.money.Money;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderLine;
+import org.univ.domain.product.Product;
+import org.univ.strategy.delivery.StandardDelivery;
+
+/**
+ * 장바구니 크기(주문 라인 수)별 Order 조회 비용
+ * - calculateTotalPrice / calculateTotalMinor: 상품 추가 시 갱신해 둔 합계 (O(1))
+ * - recomputeMinor: 라인마다 long minor 단위로 다시 합산 (정확, 박싱 없음)
+ * - recomputeDouble: 이전 방식처럼 double로 다시 합산 (비교 기준)
+ * - getOrderSummary: 요약 문자열 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100", "10000"})
+    public int lineCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = Fixtures.products(lineCount, Fixtures.LARGE_STOCK);
+        List<OrderLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLine(products.get(i), 1 + i % 5));
+        }
+        order = new Order("ORD-BENCH", Fixtures.customer(), List.of(), amountMinor -> { }, new StandardDelivery());
+        order.addLines(lines);
+    }
+
+    @Benchmark
+    public double calculateTotalPrice() {
+        return order.calculateTotalPrice();
+    }
+
+    @Benchmark
+    public long calculateTotalMinor() {
+        return order.calculateTotalMinor();
+    }
+
+    @Benchmark
+    public long recomputeMinor() {
+        long total = 0;
+        for (OrderLine line : order.getLines()) {
+            total = Money.add(total, Money.multiply(
+                    line.getProduct().getDiscountedPriceMinor(line.getQuantity()), line.getQuantity()));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double recomputeDouble() {
+        return order.getLines().stream()
+                .mapToDouble(line -> line.getProduct().getDiscountedPrice() * line.getQuantity())
+                .sum();
+    }
+
+    @Benchmark
+    public String getOrderSummary() {
+        return order.getOrderSummary();
+    }
+}
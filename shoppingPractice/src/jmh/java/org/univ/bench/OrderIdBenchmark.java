@@ -0,0 +1,38 @@
+package org.univ.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.service.OrderIdGenerator;
+import org.univ.service.SnowflakeOrderIdGenerator;
+import org.univ.service.UuidOrderIdGenerator;
+
+// 32 스레드가 동시에 주문 ID를 만들 때의 처리량: UUID(공유 SecureRandom) vs 시간순 ID(스레드별 순번)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@Threads(32)
+public class OrderIdBenchmark {
+
+    private final OrderIdGenerator uuid = new UuidOrderIdGenerator();
+    private final OrderIdGenerator snowflake = new SnowflakeOrderIdGenerator(1);
+
+    @Benchmark
+    public String uuid() {
+        return uuid.nextId();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextId();
+    }
+}
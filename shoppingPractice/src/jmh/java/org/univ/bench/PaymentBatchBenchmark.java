@@ -0,0 +1,61 @@
+package org.univ.bench;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.service.PaymentBatchDispatcher;
+import org.univ.strategy.payment.CreditCardPayment;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.SimulatedPaymentGateway;
+
+/**
+ * 느린 게이트웨이(호출당 2ms, 동시 호출 4개 제한)에 64 스레드가 결제 승인을 보낼 때의 처리량
+ * - direct: 결제마다 게이트웨이를 한 번씩 호출
+ * - batched: PaymentBatchDispatcher가 동시 요청을 묶어 일괄 승인
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@Threads(64)
+public class PaymentBatchBenchmark {
+
+    private PaymentBatchDispatcher dispatcher;
+    private PaymentMethod direct;
+    private PaymentMethod batched;
+
+    @Setup
+    public void setUp() {
+        SimulatedPaymentGateway gateway =
+                new SimulatedPaymentGateway(Duration.ofMillis(2), Duration.ofNanos(10_000), 4);
+        direct = new CreditCardPayment("1234-5678-9012", "12/30", gateway);
+        dispatcher = new PaymentBatchDispatcher(64, Duration.ofMillis(1));
+        batched = dispatcher.batched(direct);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+    }
+
+    @Benchmark
+    public void direct() {
+        direct.payMinor(1_000_000);
+    }
+
+    @Benchmark
+    public void batched() {
+        batched.payMinor(1_000_000);
+    }
+}
@@ -0,0 +1,84 @@
+package org.univ.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Product;
+import org.univ.service.OrderService;
+import org.univ.service.PlaceOrderResult;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.StandardDelivery;
+import org.univ.strategy.payment.PaymentMethod;
+
+/**
+ * OrderService.placeOrder 전체 흐름 (예약 → 결제 → 배송 → 저장)
+ * - 단일 스레드 / 8 스레드 (모든 스레드가 같은 장바구니 = 같은 SKU를 주문)
+ * - 재고 부족 경로: 예외로 알리는 placeOrder와 결과로 돌려주는 tryPlaceOrder
+ * 저장소가 주문을 계속 쌓으므로 반복(iteration)마다 서비스를 새로 만든다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class PlaceOrderBenchmark {
+
+    private final Customer customer = Fixtures.customer();
+    private final PaymentMethod payment = amountMinor -> { };
+    private final DeliveryMethod delivery = new StandardDelivery();
+
+    private OrderService service;
+    private List<Product> cart;
+    private List<Product> soldOutCart;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        service = new OrderService();
+        List<Product> products = Fixtures.products(3, Fixtures.LARGE_STOCK);
+        // SKU 2개 (의류 1개 + 전자제품 2개)
+        cart = List.of(products.get(0), products.get(1), products.get(1));
+        soldOutCart = List.of(products.get(0), Fixtures.products(2, 0).get(1));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Order placeOrderSingleThread() {
+        return service.placeOrder(customer, cart, payment, delivery);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Order placeOrderEightThreads() {
+        return service.placeOrder(customer, cart, payment, delivery);
+    }
+
+    // 재고 부족: 예외(스택 트레이스 없음)로 실패를 알림
+    @Benchmark
+    @Threads(1)
+    public Object stockOutWithException() {
+        try {
+            return service.placeOrder(customer, soldOutCart, payment, delivery);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    // 재고 부족: 예외 없이 결과로 돌려받음
+    @Benchmark
+    @Threads(1)
+    public PlaceOrderResult stockOutAsResult() {
+        return service.tryPlaceOrder(customer, soldOutCart, payment, delivery);
+    }
+}
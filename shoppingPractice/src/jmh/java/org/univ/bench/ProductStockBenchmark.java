@@ -0,0 +1,58 @@
+package org.univ.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.product.Product;
+
+/**
+ * SKU 하나의 재고를 여러 스레드가 동시에 바꿀 때의 비용 (CAS 경합)
+ * 호출마다 차감 후 바로 되돌려 재고 수준을 유지한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ProductStockBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = Fixtures.products(1, Fixtures.LARGE_STOCK).get(0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void updateStockSingleThread() {
+        product.updateStock(-1);
+        product.updateStock(1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void updateStockEightThreads() {
+        product.updateStock(-1);
+        product.updateStock(1);
+    }
+
+    // 주문 예약 경로: 부족하면 예외 없이 false
+    @Benchmark
+    @Threads(8)
+    public boolean reserveReleaseEightThreads() {
+        boolean reserved = product.tryReserve(1);
+        if (reserved) {
+            product.release(1);
+        }
+        return reserved;
+    }
+}
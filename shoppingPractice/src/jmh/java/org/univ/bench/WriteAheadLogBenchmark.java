@@ -0,0 +1,61 @@
+package org.univ.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.persistence.FsyncPolicy;
+import org.univ.persistence.WriteAheadLog;
+import org.univ.strategy.delivery.StandardDelivery;
+
+// 주문 상태 전이 기록을 8 스레드가 동시에 남길 때의 fsync 정책별 처리량
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@Threads(8)
+public class WriteAheadLogBenchmark {
+
+    @Param({"NEVER", "INTERVAL", "GROUP_COMMIT"})
+    public FsyncPolicy policy;
+
+    private Path directory;
+    private WriteAheadLog log;
+    private Order order;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wal-bench");
+        log = new WriteAheadLog(directory.resolve("orders.wal"), policy);
+        order = new Order("ORD-BENCH", Fixtures.customer(), List.of(), amountMinor -> { }, new StandardDelivery());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        log.close();
+        Files.deleteIfExists(directory.resolve("orders.wal"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void appendStatusChange() {
+        log.onStatusChanged(order, OrderStatus.PENDING, OrderStatus.PAID);
+    }
+}
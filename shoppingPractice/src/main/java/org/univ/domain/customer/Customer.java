@@ -1,7 +1,9 @@
 package org.univ.domain.customer;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.univ.domain.order.Order;
 
 // 고객(Customer) 클래스: 쇼핑몰 사용자의 정보를 관리하고, 주문 내역을 보유
@@ -11,7 +13,7 @@ public class Customer {
     private String email;           // 이메일 주소
     private String phoneNumber;     // 연락처
     private String address;         // 배송 주소
-    private List<Order> orders;     // 고객의 주문 목록
+    private Map<String, Order> orders;  // 고객의 주문 목록 (주문 ID → 주문, 등록 순서 유지)
 
     // 생성자: 필수 정보로 고객 객체 생성
     public Customer(String customerId, String name, String email, String phoneNumber, String address) {
@@ -41,7 +43,7 @@ public class Customer {
         this.email = email;
         this.phoneNumber = phoneNumber;
         this.address = address;
-        this.orders = new ArrayList<>();
+        this.orders = new LinkedHashMap<>();
     }
 
     // 고객 ID 반환
@@ -71,7 +73,7 @@ public class Customer {
 
     // 주문 내역 반환 (복사본)
     public List<Order> getOrders() {
-        return new ArrayList<>(orders);
+        return new ArrayList<>(orders.values());
     }
 
     // 주소 변경 (유효성 체크)
@@ -82,19 +84,18 @@ public class Customer {
         this.address = newAddress;
     }
 
-    // 주문 추가 (null/중복 방지)
+    // 주문 추가 (null/중복 방지, 중복 검사는 주문 ID 기준 O(1))
     public void addOrder(Order order) {
         if (order == null) {
             throw new IllegalArgumentException("추가할 주문이 null입니다.");
         }
-        if (orders.contains(order)) {
+        if (orders.putIfAbsent(order.getOrderId(), order) != null) {
             throw new IllegalArgumentException("이미 등록된 주문입니다.");
         }
-        orders.add(order);
     }
 
     // 주문 내역 조회(복사본 반환)
     public List<Order> getOrderHistory() {
-        return new ArrayList<>(orders);
+        return new ArrayList<>(orders.values());
     }
 }
\ No newline at end of file
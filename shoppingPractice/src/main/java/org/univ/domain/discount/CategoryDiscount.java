@@ -0,0 +1,32 @@
+package org.univ.domain.discount;
+
+import org.univ.domain.product.Product;
+
+// 카테고리 할인: 특정 상품 타입(예: Clothing.class) 전체를 percent% 할인 (Product.class면 전체 상품)
+public final class CategoryDiscount implements DiscountRule {
+    private final Class<? extends Product> category;
+    private final int percent;
+
+    public CategoryDiscount(Class<? extends Product> category, int percent) {
+        if (category == null) {
+            throw new IllegalArgumentException("할인 카테고리가 null입니다.");
+        }
+        this.category = category;
+        this.percent = DiscountRule.checkPercent(percent);
+    }
+
+    @Override
+    public boolean appliesTo(Product product) {
+        return category.isInstance(product);
+    }
+
+    @Override
+    public long apply(long listPriceMinor) {
+        return DiscountRule.percentOff(listPriceMinor, percent);
+    }
+
+    @Override
+    public String toString() {
+        return category.getSimpleName() + " " + percent + "% 할인";
+    }
+}
@@ -0,0 +1,200 @@
+package org.univ.domain.discount;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.univ.domain.product.Product;
+
+/**
+ * 할인 엔진(DiscountEngine)
+ * - 등록된 상품마다 현재 유효한 규칙을 모두 평가해 "상품 ID -> 수량 구간별 단가" 가격표를 미리 만든다
+ * - 규칙이 바뀌거나 기간 한정 규칙의 시작·종료 시각이 지나면 새 가격표를 만들어 통째로 교체한다
+ * - 상품 등록은 그 상품의 구간만 계산해 기존 가격표 사본에 더한다 (다른 상품은 다시 계산하지 않음)
+ * - 가격 조회(unitPriceMinor)는 가격표에서 해시 조회 한 번으로 끝나고 잠금을 잡지 않는다
+ * 여러 규칙이 겹치면 할인을 누적하지 않고 가장 낮은 단가를 적용한다.
+ * 가격표에 없는(등록되지 않은) 상품은 정가를 그대로 반환한다.
+ * 같은 ID라도 가격표를 만들 때와 정가가 다른 상품(다른 카탈로그의 상품 등)은 그 자리에서 단가를 계산한다.
+ */
+public class DiscountEngine {
+
+    // 상품 클래스들이 기본으로 쓰는 공용 엔진 (규칙이 없으면 모든 상품이 정가)
+    private static final DiscountEngine GLOBAL = new DiscountEngine();
+
+    private final Clock clock;
+    private final List<DiscountRule> rules = new ArrayList<>();           // this로 보호
+    private final Map<String, Product> products = new LinkedHashMap<>();  // this로 보호
+    private final AtomicReference<PriceTable> table = new AtomicReference<>();
+    private final AtomicLong rebuildCount = new AtomicLong();
+
+    public DiscountEngine() {
+        this(Clock.systemDefaultZone());
+    }
+
+    // 기간 한정 규칙 판단에 쓸 시계 지정 (테스트용)
+    public DiscountEngine(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 null입니다.");
+        }
+        this.clock = clock;
+        this.table.set(new PriceTable(Map.of(), List.of(), Long.MAX_VALUE));
+    }
+
+    public static DiscountEngine global() {
+        return GLOBAL;
+    }
+
+    public synchronized void addRule(DiscountRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("할인 규칙이 null입니다.");
+        }
+        rules.add(rule);
+        rebuild();
+    }
+
+    public synchronized void removeRule(DiscountRule rule) {
+        if (rules.remove(rule)) {
+            rebuild();
+        }
+    }
+
+    public synchronized void clearRules() {
+        rules.clear();
+        rebuild();
+    }
+
+    public synchronized List<DiscountRule> getRules() {
+        return new ArrayList<>(rules);
+    }
+
+    // 가격표에 올릴 상품 등록 (같은 ID면 교체)
+    public void register(Product product) {
+        registerAll(List.of(product));
+    }
+
+    /**
+     * 여러 상품을 등록한다. 새 상품의 구간만 현재 규칙으로 계산해 가격표 사본에 더하고 한 번에 교체한다.
+     * 가격표가 이미 만료되었으면(기간 한정 규칙의 시각이 지남) 전체를 다시 만든다.
+     */
+    public synchronized void registerAll(Collection<? extends Product> newProducts) {
+        if (newProducts == null) {
+            throw new IllegalArgumentException("상품 목록이 null입니다.");
+        }
+        for (Product p : newProducts) {
+            if (p == null) {
+                throw new IllegalArgumentException("상품이 null입니다.");
+            }
+        }
+        PriceTable current = table.get();
+        if (current.isExpiredAt(clock.millis())) {
+            for (Product p : newProducts) {
+                products.put(p.getProductId(), p);
+            }
+            rebuild();
+            return;
+        }
+        Map<String, PriceTable.Tiers> changed = new HashMap<>(newProducts.size() * 2);
+        for (Product p : newProducts) {
+            products.put(p.getProductId(), p);
+            changed.put(p.getProductId(), compile(p, current.getActiveRules()));
+        }
+        table.set(current.with(changed));
+    }
+
+    public synchronized void unregister(String productId) {
+        if (products.remove(productId) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * quantity개를 살 때의 할인 단가 (Money minor 단위).
+     * 가격표 조회만 하고, 기간 한정 규칙의 유효 여부가 바뀐 뒤 처음 조회할 때만 가격표를 다시 만든다.
+     * 가격표의 정가가 상품의 정가와 다르면(같은 ID의 다른 상품) 가격표의 규칙으로 그 자리에서 계산한다.
+     */
+    public long unitPriceMinor(Product product, int quantity) {
+        PriceTable current = table.get();
+        if (current.canExpire() && current.isExpiredAt(clock.millis())) {
+            current = refresh(current);
+        }
+        PriceTable.Tiers tiers = current.tiers(product.getProductId());
+        if (tiers == null) {
+            return product.getPriceMinor();
+        }
+        if (tiers.listPrice != product.getPriceMinor()) {
+            tiers = compile(product, current.getActiveRules());
+        }
+        return tiers.unitPrice(quantity);
+    }
+
+    // 지금까지 가격표를 다시 만든 횟수
+    public long getRebuildCount() {
+        return rebuildCount.get();
+    }
+
+    // 만료된 가격표를 본 스레드 중 하나만 다시 만들고, 나머지는 새 가격표를 그대로 사용
+    private synchronized PriceTable refresh(PriceTable stale) {
+        PriceTable current = table.get();
+        return current == stale ? rebuild() : current;
+    }
+
+    // 현재 규칙/상품으로 새 가격표를 만들어 교체한다. (this 잠금 안에서만 호출)
+    private PriceTable rebuild() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<DiscountRule> active = new ArrayList<>();
+        LocalDateTime nextChange = null;
+        for (DiscountRule rule : rules) {
+            if (rule.isActiveAt(now)) {
+                active.add(rule);
+            }
+            LocalDateTime change = rule.nextChangeAfter(now);
+            if (change != null && (nextChange == null || change.isBefore(nextChange))) {
+                nextChange = change;
+            }
+        }
+
+        Map<String, PriceTable.Tiers> entries = new HashMap<>(products.size() * 2);
+        for (Product product : products.values()) {
+            entries.put(product.getProductId(), compile(product, active));
+        }
+        long expiresAt = nextChange == null
+                ? Long.MAX_VALUE
+                : nextChange.atZone(clock.getZone()).toInstant().toEpochMilli();
+
+        PriceTable built = new PriceTable(entries, List.copyOf(active), expiresAt);
+        table.set(built);
+        rebuildCount.incrementAndGet();
+        return built;
+    }
+
+    // 한 상품의 수량 구간별 최저 단가 계산 (구간이 올라갈수록 단가는 내려가거나 같음)
+    private static PriceTable.Tiers compile(Product product, List<DiscountRule> active) {
+        long listPrice = product.getPriceMinor();
+        TreeMap<Integer, Long> bestByMinQuantity = new TreeMap<>();
+        bestByMinQuantity.put(1, listPrice);
+        for (DiscountRule rule : active) {
+            if (rule.appliesTo(product)) {
+                bestByMinQuantity.merge(rule.minQuantity(), rule.apply(listPrice), Math::min);
+            }
+        }
+
+        int[] minQuantities = new int[bestByMinQuantity.size()];
+        long[] unitPrices = new long[bestByMinQuantity.size()];
+        int i = 0;
+        long best = Long.MAX_VALUE;
+        for (Map.Entry<Integer, Long> e : bestByMinQuantity.entrySet()) {
+            best = Math.min(best, e.getValue());
+            minQuantities[i] = e.getKey();
+            unitPrices[i] = best;
+            i++;
+        }
+        return new PriceTable.Tiers(listPrice, minQuantities, unitPrices);
+    }
+}
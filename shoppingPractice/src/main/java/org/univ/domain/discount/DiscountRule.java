@@ -0,0 +1,45 @@
+package org.univ.domain.discount;
+
+import java.time.LocalDateTime;
+import org.univ.domain.product.Product;
+
+/**
+ * 할인 규칙: 어떤 상품에, 몇 개 이상 살 때, 정가를 얼마로 바꾸는지 정의한다.
+ * 규칙은 주문마다 평가하지 않고 DiscountEngine이 가격표를 만들 때만 평가한다.
+ */
+public interface DiscountRule {
+
+    // 이 규칙이 적용되는 상품인지
+    boolean appliesTo(Product product);
+
+    // 정가(Money minor 단위)에 규칙을 적용한 단가
+    long apply(long listPriceMinor);
+
+    // 이 규칙이 적용되는 최소 구매 수량 (수량 구간 할인이 아니면 1)
+    default int minQuantity() {
+        return 1;
+    }
+
+    // at 시각에 규칙이 유효한지 (기간 한정 프로모션이 아니면 항상 true)
+    default boolean isActiveAt(LocalDateTime at) {
+        return true;
+    }
+
+    // at 이후 처음으로 유효 여부가 바뀌는 시각 (바뀌지 않으면 null)
+    default LocalDateTime nextChangeAfter(LocalDateTime at) {
+        return null;
+    }
+
+    // 정가에서 percent% 할인한 금액 (1 minor 미만은 버림)
+    static long percentOff(long listPriceMinor, int percent) {
+        return Math.multiplyExact(listPriceMinor, 100 - percent) / 100;
+    }
+
+    // 할인율 유효성 검사 (0~100)
+    static int checkPercent(int percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("할인율은 0~100 사이여야 합니다: " + percent);
+        }
+        return percent;
+    }
+}
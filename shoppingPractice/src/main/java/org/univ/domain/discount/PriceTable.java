@@ -0,0 +1,74 @@
+package org.univ.domain.discount;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 할인 규칙을 미리 적용해 둔 불변 가격표: 상품 ID -> 수량 구간별 단가.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 읽는다.
+ * 가격표를 만들 때 유효했던 규칙 목록도 함께 들고 있어, 상품 몇 개만 더할 때나 가격표에 없는 상품을 계산할 때 쓴다.
+ */
+final class PriceTable {
+
+    // 한 상품의 수량 구간: minQuantities[i]개 이상이면 단가 unitPrices[i] (minQuantities는 오름차순, 첫 값은 1)
+    static final class Tiers {
+        final long listPrice;   // 구간을 계산할 때 쓴 정가 (조회한 상품의 정가와 다르면 이 구간은 쓰지 않음)
+        final int[] minQuantities;
+        final long[] unitPrices;
+
+        Tiers(long listPrice, int[] minQuantities, long[] unitPrices) {
+            this.listPrice = listPrice;
+            this.minQuantities = minQuantities;
+            this.unitPrices = unitPrices;
+        }
+
+        long unitPrice(int quantity) {
+            for (int i = minQuantities.length - 1; i > 0; i--) {
+                if (quantity >= minQuantities[i]) {
+                    return unitPrices[i];
+                }
+            }
+            return unitPrices[0];
+        }
+    }
+
+    private final Map<String, Tiers> byProductId;
+    private final List<DiscountRule> activeRules;   // 이 가격표를 만들 때 유효했던 규칙 (불변)
+    private final long expiresAtMillis;   // 기간 한정 규칙의 유효 여부가 바뀌는 시각 (없으면 Long.MAX_VALUE)
+
+    PriceTable(Map<String, Tiers> byProductId, List<DiscountRule> activeRules, long expiresAtMillis) {
+        this.byProductId = byProductId;
+        this.activeRules = activeRules;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    // 가격표에 없는 상품이면 null
+    Tiers tiers(String productId) {
+        return byProductId.get(productId);
+    }
+
+    // 일부 상품의 구간만 더하거나 바꾼 새 가격표 (규칙과 만료 시각은 그대로, 이 가격표는 바뀌지 않음)
+    PriceTable with(Map<String, Tiers> changed) {
+        Map<String, Tiers> copy = new HashMap<>((byProductId.size() + changed.size()) * 2);
+        copy.putAll(byProductId);
+        copy.putAll(changed);
+        return new PriceTable(copy, activeRules, expiresAtMillis);
+    }
+
+    List<DiscountRule> getActiveRules() {
+        return activeRules;
+    }
+
+    boolean isExpiredAt(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    boolean canExpire() {
+        return expiresAtMillis != Long.MAX_VALUE;
+    }
+
+    int size() {
+        return byProductId.size();
+    }
+}
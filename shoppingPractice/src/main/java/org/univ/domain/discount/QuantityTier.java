@@ -0,0 +1,42 @@
+package org.univ.domain.discount;
+
+import org.univ.domain.product.Product;
+
+// 수량 구간 할인: 같은 상품을 minQuantity개 이상 사면 단가를 percent% 할인 (category가 Product.class면 전체 상품)
+public final class QuantityTier implements DiscountRule {
+    private final Class<? extends Product> category;
+    private final int minQuantity;
+    private final int percent;
+
+    public QuantityTier(Class<? extends Product> category, int minQuantity, int percent) {
+        if (category == null) {
+            throw new IllegalArgumentException("할인 카테고리가 null입니다.");
+        }
+        if (minQuantity < 1) {
+            throw new IllegalArgumentException("최소 구매 수량은 1 이상이어야 합니다.");
+        }
+        this.category = category;
+        this.minQuantity = minQuantity;
+        this.percent = DiscountRule.checkPercent(percent);
+    }
+
+    @Override
+    public boolean appliesTo(Product product) {
+        return category.isInstance(product);
+    }
+
+    @Override
+    public long apply(long listPriceMinor) {
+        return DiscountRule.percentOff(listPriceMinor, percent);
+    }
+
+    @Override
+    public int minQuantity() {
+        return minQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return category.getSimpleName() + " " + minQuantity + "개 이상 " + percent + "% 할인";
+    }
+}
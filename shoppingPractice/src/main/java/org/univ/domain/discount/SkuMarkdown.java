@@ -0,0 +1,37 @@
+package org.univ.domain.discount;
+
+import org.univ.domain.money.Money;
+import org.univ.domain.product.Product;
+
+// 상품별 가격 인하: 특정 상품 ID의 판매가를 지정한 금액(원)으로 고정
+public final class SkuMarkdown implements DiscountRule {
+    private final String productId;
+    private final long salePriceMinor;
+
+    public SkuMarkdown(String productId, double salePrice) {
+        if (productId == null || productId.isBlank()) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다.");
+        }
+        if (salePrice < 0) {
+            throw new IllegalArgumentException("판매가는 음수가 될 수 없습니다.");
+        }
+        this.productId = productId;
+        this.salePriceMinor = Money.ofWon(salePrice);
+    }
+
+    @Override
+    public boolean appliesTo(Product product) {
+        return productId.equals(product.getProductId());
+    }
+
+    // 인하 가격이 정가보다 높으면 정가 유지
+    @Override
+    public long apply(long listPriceMinor) {
+        return Math.min(listPriceMinor, salePriceMinor);
+    }
+
+    @Override
+    public String toString() {
+        return productId + " " + Money.format(salePriceMinor) + " 가격 인하";
+    }
+}
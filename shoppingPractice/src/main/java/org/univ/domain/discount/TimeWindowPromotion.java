@@ -0,0 +1,57 @@
+package org.univ.domain.discount;
+
+import java.time.LocalDateTime;
+import org.univ.domain.product.Product;
+
+// 기간 한정 프로모션: 감싼 규칙을 [from, to) 기간에만 적용
+public final class TimeWindowPromotion implements DiscountRule {
+    private final DiscountRule rule;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    public TimeWindowPromotion(DiscountRule rule, LocalDateTime from, LocalDateTime to) {
+        if (rule == null) {
+            throw new IllegalArgumentException("프로모션 규칙이 null입니다.");
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("프로모션 기간이 올바르지 않습니다.");
+        }
+        this.rule = rule;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean appliesTo(Product product) {
+        return rule.appliesTo(product);
+    }
+
+    @Override
+    public long apply(long listPriceMinor) {
+        return rule.apply(listPriceMinor);
+    }
+
+    @Override
+    public int minQuantity() {
+        return rule.minQuantity();
+    }
+
+    @Override
+    public boolean isActiveAt(LocalDateTime at) {
+        return !at.isBefore(from) && at.isBefore(to) && rule.isActiveAt(at);
+    }
+
+    @Override
+    public LocalDateTime nextChangeAfter(LocalDateTime at) {
+        LocalDateTime own = at.isBefore(from) ? from : (at.isBefore(to) ? to : null);
+        LocalDateTime inner = rule.nextChangeAfter(at);
+        if (own == null) return inner;
+        if (inner == null) return own;
+        return own.isBefore(inner) ? own : inner;
+    }
+
+    @Override
+    public String toString() {
+        return rule + " (" + from + " ~ " + to + ")";
+    }
+}
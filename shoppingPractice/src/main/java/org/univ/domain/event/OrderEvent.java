@@ -0,0 +1,102 @@
+package org.univ.domain.event;
+
+import java.time.LocalDateTime;
+import org.univ.domain.order.OrderStatus;
+
+/**
+ * 주문 이벤트: 주문 생애 주기에서 일어난 일 한 건 (불변)
+ * 언제(occurredAt), 무엇이(type), 왜(detail) 일어났는지와 금액/상품 정보를 담는다.
+ * 이벤트 스트림에 추가된 순서대로 sequence가 붙는다.
+ */
+public final class OrderEvent {
+
+    public enum Type {
+        CREATED("주문 생성", OrderStatus.PENDING),
+        PRODUCT_ADDED("상품 추가", null),
+        PRODUCT_REMOVED("상품 제외", null),
+        PAID("결제 완료", OrderStatus.PAID),
+        SHIPPED("배송 시작", OrderStatus.SHIPPED),
+        DELIVERED("배송 완료", OrderStatus.DELIVERED),
+        CANCELLED("주문 취소", OrderStatus.CANCELLED);
+
+        private final String description;
+        private final OrderStatus resultingStatus;   // 이 이벤트 이후 주문 상태 (상태를 바꾸지 않으면 null)
+
+        Type(String description, OrderStatus resultingStatus) {
+            this.description = description;
+            this.resultingStatus = resultingStatus;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public OrderStatus getResultingStatus() {
+            return resultingStatus;
+        }
+
+        // 상태 변화에 해당하는 이벤트 종류 (PENDING으로의 변화는 없음)
+        public static Type forStatus(OrderStatus status) {
+            switch (status) {
+                case PAID: return PAID;
+                case SHIPPED: return SHIPPED;
+                case DELIVERED: return DELIVERED;
+                case CANCELLED: return CANCELLED;
+                default: throw new IllegalArgumentException("이벤트가 없는 상태입니다: " + status);
+            }
+        }
+    }
+
+    private final long sequence;           // 스트림 내 순번 (1부터)
+    private final Type type;
+    private final String orderId;
+    private final String customerId;
+    private final LocalDateTime occurredAt;
+    private final String productId;        // 상품 추가/제외 이벤트에서만 사용
+    private final int quantity;            // 상품 추가/제외 수량
+    private final long amountMinor;        // 상품 추가/제외: 라인 금액 변화, 결제/취소: 주문 총액
+    private final String detail;           // 사유 등 부가 설명
+
+    OrderEvent(long sequence, OrderEvent draft) {
+        this(sequence, draft.type, draft.orderId, draft.customerId, draft.occurredAt,
+                draft.productId, draft.quantity, draft.amountMinor, draft.detail);
+    }
+
+    // 스트림에 추가하기 전 이벤트 (sequence는 추가할 때 붙음)
+    public OrderEvent(Type type, String orderId, String customerId, LocalDateTime occurredAt,
+                      String productId, int quantity, long amountMinor, String detail) {
+        this(0, type, orderId, customerId, occurredAt, productId, quantity, amountMinor, detail);
+    }
+
+    private OrderEvent(long sequence, Type type, String orderId, String customerId, LocalDateTime occurredAt,
+                       String productId, int quantity, long amountMinor, String detail) {
+        if (type == null || orderId == null || customerId == null || occurredAt == null) {
+            throw new IllegalArgumentException("이벤트 필수 정보가 없습니다.");
+        }
+        this.sequence = sequence;
+        this.type = type;
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.occurredAt = occurredAt;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.amountMinor = amountMinor;
+        this.detail = detail == null ? "" : detail;
+    }
+
+    public long getSequence() { return sequence; }
+    public Type getType() { return type; }
+    public String getOrderId() { return orderId; }
+    public String getCustomerId() { return customerId; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public String getProductId() { return productId; }
+    public int getQuantity() { return quantity; }
+    public long getAmountMinor() { return amountMinor; }
+    public String getDetail() { return detail; }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type.getDescription() + " " + orderId
+                + (detail.isEmpty() ? "" : " (" + detail + ")");
+    }
+}
@@ -0,0 +1,55 @@
+package org.univ.domain.event;
+
+import java.time.LocalDateTime;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderListener;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Product;
+
+/**
+ * 주문 리스너 알림을 주문 이벤트로 바꿔 스트림에 추가한다.
+ * 이벤트에는 필요한 값(ID, 수량, 금액 등)만 복사하므로 프로젝션은 주문 객체를 참조하지 않는다.
+ */
+public class OrderEventRecorder implements OrderListener {
+
+    private final OrderEventStream stream;
+
+    public OrderEventRecorder(OrderEventStream stream) {
+        if (stream == null) {
+            throw new IllegalArgumentException("이벤트 스트림이 null입니다.");
+        }
+        this.stream = stream;
+    }
+
+    @Override
+    public void onCreated(Order order) {
+        stream.append(new OrderEvent(OrderEvent.Type.CREATED, order.getOrderId(),
+                order.getCustomer().getCustomerId(), order.getOrderDate(), null, 0, 0,
+                "결제: " + order.getPaymentMethod().getClass().getSimpleName()
+                        + ", 배송: " + order.getDeliveryMethod().getClass().getSimpleName()));
+    }
+
+    @Override
+    public void onStockReserved(Order order, Product product, int quantity, long amountMinor) {
+        stream.append(lineEvent(OrderEvent.Type.PRODUCT_ADDED, order, product, quantity, amountMinor));
+    }
+
+    @Override
+    public void onStockReleased(Order order, Product product, int quantity, long amountMinor) {
+        stream.append(lineEvent(OrderEvent.Type.PRODUCT_REMOVED, order, product, quantity, amountMinor));
+    }
+
+    @Override
+    public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+        stream.append(new OrderEvent(OrderEvent.Type.forStatus(to), order.getOrderId(),
+                order.getCustomer().getCustomerId(), LocalDateTime.now(), null, 0,
+                order.calculateTotalMinor(), from.getDescription() + " → " + to.getDescription()));
+    }
+
+    // 금액은 주문이 라인에 반영한 금액 변화를 그대로 쓴다. (지금 가격으로 다시 계산하면 수량 구간/할인 변경으로 주문 총액과 어긋남)
+    private static OrderEvent lineEvent(OrderEvent.Type type, Order order, Product product, int quantity,
+                                        long amountMinor) {
+        return new OrderEvent(type, order.getOrderId(), order.getCustomer().getCustomerId(), LocalDateTime.now(),
+                product.getProductId(), quantity, amountMinor, product.getName());
+    }
+}
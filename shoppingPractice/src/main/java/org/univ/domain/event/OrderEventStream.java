@@ -0,0 +1,71 @@
+package org.univ.domain.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이벤트 스트림: 추가만 가능한 이벤트 목록
+ * - append: 순번을 붙여 저장하고, 구독 중인 프로젝션에 바로 반영한다
+ * - subscribe: 지금까지의 이벤트를 재생한 뒤 이후 이벤트를 계속 받는다
+ * - rebuild: 프로젝션을 비우고 처음부터 다시 만든다
+ * 추가와 반영은 하나의 잠금 안에서 일어나므로 모든 프로젝션이 같은 순서로 이벤트를 본다.
+ */
+public class OrderEventStream {
+
+    private final List<OrderEvent> events = new ArrayList<>();          // this로 보호
+    private final List<OrderProjection> projections = new ArrayList<>(); // this로 보호
+
+    // 이벤트를 스트림에 추가하고 순번이 붙은 이벤트를 반환한다.
+    public synchronized OrderEvent append(OrderEvent draft) {
+        if (draft == null) {
+            throw new IllegalArgumentException("이벤트가 null입니다.");
+        }
+        OrderEvent event = new OrderEvent(events.size() + 1, draft);
+        events.add(event);
+        for (OrderProjection projection : projections) {
+            projection.apply(event);
+        }
+        return event;
+    }
+
+    public synchronized void subscribe(OrderProjection projection) {
+        if (projection == null) {
+            throw new IllegalArgumentException("프로젝션이 null입니다.");
+        }
+        replay(projection);
+        projections.add(projection);
+    }
+
+    // 프로젝션을 비우고 스트림 처음부터 다시 만든다.
+    public synchronized void rebuild(OrderProjection projection) {
+        projection.reset();
+        replay(projection);
+    }
+
+    // sequence 이후의 이벤트 목록 (스트림 순서)
+    public synchronized List<OrderEvent> eventsAfter(long sequence) {
+        int from = (int) Math.max(0, Math.min(sequence, events.size()));
+        return new ArrayList<>(events.subList(from, events.size()));
+    }
+
+    // 한 주문의 이벤트 목록 (스트림 순서)
+    public synchronized List<OrderEvent> eventsOf(String orderId) {
+        List<OrderEvent> result = new ArrayList<>();
+        for (OrderEvent event : events) {
+            if (event.getOrderId().equals(orderId)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    public synchronized long size() {
+        return events.size();
+    }
+
+    private void replay(OrderProjection projection) {
+        for (OrderEvent event : events) {
+            projection.apply(event);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.univ.domain.event;
+
+/**
+ * 이벤트 스트림을 읽어 조회용 데이터를 만드는 프로젝션
+ * 이벤트는 스트림 순서대로 한 번에 하나씩 전달되므로 apply 안에서 따로 동기화할 필요는 없다.
+ * 조회 메서드는 다른 스레드에서 호출되므로 결과 데이터는 concurrent 컬렉션 등으로 공개해야 한다.
+ */
+public interface OrderProjection {
+
+    // 이벤트 하나를 반영한다.
+    void apply(OrderEvent event);
+
+    // 처음부터 다시 만들기 위해 모든 데이터를 비운다.
+    void reset();
+}
@@ -0,0 +1,141 @@
+package org.univ.domain.inventory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.univ.domain.product.Product;
+
+/**
+ * 재고 예약 장부(ReservationLedger)
+ * - tryHold: 재고를 차감하고 만료 시각이 있는 hold를 만든다 (장바구니 확보)
+ * - commit: 결제 단계에서 hold를 확정 차감으로 바꾼다 (이후 만료되지 않음)
+ * - release: 주문 실패/취소 시 hold를 재고로 되돌린다
+ * - 만료된 hold는 타이밍 휠 기반 리퍼 스레드 하나가 모아서 재고로 반환한다
+ */
+public class ReservationLedger implements AutoCloseable {
+
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    // 만료 없는 장부: 리퍼 스레드 없이 즉시 차감/복구만 수행 (기존 동작과 동일)
+    private static final ReservationLedger UNTIMED = new ReservationLedger();
+
+    private final long ttlNanos;                      // hold 유지 시간 (0이면 만료 없음)
+    private final TimingWheel wheel;                  // 만료 대기 중인 hold
+    private final ScheduledExecutorService reaper;    // 타이밍 휠을 돌리는 단일 스레드
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    private ReservationLedger() {
+        this.ttlNanos = 0;
+        this.wheel = null;
+        this.reaper = null;
+    }
+
+    // 지정한 TTL로 hold를 만들고, 기본 틱(100ms)으로 만료를 검사하는 장부
+    public ReservationLedger(Duration ttl) {
+        this(ttl, Duration.ofMillis(DEFAULT_TICK_MILLIS));
+    }
+
+    public ReservationLedger(Duration ttl, Duration tick) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("예약 유지 시간은 0보다 커야 합니다.");
+        }
+        if (tick == null || tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("만료 검사 간격은 0보다 커야 합니다.");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.wheel = new TimingWheel(tick.toNanos(), DEFAULT_WHEEL_SIZE, System.nanoTime(), this::expire);
+        this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "reservation-reaper");
+            t.setDaemon(true);
+            return t;
+        });
+        long tickNanos = tick.toNanos();
+        reaper.scheduleAtFixedRate(() -> wheel.advance(System.nanoTime()),
+                tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 만료 없는 공유 장부 반환
+    public static ReservationLedger untimed() {
+        return UNTIMED;
+    }
+
+    /**
+     * 재고를 quantity개 차감하고 hold를 만든다.
+     * 재고가 부족하면 아무것도 바꾸지 않고 null을 반환한다.
+     */
+    public StockHold tryHold(Product product, int quantity) {
+        if (product == null) {
+            throw new IllegalArgumentException("상품이 null입니다.");
+        }
+        if (!product.tryReserve(quantity)) {
+            return null;
+        }
+        if (wheel == null) {
+            return new StockHold(product, quantity, 0);
+        }
+        StockHold hold = new StockHold(product, quantity, System.nanoTime() + ttlNanos);
+        wheel.schedule(hold);
+        return hold;
+    }
+
+    /**
+     * hold를 확정 차감으로 바꾼다. 이미 확정된 hold면 true.
+     * 만료되어 재고가 이미 반환된 hold면 false.
+     */
+    public boolean commit(StockHold hold) {
+        return hold.commit();
+    }
+
+    // hold를 재고로 되돌린다. (확정 여부와 관계없이, 여러 번 호출해도 한 번만 반환)
+    public void release(StockHold hold) {
+        int returned = hold.releaseAll(false);
+        if (returned > 0) {
+            hold.getProduct().release(returned);
+        }
+    }
+
+    /**
+     * hold 중 quantity개만 재고로 되돌리고 실제로 되돌린 수량을 반환한다.
+     * 남은 수량보다 많이 요청하면 남은 만큼만 되돌린다. (장바구니에서 일부 수량 빼기용)
+     */
+    public int release(StockHold hold, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("반환 수량은 0보다 커야 합니다: " + quantity);
+        }
+        int returned = hold.releasePart(quantity);
+        if (returned > 0) {
+            hold.getProduct().release(returned);
+        }
+        return returned;
+    }
+
+    // 리퍼 스레드가 호출: 아직 결제되지 않은 hold만 재고로 반환
+    private void expire(StockHold hold) {
+        int returned = hold.releaseAll(true);
+        if (returned > 0) {
+            hold.getProduct().release(returned);
+            expiredCount.incrementAndGet();
+        }
+    }
+
+    // 지금까지 만료되어 재고로 반환된 hold 수
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    // hold 유지 시간 (만료 없는 장부면 Duration.ZERO)
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    // 리퍼 스레드 종료 (남은 hold는 더 이상 만료되지 않음)
+    @Override
+    public void close() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.univ.domain.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.univ.domain.product.Product;
+
+/**
+ * 재고 임시 확보(hold) 한 건.
+ * - ACTIVE: 재고가 차감된 상태로 결제를 기다리는 중 (만료 시 재고 반환)
+ * - COMMITTED: 결제 단계에서 확정된 차감 (더 이상 만료되지 않음)
+ * - RELEASED: 만료 또는 취소로 재고가 모두 반환됨
+ * 상태와 남은 수량을 정수 하나에 담아(양수: ACTIVE 수량, 음수: COMMITTED 수량, 0: RELEASED) CAS로만 바꾸므로
+ * 결제 스레드, 만료 스레드, 부분 반환이 경쟁해도 같은 재고가 두 번 반환되지 않는다.
+ */
+public final class StockHold {
+
+    private final Product product;       // 확보한 상품
+    private final int quantity;          // 처음 확보한 수량
+    private final long deadlineNanos;    // 만료 시각 (System.nanoTime 기준, 0이면 만료 없음)
+    private final AtomicInteger held;    // 상태 + 아직 반환되지 않은 수량
+
+    // 타이밍 휠에서만 사용하는 남은 회전 수 (리퍼 스레드 전용)
+    long remainingRounds;
+
+    StockHold(Product product, int quantity, long deadlineNanos) {
+        this.product = product;
+        this.quantity = quantity;
+        this.deadlineNanos = deadlineNanos;
+        this.held = new AtomicInteger(quantity);
+    }
+
+    // ACTIVE -> COMMITTED. 이미 확정되었으면 true, 이미 모두 반환되었으면 false
+    boolean commit() {
+        while (true) {
+            int current = held.get();
+            if (current <= 0) {
+                return current < 0;
+            }
+            if (held.compareAndSet(current, -current)) {
+                return true;
+            }
+        }
+    }
+
+    // 남은 수량을 모두 반환 상태로 바꾸고 그 수량을 돌려준다. (activeOnly면 확정된 hold는 건드리지 않음)
+    int releaseAll(boolean activeOnly) {
+        while (true) {
+            int current = held.get();
+            if (current == 0 || (activeOnly && current < 0)) {
+                return 0;
+            }
+            if (held.compareAndSet(current, 0)) {
+                return Math.abs(current);
+            }
+        }
+    }
+
+    // 남은 수량 중 최대 count개를 반환 상태로 바꾸고 실제로 뺀 수량을 돌려준다.
+    int releasePart(int count) {
+        while (true) {
+            int current = held.get();
+            if (current == 0) {
+                return 0;
+            }
+            int taken = Math.min(count, Math.abs(current));
+            int next = current > 0 ? current - taken : current + taken;
+            if (held.compareAndSet(current, next)) {
+                return taken;
+            }
+        }
+    }
+
+    public Product getProduct() { return product; }
+    public int getQuantity() { return quantity; }
+    // 아직 재고로 반환되지 않은 수량
+    public int getHeldQuantity() { return Math.abs(held.get()); }
+    public long getDeadlineNanos() { return deadlineNanos; }
+    public boolean isActive() { return held.get() > 0; }
+    public boolean isCommitted() { return held.get() < 0; }
+    public boolean isReleased() { return held.get() == 0; }
+}
@@ -0,0 +1,90 @@
+package org.univ.domain.inventory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이밍 휠: 만료 시각이 있는 hold를 칸(bucket)에 나눠 담고, 한 틱마다 한 칸만 검사한다.
+ * - 등록은 어느 스레드에서든 가능 (lock-free 큐에 넣기만 함)
+ * - 칸 이동과 만료 처리는 advance()를 호출하는 리퍼 스레드 하나만 수행
+ * hold마다 타이머를 만들지 않으므로 hold 수가 많아도 스케줄러 비용은 틱 수에만 비례한다.
+ */
+class TimingWheel {
+    private final long tickNanos;                      // 한 칸의 시간 폭
+    private final int mask;                            // 칸 수 - 1 (칸 수는 2의 거듭제곱)
+    private final List<List<StockHold>> buckets;       // 칸 목록 (리퍼 스레드 전용)
+    private final Queue<StockHold> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<StockHold> onExpire;        // 만료된 hold 처리 콜백
+    private final long startNanos;
+    private long currentTick;                          // 다음에 처리할 틱 (리퍼 스레드 전용)
+
+    TimingWheel(long tickNanos, int wheelSize, long startNanos, Consumer<StockHold> onExpire) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("틱 간격은 0보다 커야 합니다.");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("휠 크기는 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickNanos = tickNanos;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.startNanos = startNanos;
+        this.onExpire = onExpire;
+    }
+
+    // hold 등록 (스레드 안전)
+    void schedule(StockHold hold) {
+        pending.add(hold);
+    }
+
+    // nowNanos까지 지난 틱을 모두 처리하고, 만료 처리된 hold 수를 반환한다. (리퍼 스레드 전용)
+    int advance(long nowNanos) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        int expired = 0;
+        while (currentTick <= targetTick) {
+            transferPending();
+            expired += expireBucket(buckets.get((int) (currentTick & mask)));
+            currentTick++;
+        }
+        return expired;
+    }
+
+    private void transferPending() {
+        int wheelSize = mask + 1;
+        StockHold hold;
+        while ((hold = pending.poll()) != null) {
+            if (!hold.isActive()) {
+                continue; // 이미 확정/반환된 hold는 휠에 넣을 필요 없음
+            }
+            long deadlineTick = (hold.getDeadlineNanos() - startNanos + tickNanos - 1) / tickNanos;
+            long ticks = Math.max(deadlineTick, currentTick) - currentTick;
+            hold.remainingRounds = ticks / wheelSize;
+            buckets.get((int) ((currentTick + ticks) & mask)).add(hold);
+        }
+    }
+
+    private int expireBucket(List<StockHold> bucket) {
+        int expired = 0;
+        Iterator<StockHold> it = bucket.iterator();
+        while (it.hasNext()) {
+            StockHold hold = it.next();
+            if (!hold.isActive()) {
+                it.remove();                 // 결제로 확정되었거나 이미 반환됨
+            } else if (hold.remainingRounds > 0) {
+                hold.remainingRounds--;      // 아직 휠을 더 돌아야 함
+            } else {
+                it.remove();
+                onExpire.accept(hold);
+                expired++;
+            }
+        }
+        return expired;
+    }
+}
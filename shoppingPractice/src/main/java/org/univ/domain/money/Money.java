@@ -0,0 +1,63 @@
+package org.univ.domain.money;
+
+/**
+ * 금액 표현 유틸리티: 금액은 long 하나로, 1원의 1/100(전, minor unit) 단위 정수로 다룬다.
+ * - double과 달리 더하고 곱해도 오차가 없고, 박싱 없이 primitive 그대로 합산할 수 있다
+ * - 객체를 만들지 않으므로 큰 장바구니 합계도 할당 없이 계산된다
+ * - 범위를 넘는 연산은 조용히 넘치지 않고 ArithmeticException을 던진다
+ */
+public final class Money {
+
+    // 1원 = 100 minor
+    public static final long MINOR_PER_WON = 100;
+
+    private Money() {
+    }
+
+    // 원 단위 금액(예: 12345.67)을 minor 단위로 변환 (소수점 셋째 자리에서 반올림)
+    public static long ofWon(double won) {
+        if (Double.isNaN(won) || Double.isInfinite(won)) {
+            throw new IllegalArgumentException("금액이 숫자가 아닙니다: " + won);
+        }
+        double minor = won * MINOR_PER_WON;
+        if (Math.abs(minor) >= Long.MAX_VALUE) {
+            throw new ArithmeticException("금액 범위를 벗어났습니다: " + won);
+        }
+        return Math.round(minor);
+    }
+
+    // minor 단위 금액을 원 단위 double로 변환 (표시/호환용)
+    public static double toWon(long minor) {
+        return minor / (double) MINOR_PER_WON;
+    }
+
+    // 두 금액의 합 (넘침 검사)
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    // 단가 × 수량 (넘침 검사)
+    public static long multiply(long unitMinor, int quantity) {
+        return Math.multiplyExact(unitMinor, (long) quantity);
+    }
+
+    // 금액 배열 합계 (primitive 누적, 넘침 검사)
+    public static long sum(long[] amountsMinor) {
+        long total = 0;
+        for (long amount : amountsMinor) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+
+    // 화면 표시용 문자열 (예: 1234567 → "12,345.67원", 1500000 → "15,000원")
+    public static String format(long minor) {
+        long won = minor / MINOR_PER_WON;
+        long fraction = Math.abs(minor % MINOR_PER_WON);
+        String sign = minor < 0 && won == 0 ? "-" : "";
+        if (fraction == 0) {
+            return String.format("%s%,d원", sign, won);
+        }
+        return String.format("%s%,d.%02d원", sign, won, fraction);
+    }
+}
@@ -0,0 +1,27 @@
+package org.univ.domain.order;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 주문 취소/배송 완료 후처리(재고 반환, 리스너 알림)를 실행하는 백그라운드 스레드
+ * 스레드 하나가 제출 순서대로 처리하므로 알림 순서가 주문 간에도 유지된다.
+ * 두 전이 모두 종료 상태로 가는 전이이고, Order는 앞선 전이의 알림이 끝난 뒤에만 이 전이를 허용하므로
+ * 같은 주문의 다른 알림과 순서가 뒤바뀔 일이 없다.
+ */
+final class LifecycleWorker {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "order-lifecycle");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private LifecycleWorker() {
+    }
+
+    static CompletableFuture<Void> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, EXECUTOR);
+    }
+}
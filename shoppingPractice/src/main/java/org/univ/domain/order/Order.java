@@ -3,36 +3,94 @@ package org.univ.domain.order;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.univ.domain.customer.Customer;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.inventory.StockHold;
+import org.univ.domain.money.Money;
 import org.univ.domain.product.Product;
 import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
 import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentRequest;
+import org.univ.strategy.payment.PaymentResult;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.univ.exception.PaymentException;
 import org.univ.exception.DeliveryException;
+import org.univ.exception.StockUnavailableException;
 
 // 주문(Order) 클래스: 주문 생성, 상품 추가, 결제, 배송, 상태 관리 담당
+// 상태 전이는 OrderStateMachine의 전이표를 따르며, 취소와 결제/배송이 겹쳐도 한쪽만 성공한다.
 public class Order {
+    private static final AtomicReferenceFieldUpdater<Order, OrderStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Order.class, OrderStatus.class, "status");
+
     // 주문 고유 ID
     private String orderId;
     // 주문한 고객 정보
     private Customer customer;
-    // 주문한 상품 목록
-    private List<Product> productList;
+    // 주문 라인: 상품 ID -> 상품/수량/라인 금액 (같은 상품은 한 라인으로 합쳐 추가 순서대로 보관)
+    private final Map<String, Line> lines = new LinkedHashMap<>();
+    // 할인 적용 후 주문 총액 (Money minor 단위, 상품 추가/삭제 시 갱신)
+    private long totalMinor;
+    // 주문 상품 단위 수 (수량 합)
+    private int unitCount;
     // 결제 방식(전략 패턴)
     private PaymentMethod paymentMethod;
     // 배송 방식(전략 패턴)
     private DeliveryMethod deliveryMethod;
     // 주문 생성 시각
     private LocalDateTime orderDate;
-    // 주문 상태 (예: 결제대기, 결제완료, 배송중 등)
-    private OrderStatus status;
+    // 주문 상태 (예: 결제대기, 결제완료, 배송중 등) - 저장소 등 다른 스레드에서도 읽음
+    private volatile OrderStatus status;
+    // 재고 예약 장부 (hold 생성/확정/반환)
+    private ReservationLedger ledger;
+    // 이 주문이 잡고 있는 재고 hold 목록 (취소는 다른 스레드에서도 오므로 this로 잠그고 고침)
+    private List<StockHold> holds;
+    // 잡아 둔 재고를 되돌렸는지 (hold 만료, 실패 롤백). 되돌린 주문은 라인이 남아 있어도 결제할 수 없다
+    private volatile boolean reservationsReleased;
+    // 이 주문을 PAID로 만든 승인 결과 (결제 완료 주문을 취소할 때 이 결제를 취소, 복구된 주문은 null)
+    private volatile PaymentResult approvedPayment;
+    // 주문 상품들의 배송 취급 조건 플래그 합 (상품 추가 시 갱신)
+    private int handlingFlags;
+    // 단계별 지연/실패 계측 (재고 예약, 결제, 배송)
+    private final OrderMetrics metrics;
+    // 상태 변화 알림을 받을 리스너 목록
+    private final List<OrderListener> listeners = new CopyOnWriteArrayList<>();
+    // 상태 전이와 그 알림을 묶는 잠금: 앞선 전이의 알림이 끝나야 다음 전이가 일어나므로 알림이 전이 순서를 따른다
+    private final Object transitionLock = new Object();
 
-    // 생성자: 주문 정보 필수값으로 초기화, 상태/시간 기본값 세팅
+    // 생성자: 만료 없는 재고 예약 장부 사용
     public Order(String orderId,
                  Customer customer,
                  List<Product> productList,
                  PaymentMethod paymentMethod,
                  DeliveryMethod deliveryMethod) {
+        this(orderId, customer, productList, paymentMethod, deliveryMethod, ReservationLedger.untimed());
+    }
+
+    // 생성자: 단계별 계측은 공용 레지스트리에 기록
+    public Order(String orderId,
+                 Customer customer,
+                 List<Product> productList,
+                 PaymentMethod paymentMethod,
+                 DeliveryMethod deliveryMethod,
+                 ReservationLedger ledger) {
+        this(orderId, customer, productList, paymentMethod, deliveryMethod, ledger, OrderMetrics.global());
+    }
+
+    // 생성자: 주문 정보 필수값으로 초기화, 상태/시간 기본값 세팅
+    public Order(String orderId,
+                 Customer customer,
+                 List<Product> productList,
+                 PaymentMethod paymentMethod,
+                 DeliveryMethod deliveryMethod,
+                 ReservationLedger ledger,
+                 OrderMetrics metrics) {
         // 필수값 null/blank 체크
         if (orderId == null || orderId.isBlank()) {
             throw new IllegalArgumentException("주문 ID는 필수입니다.");
@@ -49,14 +107,28 @@ public class Order {
         if (deliveryMethod == null) {
             throw new IllegalArgumentException("배송 방식이 지정되지 않았습니다.");
         }
+        if (ledger == null) {
+            throw new IllegalArgumentException("재고 예약 장부가 지정되지 않았습니다.");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("주문 계측이 지정되지 않았습니다.");
+        }
 
+        this.metrics = metrics;
         this.orderId = orderId;
         this.customer = customer;
-        this.productList = new ArrayList<>(productList); // 빈 리스트도 허용됨
+        for (Product p : productList) {          // 빈 리스트도 허용됨
+            if (p == null) {
+                throw new IllegalArgumentException("상품이 null입니다.");
+            }
+            addUnits(p, 1);
+        }
         this.paymentMethod = paymentMethod;
         this.deliveryMethod = deliveryMethod;
         this.orderDate = LocalDateTime.now();
         this.status = OrderStatus.PENDING;
+        this.ledger = ledger;
+        this.holds = new ArrayList<>();
     }
 
     // 주문에 상품을 추가한다.
@@ -65,29 +137,238 @@ public class Order {
         if (product == null) {
             throw new IllegalArgumentException("상품이 null입니다.");
         }
-        // 상품의 재고를 1개 차감 (음수 요청)
-        product.updateStock(-1);
-        // 상품을 주문 리스트에 추가
-        this.productList.add(product);
+        requirePending("상품을 추가할");
+        // 상품의 재고를 1개 hold (장부 TTL이 지나도록 결제되지 않으면 자동 반환)
+        StockHold hold = ledger.tryHold(product, 1);
+        if (hold == null) {
+            throw StockUnavailableException.withoutStackTrace(
+                    "재고 부족: " + product.getName() + " (현재 " + product.getStockQuantity() + "개)"
+            );
+        }
+        synchronized (this) {
+            this.holds.add(hold);
+        }
+        // 상품을 주문 라인에 추가
+        long amountMinor = addUnits(product, 1);
+        for (OrderListener listener : listeners) {
+            listener.onStockReserved(this, product, 1, amountMinor);
+        }
     }
 
-    // 주문 전체 금액(할인 적용 후)을 계산한다.
-    public double calculateTotalPrice() {
-        // 빈 목록일 때 0.0 바로 리턴
-        if (productList == null || productList.isEmpty()) {
-            return 0.0;
+    // 같은 상품을 quantity개 한 번에 추가한다. (재고 예약은 1회)
+    public void addProduct(Product product, int quantity) {
+        addLines(List.of(new OrderLine(product, quantity)));
+    }
+
+    /**
+     * 여러 주문 라인의 재고를 전부 예약하거나, 하나도 예약하지 않는다(all-or-nothing).
+     * - 라인마다 hold를 한 번만 만들므로 재고 연산 횟수는 단위 수가 아니라 SKU 수에 비례
+     * - productId 오름차순으로 예약해 모든 주문이 같은 전역 순서로 재고를 잡음
+     * - 중간에 재고가 부족하면 앞서 예약한 라인을 모두 되돌리고 StockUnavailableException 발생
+     */
+    public void addLines(List<OrderLine> lines) {
+        OrderLine missing = tryAddLines(lines);
+        if (missing != null) {
+            throw StockUnavailableException.withoutStackTrace(
+                    "재고 부족: " + missing.getProduct().getName()
+                            + " (요청 " + missing.getQuantity() + "개, 현재 " + missing.getProduct().getStockQuantity() + "개)"
+            );
+        }
+    }
+
+    /**
+     * addLines의 예외 없는 버전: 모두 예약하면 null, 재고가 부족하면 아무것도 바꾸지 않고 부족한 라인을 반환한다.
+     * (재고 부족이 흔한 경로에서 예외 생성 비용을 피하기 위함)
+     */
+    public OrderLine tryAddLines(List<OrderLine> lines) {
+        long start = System.nanoTime();
+        try {
+            OrderLine missing = reserveLines(lines);
+            if (missing == null) {
+                metrics.reserve().success(start);
+            } else {
+                metrics.reserve().failure(start, StockUnavailableException.class);
+            }
+            return missing;
+        } catch (RuntimeException e) {
+            metrics.reserve().failure(start, e.getClass());
+            throw e;
+        }
+    }
+
+    private OrderLine reserveLines(List<OrderLine> lines) {
+        if (lines == null) {
+            throw new IllegalArgumentException("주문 라인 목록이 null입니다.");
+        }
+        requirePending("상품을 추가할");
+        List<OrderLine> sorted = new ArrayList<>(lines);
+        sorted.sort(Comparator.comparing(line -> line.getProduct().getProductId()));
+
+        List<StockHold> acquired = new ArrayList<>(sorted.size());
+        for (OrderLine line : sorted) {
+            StockHold hold = ledger.tryHold(line.getProduct(), line.getQuantity());
+            if (hold == null) {
+                // 이미 확보한 라인 롤백
+                for (StockHold done : acquired) {
+                    ledger.release(done);
+                }
+                return line;
+            }
+            acquired.add(hold);
+        }
+        synchronized (this) {
+            this.holds.addAll(acquired);
         }
 
-        double total = 0.0;
-        // 각 상품의 할인 가격을 합산
-        for (Product product : productList) {
-            total += product.getDiscountedPrice();
+        // 모든 예약이 성공한 뒤에만 주문 라인에 반영
+        long[] amounts = new long[sorted.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = addUnits(sorted.get(i).getProduct(), sorted.get(i).getQuantity());
         }
-        return total;
+        for (OrderListener listener : listeners) {
+            for (int i = 0; i < amounts.length; i++) {
+                listener.onStockReserved(this, sorted.get(i).getProduct(), sorted.get(i).getQuantity(), amounts[i]);
+            }
+        }
+        return null;
     }
 
-    // 결제 처리를 수행한다.
+    // 주문에서 상품을 1개 뺀다.
+    public void removeProduct(Product product) {
+        removeProduct(product, 1);
+    }
+
+    /**
+     * 주문에서 상품을 quantity개 빼고, 그만큼 잡아 둔 재고를 되돌린다. (결제 전 주문만 가능)
+     * 수량이 0이 된 라인은 주문에서 사라진다.
+     */
+    public void removeProduct(Product product, int quantity) {
+        requirePending("상품을 뺄");
+        if (product == null) {
+            throw new IllegalArgumentException("상품이 null입니다.");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("뺄 수량은 1 이상이어야 합니다.");
+        }
+        Line line = lines.get(product.getProductId());
+        if (line == null || line.quantity < quantity) {
+            throw new IllegalArgumentException(
+                    "주문에 담긴 수량보다 많이 뺄 수 없습니다: " + product.getName()
+                            + " (담긴 수량 " + (line == null ? 0 : line.quantity) + "개)"
+            );
+        }
+
+        // 나중에 잡은 hold부터 필요한 수량만큼 재고로 되돌림
+        synchronized (this) {
+            int remaining = quantity;
+            for (int i = holds.size() - 1; i >= 0 && remaining > 0; i--) {
+                StockHold hold = holds.get(i);
+                if (!hold.getProduct().getProductId().equals(product.getProductId())) {
+                    continue;
+                }
+                remaining -= ledger.release(hold, remaining);
+                if (hold.isReleased()) {
+                    holds.remove(i);
+                }
+            }
+        }
+
+        long amountMinor = -addUnits(line.product, -quantity);
+        for (OrderListener listener : listeners) {
+            listener.onStockReleased(this, line.product, quantity, amountMinor);
+        }
+    }
+
+    // 결제 전(PENDING) 주문이 아니면 IllegalStateException
+    private void requirePending(String action) {
+        OrderStatus current = status;
+        if (current != OrderStatus.PENDING) {
+            throw new IllegalStateException(
+                    "결제 전 주문에서만 " + action + " 수 있습니다. 현재 상태: " + current.getDescription()
+            );
+        }
+    }
+
+    /**
+     * 라인 수량을 delta만큼 바꾸고 총액/단위 수/취급 조건을 그 차이만큼만 갱신한다. (단가는 수량 구간 할인 반영)
+     * 이 변경으로 늘어난 주문 총액(Money minor 단위, 줄었으면 음수)을 반환한다.
+     */
+    private long addUnits(Product product, int delta) {
+        Line line = lines.computeIfAbsent(product.getProductId(), id -> new Line(product));
+        int quantity = line.quantity + delta;
+        long lineTotal = quantity == 0 ? 0 : Money.multiply(line.product.getDiscountedPriceMinor(quantity), quantity);
+        long change = lineTotal - line.totalMinor;
+        totalMinor = Money.add(totalMinor, change);
+        unitCount += delta;
+        line.quantity = quantity;
+        line.totalMinor = lineTotal;
+
+        if (quantity == 0) {
+            // 라인이 빠지면 남은 라인들로 취급 조건을 다시 모음
+            lines.remove(product.getProductId());
+            handlingFlags = 0;
+            for (Line remainingLine : lines.values()) {
+                handlingFlags |= remainingLine.product.getHandlingFlags();
+            }
+        } else {
+            handlingFlags |= product.getHandlingFlags();
+        }
+        return change;
+    }
+
+    // 주문 전체 금액(할인 적용 후)을 원 단위로 반환한다. (표시/호환용)
+    public double calculateTotalPrice() {
+        return Money.toWon(calculateTotalMinor());
+    }
+
+    // 주문 전체 금액(할인 적용 후)을 Money minor 단위로 반환한다. (상품 추가/삭제 시 갱신해 둔 값, O(1))
+    public long calculateTotalMinor() {
+        return totalMinor;
+    }
+
+    // 결제 처리를 수행한다. 거절되면 PaymentException
     public void processPayment() {
+        PaymentResult result = tryProcessPayment();
+        if (!result.isApproved()) {
+            throw PaymentException.withoutStackTrace("결제 실패: " + result.getReason());
+        }
+    }
+
+    /**
+     * 결제를 시도하고 승인 결과를 돌려준다. 거절은 예외 없이 결과로 표현 (주문 상태는 PENDING 유지)
+     * 상태가 맞지 않거나 금액이 0원 이하면 IllegalStateException,
+     * 예약된 hold가 이미 만료되었으면 StockUnavailableException (findExpiredReservation으로 미리 확인하면 피할 수 있음)
+     * hold는 결제가 승인된 뒤에 확정하므로, 거절되면 재고는 만료 가능한 hold로 남는다.
+     * 승인과 확정 사이에 hold가 만료되면 결제를 취소(voidPayment)하고 StockUnavailableException
+     */
+    public PaymentResult tryProcessPayment() {
+        long start = System.nanoTime();
+        try {
+            PaymentResult result = authorizePayment();
+            if (result.isApproved()) {
+                metrics.payment().success(start);
+            } else {
+                metrics.payment().failure(start, PaymentException.class);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            metrics.payment().failure(start, e.getClass());
+            throw e;
+        }
+    }
+
+    private PaymentResult authorizePayment() {
+        PaymentRequest request = preparePayment();
+        // 실제 결제 시도 (거절은 결과로 받음)
+        return completePayment(paymentMethod.authorize(request.getAmountMinor()));
+    }
+
+    /**
+     * 결제 1단계: 상태/금액/hold 만료를 확인하고 승인 요청을 만든다. (결제 수단은 호출하지 않음)
+     * 여러 주문의 요청을 모아 authorizeBatch로 한 번에 승인한 뒤 주문마다 completePayment를 호출하면 된다.
+     * 상태가 맞지 않거나 금액이 0원 이하면 IllegalStateException, hold가 만료되었거나 재고를 이미 되돌린 주문이면 StockUnavailableException
+     */
+    public PaymentRequest preparePayment() {
         // 주문 상태가 결제 대기(PENDING)가 아니면 중복 결제 방지
         if (status != OrderStatus.PENDING) {
             throw new IllegalStateException(
@@ -95,28 +376,219 @@ public class Order {
             );
         }
 
-        // 총 결제 금액 계산
-        double totalAmount = calculateTotalPrice();
+        // 총 결제 금액 계산 (minor 단위)
+        long totalAmount = calculateTotalMinor();
 
         // 총 금액이 0원이거나 음수이면 결제 불가
-        if (totalAmount <= 0.0) {
+        if (totalAmount <= 0) {
             throw new IllegalStateException("결제할 금액이 0원 이하입니다.");
         }
 
-        // 실제 결제 시도
-        try {
-            paymentMethod.pay(totalAmount);
-        } catch (PaymentException e) {
-            // 결제 실패 시 예외 메시지 보강 후 재던짐
-            throw new PaymentException("결제 실패: " + e.getMessage());
+        // 재고를 이미 되돌린 주문은 라인만 남고 예약이 없으므로 결제하지 않음 (초과 판매 방지)
+        if (reservationsReleased) {
+            throw StockUnavailableException.withoutStackTrace(
+                    "재고 예약이 해제된 주문은 결제할 수 없습니다: " + orderId
+            );
         }
 
-        // 결제 성공 시 주문 상태를 PAID로 변경
-        status = OrderStatus.PAID;
+        // 이미 만료된 hold가 있으면 결제하지 않음 (나머지 hold도 반환)
+        StockHold expired = findExpiredReservation();
+        if (expired != null) {
+            throw expiredReservation(expired);
+        }
+        return new PaymentRequest(paymentMethod, totalAmount);
+    }
+
+    /**
+     * 결제 2단계: 승인 결과를 주문에 반영하고 그대로 돌려준다.
+     * 거절이면 아무것도 바꾸지 않는다. (hold는 만료 가능한 상태로 남음)
+     * 승인이면 hold를 확정하고 PAID로 바꾼다. 그 사이 hold가 만료되었으면 결제를 취소하고 StockUnavailableException,
+     * 주문이 먼저 취소되었으면 결제를 취소하고 IllegalStateException
+     */
+    public PaymentResult completePayment(PaymentResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("승인 결과가 null입니다.");
+        }
+        if (!result.isApproved()) {
+            return result;
+        }
+
+        // 승인된 뒤에만 hold를 확정 차감으로 전환 (승인 사이에 만료되었으면 결제를 취소)
+        StockHold expired = tryCommitReservations();
+        if (expired != null) {
+            paymentMethod.voidPayment(result);
+            throw expiredReservation(expired);
+        }
+
+        // 결제 성공 시 주문 상태를 PAID로 변경 (결제 도중 취소되었다면 취소가 우선, 재고는 취소 쪽에서 반환하고 결제는 여기서 취소)
+        approvedPayment = result;
+        if (!changeStatus(OrderStatus.PENDING, OrderStatus.PAID)) {
+            paymentMethod.voidPayment(result);
+            throw new IllegalStateException("결제 처리 중 주문이 취소되었습니다: " + orderId);
+        }
+        return result;
+    }
+
+    private static StockUnavailableException expiredReservation(StockHold expired) {
+        return StockUnavailableException.withoutStackTrace(
+                "재고 예약 시간이 만료되었습니다: " + expired.getProduct().getName()
+        );
+    }
+
+    /**
+     * 확정하지 않고 hold 만료 여부만 확인한다. 모두 살아 있으면 null,
+     * 이미 만료된 hold가 있으면 나머지도 반환하고 만료된 hold를 돌려준다.
+     */
+    public StockHold findExpiredReservation() {
+        StockHold expired = null;
+        synchronized (this) {
+            for (StockHold hold : holds) {
+                if (hold.isReleased()) {
+                    expired = hold;
+                    break;
+                }
+            }
+        }
+        if (expired != null) {
+            releaseReservations();
+        }
+        return expired;
+    }
+
+    /**
+     * 주문의 모든 hold를 확정한다. 모두 확정되면(이미 확정된 hold 포함) null,
+     * 하나라도 이미 만료되었다면 나머지도 반환하고 만료된 hold를 돌려준다.
+     */
+    public StockHold tryCommitReservations() {
+        StockHold expired = null;
+        synchronized (this) {
+            for (StockHold hold : holds) {
+                if (!ledger.commit(hold)) {
+                    expired = hold;
+                    break;
+                }
+            }
+        }
+        if (expired != null) {
+            releaseReservations();
+        }
+        return expired;
+    }
+
+    // hold 목록을 비우고 비우기 전 목록을 돌려준다.
+    private synchronized List<StockHold> takeHolds() {
+        List<StockHold> taken = new ArrayList<>(holds);
+        holds.clear();
+        return taken;
+    }
+
+    // 이 주문이 잡고 있는 재고(hold 및 확정 차감)를 모두 되돌린다. (주문 실패 롤백용, 이후 이 주문은 결제할 수 없음)
+    public void releaseReservations() {
+        List<StockHold> taken = takeHolds();
+        if (taken.isEmpty()) {
+            return;
+        }
+        reservationsReleased = true;
+        for (StockHold hold : taken) {
+            ledger.release(hold);
+        }
+        for (OrderListener listener : listeners) {
+            for (Line line : lines.values()) {
+                listener.onStockReleased(this, line.product, line.quantity, line.totalMinor);
+            }
+        }
+    }
+
+    /**
+     * 로그 등에 남은 정보로 주문을 다시 만든다. (복구 전용)
+     * lines는 재고를 예약하지 않고 그대로 주문 라인이 되며, 상태/주문 시각도 기록된 값으로 설정된다.
+     * 결제 전 주문에 재고를 다시 잡아야 하면 복구 후 addLines로 추가한다.
+     */
+    public static Order restore(String orderId,
+                                Customer customer,
+                                List<OrderLine> lines,
+                                PaymentMethod paymentMethod,
+                                DeliveryMethod deliveryMethod,
+                                ReservationLedger ledger,
+                                LocalDateTime orderDate,
+                                OrderStatus status) {
+        if (lines == null || orderDate == null || status == null) {
+            throw new IllegalArgumentException("복구할 주문 정보가 올바르지 않습니다.");
+        }
+        Order order = new Order(orderId, customer, List.of(), paymentMethod, deliveryMethod, ledger);
+        for (OrderLine line : lines) {
+            order.addUnits(line.getProduct(), line.getQuantity());
+        }
+        order.orderDate = orderDate;
+        order.status = status;
+        return order;
+    }
+
+    /**
+     * 결제 이후 주문의 라인 재고를 장부로 다시 잡아 확정하고 주문 라인에 더한다. (복구 전용, 리스너 알림 없음)
+     * 확정된 hold를 주문이 들고 있으므로 복구된 주문을 취소하면 이 재고가 돌아온다.
+     * 재고가 부족하면 아무것도 바꾸지 않고 StockUnavailableException
+     */
+    public void restoreCommittedLines(List<OrderLine> committed) {
+        if (committed == null) {
+            throw new IllegalArgumentException("주문 라인 목록이 null입니다.");
+        }
+        List<StockHold> acquired = new ArrayList<>(committed.size());
+        for (OrderLine line : committed) {
+            StockHold hold = ledger.tryHold(line.getProduct(), line.getQuantity());
+            if (hold == null) {
+                for (StockHold done : acquired) {
+                    ledger.release(done);
+                }
+                throw StockUnavailableException.withoutStackTrace(
+                        "재고 부족: " + line.getProduct().getName()
+                                + " (요청 " + line.getQuantity() + "개, 현재 " + line.getProduct().getStockQuantity() + "개)"
+                );
+            }
+            acquired.add(hold);
+        }
+        for (StockHold hold : acquired) {
+            ledger.commit(hold);
+        }
+        synchronized (this) {
+            holds.addAll(acquired);
+        }
+        for (OrderLine line : committed) {
+            addUnits(line.getProduct(), line.getQuantity());
+        }
     }
 
     // 배송 처리를 수행한다.
     public void startDelivery() {
+        long start = System.nanoTime();
+        try {
+            deliver();
+        } catch (RuntimeException e) {
+            metrics.delivery().failure(start, e.getClass());
+            throw e;
+        }
+        metrics.delivery().success(start);
+    }
+
+    private void deliver() {
+        DeliveryRequest request = prepareDelivery();
+
+        // 실제 배송 시도
+        try {
+            deliveryMethod.deliver(request);
+        } catch (DeliveryException e) {
+            // 배송 실패 시 예외 메시지 보강 후 재던짐
+            throw DeliveryException.withoutStackTrace("배송 실패: " + e.getMessage());
+        }
+
+        completeDelivery();
+    }
+
+    /**
+     * 배송 1단계: 결제 완료(PAID) 주문의 배송 요청을 만든다. (배송 방식은 호출하지 않음)
+     * 여러 주문의 요청을 합포장(dispatch)으로 보낸 뒤 배송된 주문마다 completeDelivery를 호출하면 된다.
+     */
+    public DeliveryRequest prepareDelivery() {
         // 배송 가능한 상태인지 확인 (결제 완료 PAID 상태여야 함)
         if (status != OrderStatus.PAID) {
             throw new IllegalStateException(
@@ -124,19 +596,101 @@ public class Order {
             );
         }
 
-        // 배송 요청에 사용할 주문 요약 정보 생성
-        String summary = getOrderSummary();
+        // 배송 요청 생성: 주소와 미리 모아 둔 취급 조건 플래그 (요약 문자열은 필요할 때만 생성)
+        return new DeliveryRequest(orderId, customer.getAddress(), handlingFlags, this::getOrderSummary);
+    }
 
-        // 실제 배송 시도
-        try {
-            deliveryMethod.deliver(summary);
-        } catch (DeliveryException e) {
-            // 배송 실패 시 예외 메시지 보강 후 재던짐
-            throw new DeliveryException("배송 실패: " + e.getMessage());
+    // 배송 2단계: 배송된 주문을 SHIPPED로 바꾼다. (배송 요청 도중 취소되었다면 취소가 우선, IllegalStateException)
+    public void completeDelivery() {
+        if (!changeStatus(OrderStatus.PAID, OrderStatus.SHIPPED)) {
+            throw new IllegalStateException("배송 처리 중 주문이 취소되었습니다: " + orderId);
+        }
+    }
+
+    /**
+     * 배송 중(SHIPPED) 주문을 배송 완료(DELIVERED)로 바꾼다.
+     * 상태는 바로 바뀌고, 리스너 알림은 백그라운드 스레드에서 실행된다.
+     * 반환된 future는 알림이 모두 끝나면 완료된다.
+     */
+    public CompletableFuture<Void> markDelivered() {
+        synchronized (transitionLock) {
+            if (!STATUS.compareAndSet(this, OrderStatus.SHIPPED, OrderStatus.DELIVERED)) {
+                throw new IllegalStateException(
+                        "배송 중인 주문만 배송 완료 처리할 수 있습니다. 현재 상태: " + status.getDescription()
+                );
+            }
         }
+        // 종료 상태로 가는 전이라 이후 알림과 순서가 바뀌지 않음
+        return LifecycleWorker.submit(() -> notifyStatusChanged(OrderStatus.SHIPPED, OrderStatus.DELIVERED));
+    }
 
-        // 배송 성공 시 주문 상태를 SHIPPED로 변경
-        status = OrderStatus.SHIPPED;
+    /**
+     * 결제 대기(PENDING) 또는 결제 완료(PAID) 주문을 취소한다.
+     * 상태는 바로 CANCELLED가 되고, 잡아 둔 재고(hold 및 확정 차감) 반환과 리스너 알림은
+     * 백그라운드 스레드에서 실행되므로 재고 경합이 심해도 호출은 곧바로 반환된다.
+     * 반환된 future는 재고 반환과 알림이 모두 끝나면 완료된다.
+     * 다른 스레드가 결제/배송 알림을 보내는 중이면 그 알림이 끝난 뒤에 취소된다. (취소 알림이 앞지르지 않음)
+     * 배송이 시작된 주문은 취소할 수 없다. (IllegalStateException)
+     */
+    public CompletableFuture<Void> cancel() {
+        OrderStatus current;
+        synchronized (transitionLock) {
+            current = status;
+            if (!OrderStateMachine.canTransition(current, OrderStatus.CANCELLED)) {
+                throw new IllegalStateException(
+                        "취소할 수 없는 주문입니다. 현재 상태: " + current.getDescription()
+                );
+            }
+            STATUS.set(this, OrderStatus.CANCELLED);
+        }
+
+        OrderStatus previous = current;
+        List<StockHold> taken = takeHolds();
+        // 결제 완료 주문이면 승인된 결제도 취소 (결제 전 취소는 completePayment 쪽에서 결제를 취소함)
+        PaymentResult toVoid = previous == OrderStatus.PAID ? approvedPayment : null;
+        return LifecycleWorker.submit(() -> {
+            for (StockHold hold : taken) {
+                ledger.release(hold);
+            }
+            if (toVoid != null) {
+                paymentMethod.voidPayment(toVoid);
+            }
+            notifyStatusChanged(previous, OrderStatus.CANCELLED);
+        });
+    }
+
+    /**
+     * 전이표를 확인하고 상태가 여전히 from일 때만 next로 바꾼 뒤 리스너에게 알린다. (다른 스레드가 먼저 바꿨으면 false)
+     * 알림이 끝날 때까지 전이 잠금을 쥐고 있으므로, 동시에 들어온 취소의 알림이 이 알림보다 먼저 나가지 않는다.
+     */
+    private boolean changeStatus(OrderStatus from, OrderStatus next) {
+        OrderStateMachine.check(from, next);
+        synchronized (transitionLock) {
+            if (!STATUS.compareAndSet(this, from, next)) {
+                return false;
+            }
+            notifyStatusChanged(from, next);
+        }
+        return true;
+    }
+
+    private void notifyStatusChanged(OrderStatus from, OrderStatus to) {
+        for (OrderListener listener : listeners) {
+            listener.onStatusChanged(this, from, to);
+        }
+    }
+
+    // 상태 변화 알림을 받을 리스너 등록
+    public void addListener(OrderListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("리스너가 null입니다.");
+        }
+        listeners.add(listener);
+    }
+
+    // 냉장 보관이 필요한 상품이 들어 있는지 (콜드체인 우선 처리 대상)
+    public boolean requiresColdChain() {
+        return (handlingFlags & DeliveryRequest.REFRIGERATED) != 0;
     }
 
     // 주문 요약 정보를 문자열로 반환한다.
@@ -146,10 +700,14 @@ public class Order {
                 .append(", 고객: ").append(customer.getName())
                 .append(", 주소: ").append(customer.getAddress());
 
-        if (productList != null && !productList.isEmpty()) {
+        if (!lines.isEmpty()) {
             sb.append(", 상품: ");
-            for (Product p : productList) {
-                sb.append(p.getName()).append(" ");
+            for (Line line : lines.values()) {
+                sb.append(line.product.getName());
+                if (line.quantity > 1) {
+                    sb.append(" x").append(line.quantity);
+                }
+                sb.append(" ");
             }
         }
 
@@ -161,9 +719,38 @@ public class Order {
     // Getter 메서드들
     public String getOrderId() { return orderId; }
     public Customer getCustomer() { return customer; }
-    public List<Product> getProductList() { return new ArrayList<>(productList); }
+    // 상품 단위 목록 (수량만큼 같은 상품이 반복됨, 호환용)
+    public List<Product> getProductList() {
+        List<Product> products = new ArrayList<>(unitCount);
+        for (Line line : lines.values()) {
+            for (int i = 0; i < line.quantity; i++) {
+                products.add(line.product);
+            }
+        }
+        return products;
+    }
+    // 상품별 주문 라인 목록 (처음 담은 순서)
+    public List<OrderLine> getLines() {
+        List<OrderLine> result = new ArrayList<>(lines.size());
+        for (Line line : lines.values()) {
+            result.add(new OrderLine(line.product, line.quantity));
+        }
+        return result;
+    }
+    public int getUnitCount() { return unitCount; }
     public PaymentMethod getPaymentMethod() { return paymentMethod; }
     public DeliveryMethod getDeliveryMethod() { return deliveryMethod; }
     public LocalDateTime getOrderDate() { return orderDate; }
     public OrderStatus getStatus() { return status; }
+
+    // 주문 내부의 가변 라인 (상품 하나의 수량과 라인 금액)
+    private static final class Line {
+        private final Product product;
+        private int quantity;
+        private long totalMinor;
+
+        private Line(Product product) {
+            this.product = product;
+        }
+    }
 }
\ No newline at end of file
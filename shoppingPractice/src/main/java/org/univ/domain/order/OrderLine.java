@@ -0,0 +1,60 @@
+package org.univ.domain.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.univ.domain.product.Product;
+
+// 주문 라인(OrderLine) 클래스: 한 상품(SKU)과 주문 수량을 묶은 불변 값 객체
+public final class OrderLine {
+    private final Product product;   // 주문한 상품
+    private final int quantity;      // 주문 수량
+
+    // 생성자: 상품과 수량 유효성 검사
+    public OrderLine(Product product, int quantity) {
+        if (product == null) {
+            throw new IllegalArgumentException("상품이 null입니다.");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
+        }
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    /**
+     * 상품 목록을 productId 기준으로 묶어 주문 라인 목록으로 변환한다.
+     * - 같은 상품이 여러 번 들어 있으면 수량을 합산해 한 라인으로 만든다.
+     * - 결과는 productId 오름차순으로 정렬된다. 모든 주문이 같은 순서로 재고를 잡아야
+     *   나중에 상품별 락과 함께 쓰더라도 교착 상태가 생기지 않는다.
+     */
+    public static List<OrderLine> groupByProduct(List<Product> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("주문 상품 목록이 null입니다.");
+        }
+        Map<String, Product> productById = new TreeMap<>();
+        Map<String, Integer> quantityById = new TreeMap<>();
+        for (Product p : products) {
+            if (p == null) {
+                throw new IllegalArgumentException("상품이 null입니다.");
+            }
+            productById.putIfAbsent(p.getProductId(), p);
+            quantityById.merge(p.getProductId(), 1, Integer::sum);
+        }
+
+        List<OrderLine> lines = new ArrayList<>(productById.size());
+        for (Map.Entry<String, Product> e : productById.entrySet()) {
+            lines.add(new OrderLine(e.getValue(), quantityById.get(e.getKey())));
+        }
+        return lines;
+    }
+
+    public Product getProduct() { return product; }
+    public int getQuantity() { return quantity; }
+
+    @Override
+    public String toString() {
+        return product.getName() + " x" + quantity;
+    }
+}
@@ -0,0 +1,24 @@
+package org.univ.domain.order;
+
+import org.univ.domain.product.Product;
+
+// 주문 변화 알림을 받는 리스너: 필요한 알림만 골라 구현할 수 있도록 기본 메서드는 아무것도 하지 않음
+public interface OrderListener {
+
+    // 주문이 생성되어 리스너가 등록된 직후 호출된다. (주문 서비스가 호출)
+    default void onCreated(Order order) {
+    }
+
+    // 주문이 상품 재고를 quantity개 예약(hold)한 직후 호출된다. amountMinor: 그만큼 늘어난 주문 라인 금액 (Money minor 단위)
+    default void onStockReserved(Order order, Product product, int quantity, long amountMinor) {
+    }
+
+    // 주문이 예약했던 상품 재고를 quantity개 되돌린 직후 호출된다. (상품 빼기, 주문 실패 롤백)
+    // amountMinor: 그만큼 줄어든 주문 라인 금액 (Money minor 단위)
+    default void onStockReleased(Order order, Product product, int quantity, long amountMinor) {
+    }
+
+    // 주문 상태가 from → to로 바뀐 직후 호출된다.
+    default void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+    }
+}
@@ -0,0 +1,49 @@
+package org.univ.domain.order;
+
+import org.univ.metrics.MetricsRegistry;
+import org.univ.metrics.StageMetrics;
+
+/**
+ * 주문 처리 단계별 계측 (지연 히스토그램 + 성공/실패 유형별 횟수)
+ * - order.reserve: 재고 예약 (Order.addLines/tryAddLines)
+ * - order.payment: 결제 (Order.processPayment/tryProcessPayment)
+ * - order.delivery: 배송 요청 (Order.startDelivery)
+ * - order.place: 주문 전체 (OrderService.placeOrder 계열, 실패 유형은 원인 예외 기준)
+ */
+public final class OrderMetrics {
+
+    public static final String RESERVE = "order.reserve";
+    public static final String PAYMENT = "order.payment";
+    public static final String DELIVERY = "order.delivery";
+    public static final String PLACE = "order.place";
+
+    private static final OrderMetrics GLOBAL = new OrderMetrics(MetricsRegistry.global());
+
+    private final MetricsRegistry registry;
+    private final StageMetrics reserve;
+    private final StageMetrics payment;
+    private final StageMetrics delivery;
+    private final StageMetrics place;
+
+    public OrderMetrics(MetricsRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("지표 레지스트리가 지정되지 않았습니다.");
+        }
+        this.registry = registry;
+        this.reserve = registry.stage(RESERVE);
+        this.payment = registry.stage(PAYMENT);
+        this.delivery = registry.stage(DELIVERY);
+        this.place = registry.stage(PLACE);
+    }
+
+    // 공용 레지스트리(MetricsRegistry.global())에 기록하는 계측
+    public static OrderMetrics global() {
+        return GLOBAL;
+    }
+
+    public MetricsRegistry getRegistry() { return registry; }
+    public StageMetrics reserve() { return reserve; }
+    public StageMetrics payment() { return payment; }
+    public StageMetrics delivery() { return delivery; }
+    public StageMetrics place() { return place; }
+}
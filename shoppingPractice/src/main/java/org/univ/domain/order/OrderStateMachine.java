@@ -0,0 +1,53 @@
+package org.univ.domain.order;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태 전이표: 어떤 상태에서 어떤 상태로 갈 수 있는지 한 곳에 정의한다.
+ * PENDING → PAID, CANCELLED
+ * PAID → SHIPPED, CANCELLED
+ * SHIPPED → DELIVERED
+ * DELIVERED, CANCELLED → (종료 상태)
+ */
+public final class OrderStateMachine {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(OrderStatus.PENDING, EnumSet.of(OrderStatus.PAID, OrderStatus.CANCELLED));
+        TRANSITIONS.put(OrderStatus.PAID, EnumSet.of(OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+        TRANSITIONS.put(OrderStatus.SHIPPED, EnumSet.of(OrderStatus.DELIVERED));
+        TRANSITIONS.put(OrderStatus.DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(OrderStatus.CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private OrderStateMachine() {
+    }
+
+    public static boolean canTransition(OrderStatus from, OrderStatus to) {
+        return TRANSITIONS.get(from).contains(to);
+    }
+
+    // from에서 갈 수 있는 상태 목록
+    public static Set<OrderStatus> nextStatuses(OrderStatus from) {
+        Set<OrderStatus> next = TRANSITIONS.get(from);
+        return next.isEmpty() ? EnumSet.noneOf(OrderStatus.class) : EnumSet.copyOf(next);
+    }
+
+    // 더 이상 바뀌지 않는 상태인지
+    public static boolean isTerminal(OrderStatus status) {
+        return TRANSITIONS.get(status).isEmpty();
+    }
+
+    // 전이표에 없는 전이면 IllegalStateException
+    static void check(OrderStatus from, OrderStatus to) {
+        if (!canTransition(from, to)) {
+            throw new IllegalStateException(
+                    from.getDescription() + " 상태에서 " + to.getDescription() + " 상태로 바꿀 수 없습니다."
+            );
+        }
+    }
+}
@@ -65,10 +65,4 @@ public class Clothing extends Product {
         String sizePart = this.size;
         super.setDescription(base + " | 사이즈: " + sizePart + ", 소재: " + material);
     }
-
-    // 할인 로직 미구현 상태: 기본 가격 그대로 반환
-    @Override
-    public double getDiscountedPrice() {
-        return getPrice(); // 할인 정책이 없으므로 원가 반환
-    }
 }
\ No newline at end of file
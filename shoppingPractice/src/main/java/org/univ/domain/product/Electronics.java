@@ -39,10 +39,4 @@ public class Electronics extends Product {
         String base = super.getDescription().split(" \\| ")[0];
         super.setDescription(base + " | 보증: " + warrantyPeriod + "개월");
     }
-
-    // 할인 로직 미구현 상태: 기본 가격 그대로 반환
-    @Override
-    public double getDiscountedPrice() {
-        return getPrice(); // 할인 정책이 없으므로 원가 반환
-    }
 }
\ No newline at end of file
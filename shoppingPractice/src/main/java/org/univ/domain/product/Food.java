@@ -1,5 +1,7 @@
 package org.univ.domain.product;
 
+import org.univ.strategy.delivery.DeliveryRequest;
+
 // 식품(Food) 상품 클래스: 신선 식품 등 냉장·냉동이 필요한 품목
 public class Food extends Product {
 
@@ -33,9 +35,9 @@ public class Food extends Product {
         return refrigerated;
     }
 
-    // 할인 로직 미구현: 기본 가격 그대로 반환
+    // 냉장 식품이면 배송 취급 조건에 냉장 플래그 추가
     @Override
-    public double getDiscountedPrice() {
-        return getPrice();
+    public int getHandlingFlags() {
+        return refrigerated ? super.getHandlingFlags() | DeliveryRequest.REFRIGERATED : super.getHandlingFlags();
     }
 }
@@ -1,14 +1,19 @@
 package org.univ.domain.product;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import org.univ.domain.discount.DiscountEngine;
+import org.univ.domain.money.Money;
 import org.univ.exception.StockUnavailableException;
+import org.univ.strategy.delivery.DeliveryRequest;
 
 // 상품(Product) 추상 클래스: 의류, 전자제품 등 모든 상품의 공통 정보를 정의
 public abstract class Product {
     private String productId;      // 상품 고유 ID
     private String name;           // 상품명
-    private double price;          // 가격(원)
+    private final long priceMinor; // 가격 (Money minor 단위: 1원 = 100)
     private String description;    // 설명(옵션)
-    private int stockQuantity;     // 재고 수량
+    private final AtomicInteger stockQuantity;  // 재고 수량 (여러 주문 스레드가 공유하므로 CAS로 갱신)
+    private final int handlingFlags;   // 배송 취급 조건 플래그 (상품명 키워드로 생성 시 한 번 계산)
 
     // 생성자: 필수 정보로 상품 객체를 초기화한다
     public Product(String productId, String name, double price, String description, int stockQuantity) {
@@ -30,9 +35,10 @@ public abstract class Product {
         }
         this.productId = productId;
         this.name = name;
-        this.price = price;
+        this.priceMinor = Money.ofWon(price);
         this.description = description == null ? "" : description;
-        this.stockQuantity = stockQuantity;
+        this.stockQuantity = new AtomicInteger(stockQuantity);
+        this.handlingFlags = DeliveryRequest.flagsFromText(name);
     }
 
     // 상품 ID 반환
@@ -45,9 +51,14 @@ public abstract class Product {
         return name;
     }
 
-    // 가격 반환
+    // 가격 반환 (원 단위, 표시/호환용)
     public double getPrice() {
-        return price;
+        return Money.toWon(priceMinor);
+    }
+
+    // 가격 반환 (Money minor 단위)
+    public long getPriceMinor() {
+        return priceMinor;
     }
 
     // 설명 반환
@@ -62,18 +73,68 @@ public abstract class Product {
 
     // 재고 반환
     public int getStockQuantity() {
-        return stockQuantity;
+        return stockQuantity.get();
     }
 
     // 재고 수량 변경: 양수(입고), 음수(출고)
     public void updateStock(int change) {
-        int updated = this.stockQuantity + change;
-        if (updated < 0) {
-            throw new StockUnavailableException("재고 부족: 현재 " + this.stockQuantity + "개");
+        while (true) {
+            int current = stockQuantity.get();
+            int updated = current + change;
+            if (updated < 0) {
+                throw new StockUnavailableException("재고 부족: 현재 " + current + "개");
+            }
+            if (stockQuantity.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재고를 quantity개 예약(차감)한다.
+     * 재고가 부족하면 아무것도 바꾸지 않고 false를 반환한다 (예외 없음).
+     * 읽기-비교-쓰기를 CAS 루프로 처리하므로 여러 스레드가 같은 상품을 동시에 주문해도 초과 판매가 없다.
+     */
+    public boolean tryReserve(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다.");
+        }
+        while (true) {
+            int current = stockQuantity.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (stockQuantity.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    // tryReserve로 예약했던 재고를 quantity개 되돌린다.
+    public void release(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("복구 수량은 1 이상이어야 합니다.");
         }
-        this.stockQuantity = updated;
+        stockQuantity.addAndGet(quantity);
+    }
+
+    // 배송 취급 조건 플래그 반환 (DeliveryRequest.REFRIGERATED 등의 조합)
+    public int getHandlingFlags() {
+        return handlingFlags;
+    }
+
+    // 상품별 할인 가격을 반환 (원 단위, 표시/호환용)
+    public double getDiscountedPrice() {
+        return Money.toWon(getDiscountedPriceMinor());
+    }
+
+    // 1개 살 때의 할인 가격을 Money minor 단위로 반환
+    public long getDiscountedPriceMinor() {
+        return getDiscountedPriceMinor(1);
     }
 
-    // 상품별 할인 가격을 반환: 반드시 하위 클래스에서 구현(오버라이딩)
-    public abstract double getDiscountedPrice();
+    // quantity개 살 때의 할인 단가를 Money minor 단위로 반환 (할인 엔진의 가격표 조회, 규칙이 없으면 정가)
+    public long getDiscountedPriceMinor(int quantity) {
+        return DiscountEngine.global().unitPriceMinor(this, quantity);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package org.univ.domain.product;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import org.univ.domain.money.Money;
+
+/**
+ * 상품 카탈로그(ProductCatalog): 상품을 여러 기준으로 색인해 보관
+ * - 상품 ID: 해시 인덱스 (O(1) 조회)
+ * - 구체 타입(Clothing/Electronics/Food): 타입별 집합
+ * - 가격: 정렬된 인덱스 (가격 범위 조회는 O(log n + 결과 수))
+ * 모든 인덱스는 concurrent 컬렉션이라 주문 스레드들이 공유해도 안전하다.
+ * ProductSource(예: 스냅샷 파일)로 만든 카탈로그는 상품을 처음 조회할 때 만들어 색인한다.
+ * 이때 ID 조회는 해당 상품만 만들고, 타입/가격/전체 조회와 삭제는 남은 상품을 모두 만든 뒤 수행한다.
+ * 새로 만든 상품은 onHydrated로 알린다. (예: 할인 가격표 등록, 남은 상품을 모두 만들 때는 한 번에 모아서)
+ */
+public class ProductCatalog {
+
+    // 가격 인덱스 키: 가격이 같으면 상품 ID로 구분
+    private static final class PriceKey implements Comparable<PriceKey> {
+        private final long price;
+        private final String productId;
+
+        PriceKey(long price, String productId) {
+            this.price = price;
+            this.productId = productId;
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            int byPrice = Long.compare(price, other.price);
+            return byPrice != 0 ? byPrice : productId.compareTo(other.productId);
+        }
+    }
+
+    private final Map<String, Product> byId = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Product>, Set<Product>> byType = new ConcurrentHashMap<>();
+    private final NavigableMap<PriceKey, Product> byPrice = new ConcurrentSkipListMap<>();
+    // 아직 만들지 않은 상품의 원본 (null이면 일반 카탈로그)
+    private final ProductSource source;
+    // 원본에서 새로 만든 상품들을 받는 함수
+    private final Consumer<List<Product>> onHydrated;
+    // 원본의 상품을 모두 만들어 색인했는지
+    private volatile boolean fullyHydrated;
+
+    public ProductCatalog() {
+        this.source = null;
+        this.onHydrated = loaded -> { };
+        this.fullyHydrated = true;
+    }
+
+    // 원본의 상품을 처음 조회할 때 만드는 카탈로그
+    public ProductCatalog(ProductSource source) {
+        this(source, loaded -> { });
+    }
+
+    // 원본의 상품을 처음 조회할 때 만들고, 새로 만든 상품을 onHydrated로 알리는 카탈로그
+    public ProductCatalog(ProductSource source, Consumer<List<Product>> onHydrated) {
+        if (source == null) {
+            throw new IllegalArgumentException("상품 원본이 null입니다.");
+        }
+        if (onHydrated == null) {
+            throw new IllegalArgumentException("상품 생성 알림 함수가 null입니다.");
+        }
+        this.source = source;
+        this.onHydrated = onHydrated;
+        this.fullyHydrated = source.size() == 0;
+    }
+
+    // 상품 등록 (같은 상품 ID가 이미 있으면 IllegalArgumentException)
+    public void add(Product product) {
+        if (product == null) {
+            throw new IllegalArgumentException("등록할 상품이 null입니다.");
+        }
+        if ((!fullyHydrated && findById(product.getProductId()).isPresent())
+                || byId.putIfAbsent(product.getProductId(), product) != null) {
+            throw new IllegalArgumentException("이미 등록된 상품 ID입니다: " + product.getProductId());
+        }
+        index(product);
+    }
+
+    private void index(Product product) {
+        byType.computeIfAbsent(product.getClass(), k -> ConcurrentHashMap.newKeySet()).add(product);
+        byPrice.put(new PriceKey(product.getPriceMinor(), product.getProductId()), product);
+    }
+
+    // 원본에서 만든 상품을 색인한다. 다른 스레드가 먼저 만들었으면 그 상품을 반환
+    private Product hydrate(Product loaded) {
+        Product existing = byId.putIfAbsent(loaded.getProductId(), loaded);
+        if (existing != null) {
+            return existing;
+        }
+        index(loaded);
+        return loaded;
+    }
+
+    // 원본에 남은 상품을 모두 만들어 색인하고, 새로 만든 상품을 한 번에 알린다.
+    private void hydrateAll() {
+        if (fullyHydrated) {
+            return;
+        }
+        List<Product> hydrated = new ArrayList<>();
+        synchronized (this) {
+            if (fullyHydrated) {
+                return;
+            }
+            for (int i = 0; i < source.size(); i++) {
+                if (!byId.containsKey(source.productIdAt(i))) {
+                    Product loaded = source.loadAt(i);
+                    if (hydrate(loaded) == loaded) {
+                        hydrated.add(loaded);
+                    }
+                }
+            }
+            fullyHydrated = true;
+        }
+        if (!hydrated.isEmpty()) {
+            onHydrated.accept(hydrated);
+        }
+    }
+
+    // 상품 삭제 (없는 ID면 아무것도 하지 않음)
+    public void remove(String productId) {
+        hydrateAll();
+        Product product = byId.remove(productId);
+        if (product == null) {
+            return;
+        }
+        Set<Product> sameType = byType.get(product.getClass());
+        if (sameType != null) {
+            sameType.remove(product);
+        }
+        byPrice.remove(new PriceKey(product.getPriceMinor(), product.getProductId()));
+    }
+
+    public Optional<Product> findById(String productId) {
+        Product product = byId.get(productId);
+        if (product == null && !fullyHydrated && productId != null) {
+            Product loaded = source.load(productId);
+            if (loaded != null) {
+                product = hydrate(loaded);
+                if (product == loaded) {
+                    onHydrated.accept(List.of(loaded));
+                }
+            }
+        }
+        return Optional.ofNullable(product);
+    }
+
+    // 구체 타입별 상품 목록 (예: findByType(Food.class))
+    public <T extends Product> List<T> findByType(Class<T> type) {
+        hydrateAll();
+        Set<Product> products = byType.get(type);
+        List<T> result = new ArrayList<>();
+        if (products != null) {
+            for (Product p : products) {
+                result.add(type.cast(p));
+            }
+        }
+        return result;
+    }
+
+    // 가격(원)이 [minPrice, maxPrice] 범위인 상품 목록 (가격 오름차순)
+    public List<Product> findByPriceRange(double minPrice, double maxPrice) {
+        return findByPriceRangeMinor(Money.ofWon(minPrice), Money.ofWon(maxPrice));
+    }
+
+    // 가격(Money minor 단위)이 [minMinor, maxMinor] 범위인 상품 목록 (가격 오름차순)
+    public List<Product> findByPriceRangeMinor(long minMinor, long maxMinor) {
+        if (minMinor > maxMinor) {
+            return new ArrayList<>();
+        }
+        hydrateAll();
+        PriceKey from = new PriceKey(minMinor, "");
+        if (maxMinor == Long.MAX_VALUE) {
+            return new ArrayList<>(byPrice.tailMap(from, true).values());
+        }
+        PriceKey to = new PriceKey(maxMinor + 1, "");
+        return new ArrayList<>(byPrice.subMap(from, true, to, false).values());
+    }
+
+    // 전체 상품 목록 (상품 ID 오름차순, 화면 표시용)
+    public List<Product> findAll() {
+        hydrateAll();
+        List<Product> result = new ArrayList<>(byId.values());
+        result.sort(Comparator.comparing(Product::getProductId));
+        return result;
+    }
+
+    public int size() {
+        hydrateAll();
+        return byId.size();
+    }
+}
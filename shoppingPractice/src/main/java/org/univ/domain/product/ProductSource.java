@@ -0,0 +1,20 @@
+package org.univ.domain.product;
+
+/**
+ * 상품을 필요할 때 하나씩 만들어 주는 원본 (예: 카탈로그 스냅샷 파일)
+ * 상품은 productId 오름차순 위치(index)로도 꺼낼 수 있어야 한다.
+ */
+public interface ProductSource {
+
+    // 원본에 있는 상품 수
+    int size();
+
+    // index번째 상품의 ID (상품 객체는 만들지 않음)
+    String productIdAt(int index);
+
+    // index번째 상품을 새로 만들어 반환
+    Product loadAt(int index);
+
+    // productId인 상품을 새로 만들어 반환 (없으면 null)
+    Product load(String productId);
+}
@@ -5,4 +5,17 @@ public class IllegalOrderStateException extends RuntimeException {
     public IllegalOrderStateException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    public IllegalOrderStateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    private IllegalOrderStateException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    // 실패가 곧 예상된 결과인 제어 흐름용: 스택 트레이스를 채우지 않아 생성 비용이 낮다
+    public static IllegalOrderStateException withoutStackTrace(String message) {
+        return new IllegalOrderStateException(message, false);
+    }
+}
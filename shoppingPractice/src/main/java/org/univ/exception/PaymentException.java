@@ -4,4 +4,13 @@ public class PaymentException extends RuntimeException {
     public PaymentException(String message) {
         super(message);
     }
+
+    private PaymentException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    // 실패가 곧 예상된 결과인 제어 흐름용: 스택 트레이스를 채우지 않아 생성 비용이 낮다
+    public static PaymentException withoutStackTrace(String message) {
+        return new PaymentException(message, false);
+    }
 }
@@ -0,0 +1,12 @@
+package org.univ.exception;
+
+// 주문 로그 기록/복구 등 저장소 입출력 관련 예외 처리용
+public class PersistenceException extends RuntimeException {
+    public PersistenceException(String message) {
+        super(message);
+    }
+
+    public PersistenceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
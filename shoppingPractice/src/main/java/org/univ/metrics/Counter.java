@@ -0,0 +1,21 @@
+package org.univ.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 여러 스레드가 동시에 올리는 누적 횟수 (LongAdder 기반, 증가 시 잠금/객체 생성 없음)
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
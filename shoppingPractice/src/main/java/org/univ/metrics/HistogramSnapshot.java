@@ -0,0 +1,57 @@
+package org.univ.metrics;
+
+/**
+ * 히스토그램을 읽은 시점의 분포 (불변)
+ * 백분위수는 해당 순위 값이 들어 있는 칸의 상한으로 계산한다. (실제 최댓값을 넘지 않음)
+ */
+public final class HistogramSnapshot {
+
+    private final String name;
+    private final long[] buckets;
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+
+    HistogramSnapshot(String name, long[] buckets, long count, long sumNanos, long maxNanos) {
+        this.name = name;
+        this.buckets = buckets;
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * 백분위수 지연(나노초). 기록이 없으면 0
+     * @param percentile 0~100 (예: 99.9)
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("백분위수는 0~100이어야 합니다.");
+        }
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    // 평균 지연(나노초). 기록이 없으면 0
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) sumNanos / count;
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return count; }
+    public long getMaxNanos() { return maxNanos; }
+}
@@ -0,0 +1,115 @@
+package org.univ.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 시간(나노초) 히스토그램: HDR 히스토그램처럼 2의 거듭제곱 구간을 16칸씩 나눈 로그 구간에 센다.
+ * - 16ns 미만은 정확히, 그 이상은 구간 폭이 값의 1/16 이하 (상대 오차 약 6% 이내)
+ * - 기록은 스레드 ID로 고른 줄(stripe)의 칸만 원자적으로 올리므로 잠금과 객체 생성이 없다
+ *   (가상 스레드처럼 스레드가 계속 새로 생겨도 메모리가 늘지 않도록 스레드마다가 아니라 고정 개수의 줄에 나눠 기록)
+ * - 읽을 때(snapshot) 모든 줄을 합친다
+ * MAX_TRACKABLE_NANOS를 넘는 값은 마지막 칸에 세고, 최댓값은 정확히 보관한다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 칸으로 구분하는 최대 지연: 2^36ns (약 68초)
+    static final int MAX_EXPONENT = 36;
+    public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    // 줄별 통계 (한 줄 = 캐시 라인 하나: 합계, 최댓값). 건수는 읽을 때 칸을 합쳐 구함
+    private static final int STAT_STRIDE = 8;
+    private static final int SUM = 0;
+    private static final int MAX = 1;
+
+    private final String name;
+    private final int stripeMask;
+    private final AtomicLongArray buckets;   // [줄 * BUCKET_COUNT + 칸]
+    private final AtomicLongArray stats;     // [줄 * STAT_STRIDE + SUM/MAX]
+
+    public LatencyHistogram(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("히스토그램 이름은 필수입니다.");
+        }
+        this.name = name;
+        // 코어 수의 2배 이상인 2의 거듭제곱 (최대 64줄)
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        stripes = Math.min(64, stripes);
+        this.stripeMask = stripes - 1;
+        this.buckets = new AtomicLongArray(stripes * BUCKET_COUNT);
+        this.stats = new AtomicLongArray(stripes * STAT_STRIDE);
+    }
+
+    // 지연 시간 하나를 기록한다. (음수는 0으로)
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        buckets.getAndIncrement(stripe * BUCKET_COUNT + bucketIndex(value));
+        int base = stripe * STAT_STRIDE;
+        stats.getAndAdd(base + SUM, value);
+        long max;
+        while (value > (max = stats.get(base + MAX))) {
+            if (stats.compareAndSet(base + MAX, max, value)) {
+                break;
+            }
+        }
+    }
+
+    // startNanos(System.nanoTime)부터 지금까지의 지연을 기록
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    // 값이 들어갈 칸 번호
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    // 칸에 들어가는 가장 큰 값
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    // 모든 줄을 합친 현재 분포 (기록과 동시에 읽어도 되며, 읽는 동안 들어온 값은 일부만 보일 수 있음)
+    public HistogramSnapshot snapshot() {
+        long[] merged = new long[BUCKET_COUNT];
+        long count = 0;
+        int stripes = stripeMask + 1;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int offset = stripe * BUCKET_COUNT;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long n = buckets.get(offset + i);
+                merged[i] += n;
+                count += n;
+            }
+        }
+        long sum = 0;
+        long max = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int base = stripe * STAT_STRIDE;
+            sum += stats.get(base + SUM);
+            max = Math.max(max, stats.get(base + MAX));
+        }
+        return new HistogramSnapshot(name, merged, count, sum, max);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
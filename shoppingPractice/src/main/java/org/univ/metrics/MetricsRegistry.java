@@ -0,0 +1,81 @@
+package org.univ.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름으로 찾는 지표 모음: 지연 히스토그램, 카운터, 처리 단계 계측
+ * 같은 이름으로 다시 요청하면 같은 객체를 돌려주므로, 호출하는 쪽은 한 번 받아 두고 기록만 하면 된다.
+ * dump()로 모든 지표를 이름순 텍스트로 내보낸다.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, StageMetrics> stages = new ConcurrentHashMap<>();
+
+    // 별도 지정이 없을 때 쓰는 프로세스 전체 공용 레지스트리
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(requireName(name), LatencyHistogram::new);
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(requireName(name), n -> new Counter());
+    }
+
+    public StageMetrics stage(String name) {
+        return stages.computeIfAbsent(requireName(name), StageMetrics::new);
+    }
+
+    private static String requireName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("지표 이름은 필수입니다.");
+        }
+        return name;
+    }
+
+    /**
+     * 모든 지표를 한 줄에 하나씩 이름순으로 출력한 텍스트 (지연 단위: ms)
+     * 예) order.payment count=120 mean=1.204 p50=1.114 p90=1.507 p99=2.031 p999=2.031 max=2.201 success=118 failures={PaymentException=2}
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        for (StageMetrics stage : new TreeMap<>(stages).values()) {
+            appendLatency(sb, stage.getLatency().snapshot());
+            sb.append(" success=").append(stage.getSuccessCount())
+                    .append(" failures=").append(stage.getFailureCounts())
+                    .append('\n');
+        }
+        for (LatencyHistogram histogram : new TreeMap<>(histograms).values()) {
+            appendLatency(sb, histogram.snapshot());
+            sb.append('\n');
+        }
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            sb.append(entry.getKey()).append(" count=").append(entry.getValue().get()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendLatency(StringBuilder sb, HistogramSnapshot s) {
+        sb.append(s.getName())
+                .append(" count=").append(s.getCount())
+                .append(" mean=").append(millis(s.getMeanNanos()))
+                .append(" p50=").append(millis(s.getValueAtPercentile(50)))
+                .append(" p90=").append(millis(s.getValueAtPercentile(90)))
+                .append(" p99=").append(millis(s.getValueAtPercentile(99)))
+                .append(" p999=").append(millis(s.getValueAtPercentile(99.9)))
+                .append(" max=").append(millis(s.getMaxNanos()));
+    }
+
+    private static String millis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,59 @@
+package org.univ.metrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 처리 단계 하나의 계측: 지연 히스토그램 + 성공 횟수 + 실패 유형(예외 클래스)별 횟수
+ * 호출하는 쪽은 시작할 때 System.nanoTime()을 잡아 두고 끝날 때 success/failure에 넘긴다.
+ * 실패 유형별 카운터는 처음 보는 유형일 때만 만들어지고, 이후 기록은 객체를 만들지 않는다.
+ */
+public final class StageMetrics {
+
+    private final String name;
+    private final LatencyHistogram latency;
+    private final Counter successes = new Counter();
+    private final Map<Class<?>, Counter> failures = new ConcurrentHashMap<>();
+
+    StageMetrics(String name) {
+        this.name = name;
+        this.latency = new LatencyHistogram(name);
+    }
+
+    // 성공: 지연 기록 + 성공 횟수 증가
+    public void success(long startNanos) {
+        latency.recordSince(startNanos);
+        successes.increment();
+    }
+
+    // 실패: 지연 기록 + 실패 유형별 횟수 증가 (예외를 만들지 않은 실패도 유형 클래스로 기록)
+    public void failure(long startNanos, Class<? extends Throwable> type) {
+        latency.recordSince(startNanos);
+        Counter counter = failures.get(type);
+        if (counter == null) {
+            counter = failures.computeIfAbsent(type, t -> new Counter());
+        }
+        counter.increment();
+    }
+
+    public String getName() { return name; }
+    public LatencyHistogram getLatency() { return latency; }
+    public long getSuccessCount() { return successes.get(); }
+
+    // 실패 유형이 type인 횟수
+    public long getFailureCount(Class<? extends Throwable> type) {
+        Counter counter = failures.get(type);
+        return counter == null ? 0 : counter.get();
+    }
+
+    // 실패 유형 이름(단순 클래스명) → 횟수, 이름순
+    public Map<String, Long> getFailureCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        failures.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Class::getSimpleName)))
+                .forEach(e -> counts.put(e.getKey().getSimpleName(), e.getValue().get()));
+        return counts;
+    }
+}
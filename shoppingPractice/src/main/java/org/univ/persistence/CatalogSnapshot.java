@@ -0,0 +1,288 @@
+package org.univ.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.univ.domain.money.Money;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Electronics;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductSource;
+import org.univ.exception.PersistenceException;
+
+/**
+ * 카탈로그 스냅샷: 상품 정보와 그 시점의 재고를 담은 이진 파일
+ * - 형식: [헤더 16바이트][상품 위치 목록 long x 상품 수 (productId 오름차순)][상품 기록들]
+ * - 열 때는 파일을 메모리 매핑만 하고 상품 객체는 만들지 않는다
+ * - 상품은 ID로 위치 목록을 이진 탐색해 찾은 뒤, 요청될 때 한 건씩 만든다 (ProductCatalog와 함께 사용)
+ * 쓰기는 임시 파일에 쓴 뒤 교체하므로 주기적으로 다시 써도 읽는 쪽이 반쯤 쓴 파일을 보지 않는다.
+ */
+public final class CatalogSnapshot implements ProductSource {
+
+    private static final int MAGIC = 0x53484350;   // "SHCP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    // 상품 종류
+    private static final byte CLOTHING = 1;
+    private static final byte ELECTRONICS = 2;
+    private static final byte FOOD = 3;
+
+    private final MappedByteBuffer data;   // 절대 위치 읽기만 사용하므로 여러 스레드가 공유 가능
+    private final int count;
+    private final AtomicLong loadCount = new AtomicLong();
+
+    private CatalogSnapshot(MappedByteBuffer data, int count) {
+        this.data = data;
+        this.count = count;
+    }
+
+    // 스냅샷 파일을 메모리 매핑으로 연다. (헤더만 검사하고 상품은 만들지 않음)
+    public static CatalogSnapshot open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new PersistenceException("카탈로그 스냅샷 크기가 올바르지 않습니다: " + size);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+                throw new PersistenceException("카탈로그 스냅샷 형식이 아닙니다: " + path);
+            }
+            int count = data.getInt(8);
+            if (count < 0 || HEADER_BYTES + (long) count * Long.BYTES > size) {
+                throw new PersistenceException("카탈로그 스냅샷이 손상되었습니다: " + path);
+            }
+            return new CatalogSnapshot(data, count);
+        } catch (IOException e) {
+            throw new PersistenceException("카탈로그 스냅샷을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 상품 목록(과 현재 재고)을 스냅샷 파일로 쓴다.
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체한다.
+     */
+    public static void write(Path path, Collection<? extends Product> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("상품 목록이 null입니다.");
+        }
+        List<byte[]> records = new ArrayList<>(products.size());
+        for (Product p : products) {
+            records.add(encode(p));
+        }
+        // productId(UTF-8 바이트) 오름차순: 읽을 때 이진 탐색
+        records.sort((a, b) -> compareIds(a, b));
+
+        Path dir = path.toAbsolutePath().getParent();
+        try {
+            Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer head = ByteBuffer.allocate(HEADER_BYTES + records.size() * Long.BYTES);
+                head.putInt(MAGIC).putInt(VERSION).putInt(records.size()).putInt(0);
+                long offset = head.capacity();
+                for (byte[] r : records) {
+                    head.putLong(offset);
+                    offset += r.length;
+                }
+                head.flip();
+                writeFully(channel, head);
+                for (byte[] r : records) {
+                    writeFully(channel, ByteBuffer.wrap(r));
+                }
+                channel.force(true);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new PersistenceException("카탈로그 스냅샷을 쓸 수 없습니다: " + path, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public String productIdAt(int index) {
+        int pos = recordPosition(index);
+        return readString(pos);
+    }
+
+    @Override
+    public Product loadAt(int index) {
+        return decode(recordPosition(index));
+    }
+
+    @Override
+    public Product load(String productId) {
+        byte[] target = productId.getBytes(StandardCharsets.UTF_8);
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareIdAt(recordPosition(mid), target);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return loadAt(mid);
+            }
+        }
+        return null;
+    }
+
+    // 지금까지 만든 상품 객체 수
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    private int recordPosition(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("상품 위치가 범위를 벗어났습니다: " + index);
+        }
+        return (int) data.getLong(HEADER_BYTES + index * Long.BYTES);
+    }
+
+    // 기록 형식: id, 종류, 가격(minor), 재고, 이름, 기본 설명, 종류별 필드
+    private static byte[] encode(Product p) {
+        byte[][] strings;
+        byte type;
+        int extraBytes;
+        if (p instanceof Clothing) {
+            Clothing c = (Clothing) p;
+            type = CLOTHING;
+            strings = new byte[][]{utf8(c.getSize()), utf8(c.getMaterial())};
+            extraBytes = 0;
+        } else if (p instanceof Electronics) {
+            type = ELECTRONICS;
+            strings = new byte[0][];
+            extraBytes = Integer.BYTES;
+        } else if (p instanceof Food) {
+            type = FOOD;
+            strings = new byte[0][];
+            extraBytes = 1;
+        } else {
+            throw new IllegalArgumentException("스냅샷에 저장할 수 없는 상품 종류입니다: " + p.getClass().getName());
+        }
+
+        byte[] id = utf8(p.getProductId());
+        byte[] name = utf8(p.getName());
+        byte[] description = utf8(baseDescription(p));
+        int size = 2 + id.length + 1 + Long.BYTES + Integer.BYTES + 2 + name.length + 2 + description.length
+                + extraBytes;
+        for (byte[] s : strings) {
+            size += 2 + s.length;
+        }
+
+        ByteBuffer b = ByteBuffer.allocate(size);
+        putString(b, id);
+        b.put(type).putLong(p.getPriceMinor()).putInt(p.getStockQuantity());
+        putString(b, name);
+        putString(b, description);
+        for (byte[] s : strings) {
+            putString(b, s);
+        }
+        if (type == ELECTRONICS) {
+            b.putInt(((Electronics) p).getWarrantyPeriod());
+        } else if (type == FOOD) {
+            b.put((byte) (((Food) p).isRefrigerated() ? 1 : 0));
+        }
+        return b.array();
+    }
+
+    private Product decode(int pos) {
+        String id = readString(pos);
+        pos += 2 + stringBytes(pos);
+        byte type = data.get(pos);
+        long priceMinor = data.getLong(pos + 1);
+        int stock = data.getInt(pos + 9);
+        pos += 13;
+        String name = readString(pos);
+        pos += 2 + stringBytes(pos);
+        String description = readString(pos);
+        pos += 2 + stringBytes(pos);
+        double price = Money.toWon(priceMinor);
+
+        loadCount.incrementAndGet();
+        switch (type) {
+            case CLOTHING: {
+                String size = readString(pos);
+                pos += 2 + stringBytes(pos);
+                return new Clothing(id, name, price, description, stock, size, readString(pos));
+            }
+            case ELECTRONICS:
+                return new Electronics(id, name, price, description, stock, data.getInt(pos));
+            case FOOD:
+                return new Food(id, name, price, description, stock, data.get(pos) == 1);
+            default:
+                throw new PersistenceException("알 수 없는 상품 종류입니다: " + type);
+        }
+    }
+
+    // 생성자가 덧붙이는 " | 사이즈..." 등을 뺀 원래 설명
+    private static String baseDescription(Product p) {
+        return p.getDescription().split(" \\| ")[0];
+    }
+
+    private int stringBytes(int pos) {
+        return data.getShort(pos) & 0xFFFF;
+    }
+
+    private String readString(int pos) {
+        byte[] bytes = new byte[stringBytes(pos)];
+        data.get(pos + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // pos에 있는 ID와 target을 부호 없는 바이트 사전순으로 비교 (객체를 만들지 않음)
+    private int compareIdAt(int pos, byte[] target) {
+        int length = stringBytes(pos);
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.toUnsignedInt(data.get(pos + 2 + i)) - Byte.toUnsignedInt(target[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - target.length;
+    }
+
+    // 두 기록의 앞머리 ID 비교
+    private static int compareIds(byte[] a, byte[] b) {
+        int aLen = ((a[0] & 0xFF) << 8) | (a[1] & 0xFF);
+        int bLen = ((b[0] & 0xFF) << 8) | (b[1] & 0xFF);
+        return Arrays.compareUnsigned(a, 2, 2 + aLen, b, 2, 2 + bLen);
+    }
+
+    private static byte[] utf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("스냅샷에 저장할 문자열이 너무 깁니다.");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer b, byte[] s) {
+        b.putShort((short) s.length);
+        b.put(s);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer b) throws IOException {
+        while (b.hasRemaining()) {
+            channel.write(b);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.univ.persistence;
+
+// 주문 로그를 디스크에 강제로 기록(fsync)하는 시점
+public enum FsyncPolicy {
+    NEVER("fsync 안 함 (OS 캐시에 맡김)"),
+    INTERVAL("일정 간격마다 모아서 fsync"),
+    GROUP_COMMIT("기록마다 fsync 완료를 기다림 (동시에 들어온 기록은 fsync 한 번으로 묶음)");
+
+    private final String description;
+
+    FsyncPolicy(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,272 @@
+package org.univ.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderLine;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
+import org.univ.exception.DeliveryException;
+import org.univ.exception.PaymentException;
+import org.univ.exception.PersistenceException;
+import org.univ.exception.StockUnavailableException;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.ExpressDelivery;
+import org.univ.strategy.delivery.StandardDelivery;
+import org.univ.strategy.payment.PaymentMethod;
+
+/**
+ * 주문 로그 복구: 시작 시 로그를 처음부터 읽어 주문과 재고를 다시 만든다.
+ * - 카탈로그는 로그를 쓰기 시작한 시점의 재고 상태여야 한다 (예: buildCatalog 직후)
+ * - 결제 전(PENDING) 주문: 예약했던 수량만큼 장부로 재고를 다시 hold (TTL은 복구 시점부터 새로 시작)
+ * - 결제 이후 주문: 예약 수량만큼 장부로 hold를 만들어 확정 (취소하면 재고가 돌아옴)
+ * - 취소된 주문: 재고는 이미 반환되었으므로 주문 라인만 복구
+ * - 취소되지 않았는데 예약을 모두 되돌린 주문(결제/배송 실패로 롤백된 주문)과 라인이 하나도 없는 결제 전 주문은 복구하지 않음
+ * 마지막 기록이 쓰다 만(잘렸거나 CRC가 맞지 않는) 상태면 그 앞까지만 복구하고 파일을 잘라 낸다.
+ * 결제 수단 정보(카드 번호 등)는 로그에 남기지 않으므로, 복구된 주문의 결제/배송 방식은 resolver로 다시 지정한다.
+ */
+public class WalRecovery {
+
+    private final ProductCatalog catalog;
+    private final ReservationLedger ledger;
+    private final Function<String, PaymentMethod> paymentResolver;
+    private final Function<String, DeliveryMethod> deliveryResolver;
+
+    private int recordCount;      // 마지막 복구에서 읽은 유효 기록 수
+    private long truncatedBytes;  // 마지막 복구에서 잘라 낸 꼬리 바이트 수
+
+    // 결제 방식은 복구하지 않고(결제 시 예외), 배송 방식은 기본 구현체 이름으로 찾는 복구기
+    public WalRecovery(ProductCatalog catalog, ReservationLedger ledger) {
+        this(catalog, ledger, WalRecovery::unresolvedPayment, WalRecovery::defaultDelivery);
+    }
+
+    public WalRecovery(ProductCatalog catalog,
+                       ReservationLedger ledger,
+                       Function<String, PaymentMethod> paymentResolver,
+                       Function<String, DeliveryMethod> deliveryResolver) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("카탈로그가 지정되지 않았습니다.");
+        }
+        if (ledger == null) {
+            throw new IllegalArgumentException("재고 예약 장부가 지정되지 않았습니다.");
+        }
+        if (paymentResolver == null || deliveryResolver == null) {
+            throw new IllegalArgumentException("결제/배송 방식 복구 함수가 지정되지 않았습니다.");
+        }
+        this.catalog = catalog;
+        this.ledger = ledger;
+        this.paymentResolver = paymentResolver;
+        this.deliveryResolver = deliveryResolver;
+    }
+
+    // 로그 파일로 주문과 재고를 복구하고, 복구된 주문을 생성 순서대로 반환한다. (파일이 없으면 빈 목록)
+    public List<Order> recover(Path path) {
+        recordCount = 0;
+        truncatedBytes = 0;
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+        Map<String, OrderState> states = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long validEnd = 0;
+            if (size > 0) {
+                ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                validEnd = replay(data, states);
+            }
+            if (validEnd < size) {
+                truncatedBytes = size - validEnd;
+                channel.truncate(validEnd);
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("주문 로그를 읽을 수 없습니다: " + path, e);
+        }
+
+        List<Order> orders = new ArrayList<>(states.size());
+        for (OrderState state : states.values()) {
+            Order order = rebuild(state);
+            if (order != null) {
+                orders.add(order);
+            }
+        }
+        return orders;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public long getTruncatedBytes() {
+        return truncatedBytes;
+    }
+
+    // 유효한 기록을 차례로 적용하고, 마지막 유효 기록의 끝 위치를 반환한다.
+    private long replay(ByteBuffer data, Map<String, OrderState> states) {
+        CRC32 crc = new CRC32();
+        while (data.remaining() >= WriteAheadLog.HEADER_BYTES) {
+            int start = data.position();
+            int bodyBytes = data.getInt();
+            int checksum = data.getInt();
+            if (bodyBytes <= 0 || bodyBytes > data.remaining()) {
+                return start;
+            }
+            ByteBuffer body = data.slice();
+            body.limit(bodyBytes);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            apply(body, states);
+            recordCount++;
+            data.position(start + WriteAheadLog.HEADER_BYTES + bodyBytes);
+        }
+        return data.position();
+    }
+
+    private void apply(ByteBuffer body, Map<String, OrderState> states) {
+        byte type = body.get();
+        String orderId = getString(body);
+        switch (type) {
+            case WriteAheadLog.ORDER_CREATED: {
+                OrderState state = new OrderState();
+                state.orderId = orderId;
+                state.orderDate = LocalDateTime.ofEpochSecond(body.getLong(), body.getInt(), ZoneOffset.UTC);
+                state.customer = new Customer(getString(body), getString(body), getString(body),
+                        getString(body), getString(body));
+                state.paymentType = getString(body);
+                state.deliveryType = getString(body);
+                int lineCount = body.getInt();
+                for (int i = 0; i < lineCount; i++) {
+                    state.initialLines.merge(getString(body), body.getInt(), Integer::sum);
+                }
+                states.put(orderId, state);
+                break;
+            }
+            case WriteAheadLog.STOCK_RESERVED:
+            case WriteAheadLog.STOCK_RELEASED: {
+                OrderState state = states.get(orderId);
+                String productId = getString(body);
+                int quantity = body.getInt();
+                if (state != null) {
+                    int delta = type == WriteAheadLog.STOCK_RESERVED ? quantity : -quantity;
+                    state.reserved.merge(productId, delta, Integer::sum);
+                }
+                break;
+            }
+            case WriteAheadLog.STATUS_CHANGED: {
+                OrderState state = states.get(orderId);
+                body.get(); // 이전 상태 (검증용으로만 기록)
+                OrderStatus to = OrderStatus.values()[body.get()];
+                if (state != null) {
+                    state.status = to;
+                }
+                break;
+            }
+            default:
+                throw new PersistenceException("알 수 없는 주문 로그 기록 종류: " + type);
+        }
+    }
+
+    // 한 주문의 최종 상태로 Order를 만들고 재고에 반영한다. (복구하지 않을 주문이면 null)
+    private Order rebuild(OrderState state) {
+        List<OrderLine> reservedLines = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : state.reserved.entrySet()) {
+            if (e.getValue() > 0) {
+                reservedLines.add(new OrderLine(product(e.getKey()), e.getValue()));
+            }
+        }
+        boolean pending = state.status == OrderStatus.PENDING;
+        boolean cancelled = state.status == OrderStatus.CANCELLED;
+        if (!cancelled && reservedLines.isEmpty()
+                && (!state.reserved.isEmpty() || (pending && state.initialLines.isEmpty()))) {
+            // 예약을 모두 되돌렸거나(결제/배송 실패 롤백) 하나도 예약하지 못한(재고 부족) 실패 주문
+            return null;
+        }
+
+        List<OrderLine> lines = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : state.initialLines.entrySet()) {
+            lines.add(new OrderLine(product(e.getKey()), e.getValue()));
+        }
+        if (cancelled) {
+            // 취소된 주문: 재고는 그대로 두고 내역만 남김
+            lines.addAll(reservedLines);
+        }
+
+        Order order = Order.restore(state.orderId, state.customer, lines,
+                paymentResolver.apply(state.paymentType), deliveryResolver.apply(state.deliveryType),
+                ledger, state.orderDate, state.status);
+        if (cancelled || reservedLines.isEmpty()) {
+            return order;
+        }
+        try {
+            if (pending) {
+                order.addLines(reservedLines);
+            } else {
+                // 결제 이후 주문: 예약 수량은 확정 차감된 재고 (주문이 확정 hold로 들고 있음)
+                order.restoreCommittedLines(reservedLines);
+            }
+        } catch (StockUnavailableException e) {
+            throw new PersistenceException("복구할 재고가 부족합니다: " + e.getMessage(), e);
+        }
+        return order;
+    }
+
+    private Product product(String productId) {
+        return catalog.findById(productId).orElseThrow(() ->
+                new PersistenceException("복구할 상품을 카탈로그에서 찾을 수 없습니다: " + productId));
+    }
+
+    private static String getString(ByteBuffer b) {
+        byte[] bytes = new byte[b.getShort() & 0xFFFF];
+        b.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static PaymentMethod unresolvedPayment(String type) {
+        return amountMinor -> {
+            throw new PaymentException("복구된 주문은 결제 수단을 다시 지정해야 합니다: " + type);
+        };
+    }
+
+    private static DeliveryMethod defaultDelivery(String type) {
+        switch (type) {
+            case "StandardDelivery":
+                return new StandardDelivery();
+            case "ExpressDelivery":
+                return new ExpressDelivery();
+            default:
+                return summary -> {
+                    throw new DeliveryException("복구된 주문은 배송 방식을 다시 지정해야 합니다: " + type);
+                };
+        }
+    }
+
+    // 로그를 읽는 동안 모으는 주문 한 건의 상태
+    private static final class OrderState {
+        private String orderId;
+        private LocalDateTime orderDate;
+        private Customer customer;
+        private String paymentType;
+        private String deliveryType;
+        private OrderStatus status = OrderStatus.PENDING;
+        private final Map<String, Integer> initialLines = new LinkedHashMap<>();  // 생성 시 라인 (재고 예약 없음)
+        private final Map<String, Integer> reserved = new LinkedHashMap<>();      // 상품별 순 예약 수량
+    }
+}
@@ -0,0 +1,350 @@
+package org.univ.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderLine;
+import org.univ.domain.order.OrderListener;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Product;
+import org.univ.exception.PersistenceException;
+
+/**
+ * 주문 로그(write-ahead log): 주문 생성, 재고 예약/반환, 상태 변화를 파일 끝에 이어 쓰는 이진 기록
+ * - 기록 형식: [본문 길이 int][본문 CRC32 int][본문: 종류 byte + 필드들]
+ * - 기록은 호출 스레드에서 byte[]로 만들고, 쓰기 스레드 하나가 모아서 FileChannel에 한 번에 쓴다
+ * - fsync 시점은 FsyncPolicy로 정한다 (GROUP_COMMIT이면 동시에 들어온 기록들이 fsync 한 번을 공유)
+ * OrderListener로 주문에 등록해 두면 주문 변화가 자동으로 기록된다. 복구는 WalRecovery가 담당한다.
+ */
+public class WriteAheadLog implements OrderListener, AutoCloseable {
+
+    // 기록 종류
+    static final byte ORDER_CREATED = 1;
+    static final byte STOCK_RESERVED = 2;
+    static final byte STOCK_RELEASED = 3;
+    static final byte STATUS_CHANGED = 4;
+
+    static final int HEADER_BYTES = 8;
+    private static final int BATCH_BUFFER_BYTES = 1 << 20;
+    private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10);
+
+    private final FileChannel channel;
+    private final FsyncPolicy policy;
+    private final long syncIntervalNanos;
+    private final Thread writer;
+
+    // 아래 필드는 모두 lock으로 보호
+    private final Object lock = new Object();
+    private List<byte[]> pending = new ArrayList<>();
+    private long appendedSeq;      // 지금까지 받은 기록 수
+    private long writtenSeq;       // 파일에 쓴 기록 수
+    private long durableSeq;       // fsync까지 끝난 기록 수
+    private boolean closed;
+    private IOException failure;   // 쓰기 스레드에서 난 입출력 오류 (이후 기록은 모두 실패)
+
+    public WriteAheadLog(Path path, FsyncPolicy policy) {
+        this(path, policy, DEFAULT_SYNC_INTERVAL);
+    }
+
+    // INTERVAL 정책이면 syncInterval마다 fsync
+    public WriteAheadLog(Path path, FsyncPolicy policy, Duration syncInterval) {
+        if (path == null) {
+            throw new IllegalArgumentException("로그 파일 경로가 null입니다.");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("fsync 정책이 지정되지 않았습니다.");
+        }
+        if (syncInterval == null || syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("fsync 간격은 0보다 커야 합니다.");
+        }
+        try {
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new PersistenceException("주문 로그를 열 수 없습니다: " + path, e);
+        }
+        this.policy = policy;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        this.writer = new Thread(this::writeLoop, "wal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onCreated(Order order) {
+        Customer c = order.getCustomer();
+        List<OrderLine> lines = order.getLines();
+        byte[][] fields = {
+                utf8(order.getOrderId()),
+                utf8(c.getCustomerId()), utf8(c.getName()), utf8(c.getEmail()),
+                utf8(c.getPhoneNumber()), utf8(c.getAddress()),
+                utf8(order.getPaymentMethod().getClass().getSimpleName()),
+                utf8(order.getDeliveryMethod().getClass().getSimpleName())
+        };
+        byte[][] productIds = new byte[lines.size()][];
+        int size = 1 + 8 + 4 + 4;
+        for (byte[] f : fields) {
+            size += 2 + f.length;
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            productIds[i] = utf8(lines.get(i).getProduct().getProductId());
+            size += 2 + productIds[i].length + 4;
+        }
+
+        ByteBuffer b = frame(size);
+        b.put(ORDER_CREATED);
+        putString(b, fields[0]);   // 주문 ID는 모든 기록에서 종류 바로 다음
+        LocalDateTime date = order.getOrderDate();
+        b.putLong(date.toEpochSecond(ZoneOffset.UTC)).putInt(date.getNano());
+        for (int i = 1; i < fields.length; i++) {
+            putString(b, fields[i]);
+        }
+        b.putInt(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            putString(b, productIds[i]);
+            b.putInt(lines.get(i).getQuantity());
+        }
+        append(seal(b));
+    }
+
+    @Override
+    public void onStockReserved(Order order, Product product, int quantity, long amountMinor) {
+        append(stockRecord(STOCK_RESERVED, order.getOrderId(), product.getProductId(), quantity));
+    }
+
+    @Override
+    public void onStockReleased(Order order, Product product, int quantity, long amountMinor) {
+        append(stockRecord(STOCK_RELEASED, order.getOrderId(), product.getProductId(), quantity));
+    }
+
+    @Override
+    public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+        byte[] id = utf8(order.getOrderId());
+        ByteBuffer b = frame(1 + 2 + id.length + 2);
+        b.put(STATUS_CHANGED);
+        putString(b, id);
+        b.put((byte) from.ordinal()).put((byte) to.ordinal());
+        append(seal(b));
+    }
+
+    /**
+     * 완성된 기록 하나를 로그에 넣는다.
+     * GROUP_COMMIT이면 fsync가 끝날 때까지 기다리고, 나머지 정책은 쓰기 스레드에 넘기고 바로 반환한다.
+     */
+    void append(byte[] record) {
+        synchronized (lock) {
+            checkUsable();
+            if (closed) {
+                throw new PersistenceException("닫힌 주문 로그입니다.");
+            }
+            pending.add(record);
+            long seq = ++appendedSeq;
+            lock.notifyAll();
+            if (policy != FsyncPolicy.GROUP_COMMIT) {
+                return;
+            }
+            boolean interrupted = false;
+            while (durableSeq < seq) {
+                checkUsable();
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;   // 기록이 끝날 때까지는 기다리고 인터럽트 상태만 복원
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 지금까지 넣은 기록이 모두 파일에 쓰이고 정책에 따른 fsync까지 끝날 때까지 기다린다. (NEVER면 쓰기까지만)
+    public void flush() {
+        synchronized (lock) {
+            long target = appendedSeq;
+            while (durableSeq < target) {
+                checkUsable();
+                lock.notifyAll();
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PersistenceException("주문 로그 flush 중 인터럽트되었습니다.");
+                }
+            }
+        }
+    }
+
+    // 쓰기 스레드 종료 후 남은 기록을 모두 fsync하고 파일을 닫는다.
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new PersistenceException("주문 로그를 닫는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 지금까지 기록이 끝난 기록 수 (NEVER가 아니면 fsync까지 끝난 수)
+    public long getDurableCount() {
+        synchronized (lock) {
+            return durableSeq;
+        }
+    }
+
+    // 쓰기 스레드가 입출력 오류로 멈췄으면 예외 (lock 안에서 호출)
+    private void checkUsable() {
+        if (failure != null) {
+            throw new PersistenceException("주문 로그 기록 실패: " + failure.getMessage(), failure);
+        }
+    }
+
+    // 쓰기 스레드: 쌓인 기록을 한 번에 쓰고 정책에 따라 fsync
+    private void writeLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BATCH_BUFFER_BYTES);
+        List<byte[]> spare = new ArrayList<>();
+        long lastSync = System.nanoTime();
+        while (true) {
+            List<byte[]> batch;
+            long batchEnd;
+            boolean finishing;
+            synchronized (lock) {
+                while (pending.isEmpty() && !closed && !(writtenSeq > durableSeq && syncDue(lastSync))) {
+                    try {
+                        lock.wait(Math.max(1, syncIntervalNanos / 1_000_000));
+                    } catch (InterruptedException e) {
+                        // close()로만 종료
+                    }
+                }
+                batch = pending;
+                pending = spare;
+                batchEnd = appendedSeq;
+                finishing = closed;
+            }
+
+            try {
+                writeBatch(batch, buffer);
+                boolean sync = finishing
+                        || policy == FsyncPolicy.GROUP_COMMIT
+                        || (policy == FsyncPolicy.INTERVAL && syncDue(lastSync));
+                if (sync) {
+                    if (policy != FsyncPolicy.NEVER) {
+                        channel.force(false);
+                    }
+                    lastSync = System.nanoTime();
+                }
+                synchronized (lock) {
+                    writtenSeq = batchEnd;
+                    if (sync || policy == FsyncPolicy.NEVER) {
+                        durableSeq = batchEnd;
+                    }
+                    lock.notifyAll();
+                    if (finishing && pending.isEmpty()) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    lock.notifyAll();
+                }
+                return;
+            }
+            batch.clear();
+            spare = batch;
+        }
+    }
+
+    private boolean syncDue(long lastSync) {
+        return policy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSync >= syncIntervalNanos;
+    }
+
+    private void writeBatch(List<byte[]> batch, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        for (byte[] record : batch) {
+            if (record.length > buffer.remaining()) {
+                drain(buffer);
+                if (record.length > buffer.capacity()) {
+                    ByteBuffer big = ByteBuffer.wrap(record);
+                    while (big.hasRemaining()) {
+                        channel.write(big);
+                    }
+                    continue;
+                }
+            }
+            buffer.put(record);
+        }
+        drain(buffer);
+    }
+
+    private void drain(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] stockRecord(byte type, String orderId, String productId, int quantity) {
+        byte[] id = utf8(orderId);
+        byte[] pid = utf8(productId);
+        ByteBuffer b = frame(1 + 2 + id.length + 2 + pid.length + 4);
+        b.put(type);
+        putString(b, id);
+        putString(b, pid);
+        b.putInt(quantity);
+        return seal(b);
+    }
+
+    // 헤더 자리를 비워 둔 기록 버퍼
+    private static ByteBuffer frame(int bodyBytes) {
+        ByteBuffer b = ByteBuffer.allocate(HEADER_BYTES + bodyBytes);
+        b.position(HEADER_BYTES);
+        return b;
+    }
+
+    // 본문 길이와 CRC를 헤더에 채워 완성된 기록을 반환
+    private static byte[] seal(ByteBuffer b) {
+        byte[] bytes = b.array();
+        int bodyBytes = bytes.length - HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, HEADER_BYTES, bodyBytes);
+        b.putInt(0, bodyBytes);
+        b.putInt(4, (int) crc.getValue());
+        return bytes;
+    }
+
+    private static byte[] utf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("로그에 기록할 문자열이 너무 깁니다.");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer b, byte[] s) {
+        b.putShort((short) s.length);
+        b.put(s);
+    }
+}
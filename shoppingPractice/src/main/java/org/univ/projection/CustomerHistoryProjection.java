@@ -0,0 +1,78 @@
+package org.univ.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.univ.domain.event.OrderEvent;
+import org.univ.domain.event.OrderProjection;
+import org.univ.domain.money.Money;
+import org.univ.domain.order.OrderStatus;
+
+// 고객별 주문 이력 프로젝션: 주문마다 불변 요약(OrderView)을 유지하고 고객 ID로 생성 순서대로 조회
+public class CustomerHistoryProjection implements OrderProjection {
+
+    private final Map<String, OrderView> viewById = new ConcurrentHashMap<>();
+    private final Map<String, Queue<String>> orderIdsByCustomer = new ConcurrentHashMap<>();
+
+    @Override
+    public void apply(OrderEvent event) {
+        OrderView current = viewById.get(event.getOrderId());
+        if (event.getType() == OrderEvent.Type.CREATED) {
+            viewById.put(event.getOrderId(), new OrderView(event.getOrderId(), event.getCustomerId(),
+                    OrderStatus.PENDING, 0, 0, event.getOccurredAt(), event.getOccurredAt()));
+            orderIdsByCustomer.computeIfAbsent(event.getCustomerId(), k -> new ConcurrentLinkedQueue<>())
+                    .add(event.getOrderId());
+            return;
+        }
+        if (current == null) {
+            return; // 생성 이벤트 이전의 주문은 이력에 없음
+        }
+
+        int units = current.getUnitCount();
+        long total = current.getTotalMinor();
+        OrderStatus status = current.getStatus();
+        switch (event.getType()) {
+            case PRODUCT_ADDED:
+                units += event.getQuantity();
+                total = Money.add(total, event.getAmountMinor());
+                break;
+            case PRODUCT_REMOVED:
+                units -= event.getQuantity();
+                total = Money.add(total, -event.getAmountMinor());
+                break;
+            default:
+                // 상태 이벤트의 금액은 그 시점 주문 총액이므로 그대로 사용
+                status = event.getType().getResultingStatus();
+                total = event.getAmountMinor();
+                break;
+        }
+        viewById.put(event.getOrderId(), new OrderView(current.getOrderId(), current.getCustomerId(), status,
+                units, total, current.getCreatedAt(), event.getOccurredAt()));
+    }
+
+    @Override
+    public void reset() {
+        viewById.clear();
+        orderIdsByCustomer.clear();
+    }
+
+    // 고객의 주문 요약 목록 (주문 생성 순서)
+    public List<OrderView> findByCustomerId(String customerId) {
+        Queue<String> ids = orderIdsByCustomer.get(customerId);
+        List<OrderView> result = new ArrayList<>();
+        if (ids != null) {
+            for (String id : ids) {
+                result.add(viewById.get(id));
+            }
+        }
+        return result;
+    }
+
+    public Optional<OrderView> findById(String orderId) {
+        return Optional.ofNullable(viewById.get(orderId));
+    }
+}
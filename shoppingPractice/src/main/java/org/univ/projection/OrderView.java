@@ -0,0 +1,40 @@
+package org.univ.projection;
+
+import java.time.LocalDateTime;
+import org.univ.domain.money.Money;
+import org.univ.domain.order.OrderStatus;
+
+// 조회용 주문 요약 (불변): 이벤트가 올 때마다 새 값으로 교체된다
+public final class OrderView {
+    private final String orderId;
+    private final String customerId;
+    private final OrderStatus status;
+    private final int unitCount;          // 담긴 상품 단위 수
+    private final long totalMinor;        // 마지막으로 알려진 주문 총액 (Money minor 단위)
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    OrderView(String orderId, String customerId, OrderStatus status, int unitCount, long totalMinor,
+              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.status = status;
+        this.unitCount = unitCount;
+        this.totalMinor = totalMinor;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getOrderId() { return orderId; }
+    public String getCustomerId() { return customerId; }
+    public OrderStatus getStatus() { return status; }
+    public int getUnitCount() { return unitCount; }
+    public long getTotalMinor() { return totalMinor; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    public String toString() {
+        return orderId + " [" + status.getDescription() + "] " + unitCount + "개, " + Money.format(totalMinor);
+    }
+}
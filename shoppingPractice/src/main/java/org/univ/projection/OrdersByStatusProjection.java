@@ -0,0 +1,60 @@
+package org.univ.projection;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.univ.domain.event.OrderEvent;
+import org.univ.domain.event.OrderProjection;
+import org.univ.domain.order.OrderStatus;
+
+// 상태별 주문 ID 프로젝션: 상태별 주문 목록/건수를 주문 객체 없이 조회
+public class OrdersByStatusProjection implements OrderProjection {
+
+    private final Map<String, OrderStatus> statusById = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, Set<String>> idsByStatus = new EnumMap<>(OrderStatus.class);
+
+    public OrdersByStatusProjection() {
+        // 상태별 집합은 미리 만들어 두므로 EnumMap 자체는 읽기만 함
+        for (OrderStatus status : OrderStatus.values()) {
+            idsByStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public void apply(OrderEvent event) {
+        OrderStatus next = event.getType().getResultingStatus();
+        if (next == null) {
+            return;
+        }
+        OrderStatus previous = statusById.put(event.getOrderId(), next);
+        // 새 상태에 먼저 넣어 조회 중에 주문이 잠시 사라지지 않게 함
+        idsByStatus.get(next).add(event.getOrderId());
+        if (previous != null && previous != next) {
+            idsByStatus.get(previous).remove(event.getOrderId());
+        }
+    }
+
+    @Override
+    public void reset() {
+        statusById.clear();
+        for (Set<String> ids : idsByStatus.values()) {
+            ids.clear();
+        }
+    }
+
+    public List<String> findOrderIds(OrderStatus status) {
+        return new ArrayList<>(idsByStatus.get(status));
+    }
+
+    public int count(OrderStatus status) {
+        return idsByStatus.get(status).size();
+    }
+
+    // 주문의 현재 상태 (모르는 주문이면 null)
+    public OrderStatus statusOf(String orderId) {
+        return statusById.get(orderId);
+    }
+}
@@ -0,0 +1,67 @@
+package org.univ.projection;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.univ.domain.event.OrderEvent;
+import org.univ.domain.event.OrderProjection;
+import org.univ.domain.money.Money;
+
+// 매출 프로젝션: 결제된 금액 합계에서 결제 후 취소된 주문 금액을 뺀 누적 매출
+public class RevenueProjection implements OrderProjection {
+
+    // 아직 취소될 수 있는 결제 주문의 결제 금액 (이벤트 반영 스레드 전용, 배송 완료되면 뺌)
+    private final Map<String, Long> paidAmounts = new HashMap<>();
+    private volatile long revenueMinor;
+    private volatile int paidOrderCount;
+    private volatile int refundedOrderCount;
+
+    @Override
+    public void apply(OrderEvent event) {
+        switch (event.getType()) {
+            case PAID:
+                paidAmounts.put(event.getOrderId(), event.getAmountMinor());
+                revenueMinor = Money.add(revenueMinor, event.getAmountMinor());
+                paidOrderCount++;
+                break;
+            case DELIVERED:
+                // 배송 완료된 주문은 더 이상 취소될 수 없으므로 환불 대비 금액을 들고 있지 않음
+                paidAmounts.remove(event.getOrderId());
+                break;
+            case CANCELLED:
+                Long paid = paidAmounts.remove(event.getOrderId());
+                if (paid != null) {
+                    revenueMinor = Money.add(revenueMinor, -paid);
+                    refundedOrderCount++;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void reset() {
+        paidAmounts.clear();
+        revenueMinor = 0;
+        paidOrderCount = 0;
+        refundedOrderCount = 0;
+    }
+
+    // 지금까지의 순매출 (Money minor 단위)
+    public long getRevenueMinor() {
+        return revenueMinor;
+    }
+
+    public int getPaidOrderCount() {
+        return paidOrderCount;
+    }
+
+    public int getRefundedOrderCount() {
+        return refundedOrderCount;
+    }
+
+    // 취소되면 매출에서 뺄 수 있도록 결제 금액을 들고 있는 주문 수
+    public int getRefundableOrderCount() {
+        return paidAmounts.size();
+    }
+}
@@ -0,0 +1,104 @@
+package org.univ.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderListener;
+import org.univ.domain.order.OrderStatus;
+
+/**
+ * 메모리 기반 주문 저장소
+ * - 주문 ID / 고객 ID: 해시 인덱스 (O(1) 조회)
+ * - 주문 상태: 상태별 집합, 주문 상태가 바뀔 때마다 리스너로 자동 갱신
+ * - 주문 시각: 정렬된 인덱스 (기간 조회는 O(log n + 결과 수))
+ * 모든 인덱스는 concurrent 컬렉션이라 여러 스레드가 동시에 저장/조회해도 안전하다.
+ */
+public class OrderRepository implements OrderListener {
+
+    private final Map<String, Order> byId = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Order>> byCustomerId = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, Set<Order>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final NavigableMap<LocalDateTime, Queue<Order>> byOrderDate = new ConcurrentSkipListMap<>();
+
+    public OrderRepository() {
+        // 상태별 집합은 생성 시 모두 만들어 두므로 이후 EnumMap 자체는 읽기만 함
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    // 주문 저장 (같은 주문 ID가 이미 있으면 IllegalArgumentException)
+    public void save(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("저장할 주문이 null입니다.");
+        }
+        if (byId.putIfAbsent(order.getOrderId(), order) != null) {
+            throw new IllegalArgumentException("이미 등록된 주문입니다: " + order.getOrderId());
+        }
+        // 리스너를 먼저 등록해야 색인 도중의 상태 변화도 놓치지 않음
+        order.addListener(this);
+        byStatus.get(order.getStatus()).add(order);
+        byCustomerId.computeIfAbsent(order.getCustomer().getCustomerId(), k -> new ConcurrentLinkedQueue<>())
+                .add(order);
+        byOrderDate.computeIfAbsent(order.getOrderDate(), k -> new ConcurrentLinkedQueue<>())
+                .add(order);
+    }
+
+    // 주문 상태가 바뀌면 상태 인덱스를 옮긴다.
+    @Override
+    public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+        byStatus.get(from).remove(order);
+        byStatus.get(to).add(order);
+    }
+
+    public Optional<Order> findById(String orderId) {
+        return Optional.ofNullable(byId.get(orderId));
+    }
+
+    // 고객의 주문 목록 (저장한 순서)
+    public List<Order> findByCustomerId(String customerId) {
+        Queue<Order> orders = byCustomerId.get(customerId);
+        return orders == null ? List.of() : new ArrayList<>(orders);
+    }
+
+    // 현재 해당 상태인 주문 목록
+    public List<Order> findByStatus(OrderStatus status) {
+        List<Order> result = new ArrayList<>();
+        for (Order order : byStatus.get(status)) {
+            // 색인과 상태 변경이 동시에 일어난 순간의 잔여 항목은 제외
+            if (order.getStatus() == status) {
+                result.add(order);
+            }
+        }
+        return result;
+    }
+
+    // 주문 시각이 [from, to) 범위인 주문 목록 (시각 오름차순)
+    public List<Order> findByOrderDateBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간이 null입니다.");
+        }
+        List<Order> result = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return result;
+        }
+        for (Queue<Order> orders : byOrderDate.subMap(from, true, to, false).values()) {
+            result.addAll(orders);
+        }
+        return result;
+    }
+
+    public int count() {
+        return byId.size();
+    }
+}
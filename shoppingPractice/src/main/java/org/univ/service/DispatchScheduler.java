@@ -0,0 +1,284 @@
+package org.univ.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.univ.exception.DeliveryException;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
+import org.univ.strategy.delivery.Shipment;
+
+/**
+ * 배송 합포장 스케줄러: 결제된 주문의 배송 요청을 모아 주소 + 배송 방식별로 묶어 한 번에 보낸다.
+ * - 묶음은 maxShipmentSize개가 차거나, 첫 요청 후 (maxWaitPerDay × 평균 배송일 수)가 지나면 출발
+ *   (특급 배송처럼 배송일이 짧은 방식은 덜 기다림, 평균 배송일을 모르면 1일로 계산)
+ * - 묶음 배송(dispatch)은 항목별 결과를 돌려주므로 실패한 주문만 실패 처리
+ *   (묶음이 통째로 거절된 경우에만 요청마다 다시 배송, 이미 배송된 요청은 다시 보내지 않음)
+ * consolidated(method)로 감싼 배송 방식을 주문에 넘기면 Order.startDelivery 호출들이 그대로 묶인다.
+ */
+public class DispatchScheduler implements AutoCloseable {
+
+    // 묶음 키: 주소 + 배송 방식 종류
+    private static final class GroupKey {
+        final String address;
+        final Object methodKey;
+
+        GroupKey(String address, Object methodKey) {
+            this.address = address;
+            this.methodKey = methodKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof GroupKey)) {
+                return false;
+            }
+            GroupKey other = (GroupKey) o;
+            return address.equals(other.address) && methodKey.equals(other.methodKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * address.hashCode() + methodKey.hashCode();
+        }
+    }
+
+    // 아직 출발하지 않은 묶음
+    private static final class PendingShipment {
+        final GroupKey key;
+        final DeliveryMethod method;
+        final List<DeliveryRequest> requests = new ArrayList<>();
+        final List<CompletableFuture<Void>> results = new ArrayList<>();
+        ScheduledFuture<?> timer;
+
+        PendingShipment(GroupKey key, DeliveryMethod method) {
+            this.key = key;
+            this.method = method;
+        }
+    }
+
+    private final int maxShipmentSize;
+    private final long maxWaitPerDayNanos;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;  // 직접 만든 기본 실행기 (close 시 종료)
+    private final ScheduledExecutorService timer;
+    private final Map<GroupKey, PendingShipment> open = new HashMap<>();  // this로 잠금
+    private boolean closed;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong shipmentCount = new AtomicLong();
+
+    // 배송 호출을 가상 스레드(가능하면)에서 실행
+    public DispatchScheduler(int maxShipmentSize, Duration maxWaitPerDay) {
+        this(maxShipmentSize, maxWaitPerDay, null);
+    }
+
+    // executor가 null이면 기본 실행기 사용
+    public DispatchScheduler(int maxShipmentSize, Duration maxWaitPerDay, Executor executor) {
+        if (maxShipmentSize <= 0) {
+            throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다.");
+        }
+        if (maxWaitPerDay == null || maxWaitPerDay.isNegative()) {
+            throw new IllegalArgumentException("최대 대기 시간은 0 이상이어야 합니다.");
+        }
+        this.maxShipmentSize = maxShipmentSize;
+        this.maxWaitPerDayNanos = maxWaitPerDay.toNanos();
+        this.ownedExecutor = executor == null ? VirtualThreads.newPerTaskExecutor("delivery-dispatch") : null;
+        this.executor = executor == null ? ownedExecutor : executor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "delivery-dispatch-timer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 배송 요청을 묶음에 넣는다. 결과는 묶음이 배송되면 완료된다. (실패 시 DeliveryException)
+    public CompletableFuture<Void> submit(DeliveryMethod method, DeliveryRequest request) {
+        if (method == null) {
+            throw new IllegalArgumentException("배송 방식이 지정되지 않았습니다.");
+        }
+        if (request == null) {
+            throw new IllegalArgumentException("배송 요청이 null입니다.");
+        }
+        if (!request.hasAddress()) {
+            // 주소가 없으면 묶을 수 없으므로 바로 실패 (배송 방식의 검사 메시지 그대로)
+            return CompletableFuture.runAsync(() -> method.deliver(request), executor);
+        }
+        GroupKey key = new GroupKey(request.getAddress().strip(), method.consolidationKey());
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        PendingShipment full = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("배송 스케줄러가 이미 종료되었습니다.");
+            }
+            requestCount.incrementAndGet();
+            PendingShipment pending = open.get(key);
+            if (pending == null) {
+                pending = new PendingShipment(key, method);
+                open.put(key, pending);
+                PendingShipment scheduled = pending;
+                pending.timer = timer.schedule(() -> flushIfOpen(scheduled), waitNanos(method), TimeUnit.NANOSECONDS);
+            }
+            pending.requests.add(request);
+            pending.results.add(result);
+            if (pending.requests.size() >= maxShipmentSize) {
+                open.remove(key);
+                pending.timer.cancel(false);
+                full = pending;
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return result;
+    }
+
+    // 배송일이 짧은 방식일수록 덜 기다림
+    private long waitNanos(DeliveryMethod method) {
+        return maxWaitPerDayNanos * Math.max(1, method.getAverageDays());
+    }
+
+    // deliver가 이 스케줄러를 거쳐 합포장되는 배송 방식 (호출 스레드는 묶음이 배송될 때까지 기다림)
+    public DeliveryMethod consolidated(DeliveryMethod method) {
+        if (method == null) {
+            throw new IllegalArgumentException("배송 방식이 지정되지 않았습니다.");
+        }
+        return new DeliveryMethod() {
+            @Override
+            public void deliver(String productSummary) {
+                method.deliver(productSummary);
+            }
+
+            @Override
+            public void deliver(DeliveryRequest request) {
+                try {
+                    submit(method, request).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+
+            @Override
+            public int getAverageDays() {
+                return method.getAverageDays();
+            }
+        };
+    }
+
+    // 대기 시간이 지난 묶음 (그새 크기로 출발했으면 아무것도 하지 않음)
+    private void flushIfOpen(PendingShipment pending) {
+        synchronized (this) {
+            if (open.get(pending.key) != pending) {
+                return;
+            }
+            open.remove(pending.key);
+        }
+        send(pending);
+    }
+
+    private void send(PendingShipment pending) {
+        shipmentCount.incrementAndGet();
+        try {
+            executor.execute(() -> deliver(pending));
+        } catch (RuntimeException e) {
+            for (CompletableFuture<Void> result : pending.results) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    // 묶음을 배송하고 항목별 결과로 각 주문을 완료한다.
+    private static void deliver(PendingShipment pending) {
+        List<RuntimeException> failures;
+        try {
+            failures = dispatch(pending.method, pending.key.address, pending.requests);
+        } catch (RuntimeException e) {
+            for (CompletableFuture<Void> result : pending.results) {
+                result.completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < failures.size(); i++) {
+            if (failures.get(i) == null) {
+                pending.results.get(i).complete(null);
+            } else {
+                pending.results.get(i).completeExceptionally(failures.get(i));
+            }
+        }
+    }
+
+    /**
+     * 같은 주소의 배송 요청들을 한 묶음으로 배송하고 요청과 같은 순서로 항목별 실패(배송되었으면 null)를 돌려준다.
+     * 묶음 배송이 DeliveryException으로 통째로 거절되면(아무것도 배송되지 않음) 요청마다 다시 배송해
+     * 배송할 수 없는 요청만 골라낸다. 이미 배송된 요청은 다시 보내지 않는다.
+     * 그 밖의 예외는 묶음 전체의 실패로 그대로 던진다.
+     */
+    static List<RuntimeException> dispatch(DeliveryMethod method, String address, List<DeliveryRequest> requests) {
+        try {
+            List<RuntimeException> failures = method.dispatch(new Shipment(address, requests));
+            if (failures == null || failures.size() != requests.size()) {
+                throw new IllegalStateException("묶음 배송 결과 수가 요청 수와 다릅니다.");
+            }
+            return failures;
+        } catch (DeliveryException e) {
+            if (requests.size() == 1) {
+                return List.of(e);
+            }
+        }
+        List<RuntimeException> failures = new ArrayList<>(requests.size());
+        for (DeliveryRequest request : requests) {
+            try {
+                method.deliver(request);
+                failures.add(null);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    // 기다리는 묶음을 모두 바로 출발시킨다.
+    public void flush() {
+        List<PendingShipment> ready;
+        synchronized (this) {
+            ready = new ArrayList<>(open.values());
+            open.clear();
+        }
+        for (PendingShipment pending : ready) {
+            pending.timer.cancel(false);
+            send(pending);
+        }
+    }
+
+    // 새 요청을 막고 남은 묶음을 모두 출발시킨다.
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+        timer.shutdownNow();
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    // 지금까지 받은 배송 요청 수
+    public long getRequestCount() { return requestCount.get(); }
+    // 지금까지 보낸 합포장 묶음 수 (배송사 호출 수)
+    public long getShipmentCount() { return shipmentCount.get(); }
+}
@@ -0,0 +1,171 @@
+package org.univ.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 중복 제거 캐시: 같은 키의 작업은 한 번만 실행하고, 이후 요청에는 처음 결과를 돌려준다.
+ * - 처리 중인 키로 다시 요청하면 새로 실행하지 않고 진행 중인 결과를 함께 기다림
+ * - 실패한 작업은 캐시에 남기지 않으므로 같은 키로 다시 시도할 수 있음
+ * - 완료된 항목은 완료 후 ttl이 지나면 만료되고, maxEntries를 넘으면 오래된 항목부터 내보냄
+ * - 진행 중인 항목은 만료되거나 내보내지지 않고 크기에도 세지 않음 (내보내면 같은 키의 작업이 다시 실행되므로)
+ * TTL이 모든 항목에 같으므로 완료 순서가 곧 만료 순서다. 완료 순서 큐의 앞에서부터 정리한다.
+ */
+public class IdempotencyCache<V> {
+
+    // 캐시 항목: 결과(진행 중이면 미완료)와 만료 시각 (진행 중에는 만료되지 않음)
+    private static final class Entry<V> {
+        final String key;
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<V>> completionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public IdempotencyCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("만료 시간은 0보다 커야 합니다.");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 지정되지 않았습니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * key로 처음 요청되면 action을 호출 스레드에서 실행하고 결과를 캐시한다.
+     * 같은 key의 이후 요청은 action을 실행하지 않고 처음 결과를 돌려준다. (진행 중이면 끝날 때까지 대기)
+     * action이 던진 예외는 그대로 전달된다.
+     */
+    public V execute(String key, Supplier<V> action) {
+        try {
+            return executeAsync(key, () -> CompletableFuture.completedFuture(action.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // execute의 비동기 버전: action은 처음 요청에서만 호출된다.
+    public CompletableFuture<V> executeAsync(String key, Supplier<CompletableFuture<V>> action) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("멱등성 키는 필수입니다.");
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("실행할 작업이 null입니다.");
+        }
+        long now = clock.millis();
+        Entry<V> fresh = new Entry<>(key);
+        while (true) {
+            Entry<V> existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                break;
+            }
+            if (existing.expiresAtMillis > now) {
+                hitCount.incrementAndGet();
+                return existing.result;
+            }
+            // 만료된 항목은 지우고 다시 등록 시도
+            entries.remove(key, existing);
+        }
+        inFlightCount.incrementAndGet();
+        evict(now);
+
+        CompletableFuture<V> started;
+        try {
+            started = action.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((value, error) -> {
+            inFlightCount.decrementAndGet();
+            if (error != null) {
+                entries.remove(key, fresh);
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                fresh.result.completeExceptionally(cause);
+            } else {
+                // 완료된 뒤부터 만료 시간을 재고 크기 제한 대상에 넣음
+                long completedAt = clock.millis();
+                fresh.expiresAtMillis = completedAt + ttlMillis;
+                completionOrder.add(fresh);
+                evict(completedAt);
+                fresh.result.complete(value);
+            }
+        });
+        return fresh.result;
+    }
+
+    /**
+     * 만료된 항목과 크기를 넘는 오래된 항목을 완료 순서대로 내보낸다. (무효화로 이미 빠진 항목도 정리)
+     * 큐에는 완료된 항목만 있으므로 진행 중인 항목은 내보내지 않고, 크기도 진행 중인 항목을 빼고 센다.
+     */
+    private void evict(long now) {
+        Entry<V> head;
+        while ((head = completionOrder.peek()) != null
+                && (head.expiresAtMillis <= now || entries.size() - inFlightCount.get() > maxEntries
+                        || entries.get(head.key) != head)) {
+            if (completionOrder.remove(head) && entries.remove(head.key, head)) {
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    // 완료되어 만료되지 않은 결과 (진행 중이거나 없으면 빈 값)
+    public Optional<V> get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAtMillis <= clock.millis()
+                || !entry.result.isDone() || entry.result.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.result.join());
+    }
+
+    // 키를 지워 다음 요청이 작업을 다시 실행하게 한다.
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    // 진행 중인 항목을 포함한 항목 수
+    public int size() {
+        return entries.size();
+    }
+
+    // 중복 요청으로 처음 결과를 돌려준 횟수
+    public long getHitCount() { return hitCount.get(); }
+    // 만료/크기 초과로 내보낸 항목 수
+    public long getEvictionCount() { return evictionCount.get(); }
+}
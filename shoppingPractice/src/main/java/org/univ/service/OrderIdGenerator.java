@@ -0,0 +1,26 @@
+package org.univ.service;
+
+/**
+ * 주문 ID 생성기: OrderService가 새 주문에 붙일 ID를 만든다.
+ * 모든 ID는 "ORD-"로 시작하고, 한 생성기가 만든 ID는 서로 겹치지 않아야 한다.
+ */
+public interface OrderIdGenerator {
+
+    // 주문 ID 접두사
+    String PREFIX = "ORD-";
+
+    // 새 주문 ID 하나
+    String nextId();
+
+    // 일괄 주문용 ID count개 (기본은 nextId를 count번 호출)
+    default String[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("ID 개수는 0 이상이어야 합니다.");
+        }
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+}
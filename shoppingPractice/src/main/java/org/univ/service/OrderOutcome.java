@@ -0,0 +1,44 @@
+package org.univ.service;
+
+import org.univ.domain.order.Order;
+
+// 일괄 주문에서 요청 한 건의 처리 결과: 성공이면 주문, 실패면 실패 유형과 사유
+public final class OrderOutcome {
+
+    // 처리 결과 유형
+    public enum Status {
+        SUCCESS("주문 성공"),
+        STOCK_OUT("재고 부족"),
+        PAYMENT_FAILED("결제 실패"),
+        DELIVERY_FAILED("배송 실패"),
+        REJECTED("잘못된 요청");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final OrderRequest request;   // 원래 요청
+    private final Status status;          // 결과 유형
+    private final Order order;            // 생성된 주문 (요청이 잘못되어 주문을 만들지 못했으면 null)
+    private final String message;         // 실패 사유 (성공이면 null)
+
+    OrderOutcome(OrderRequest request, Status status, Order order, String message) {
+        this.request = request;
+        this.status = status;
+        this.order = order;
+        this.message = message;
+    }
+
+    public OrderRequest getRequest() { return request; }
+    public Status getStatus() { return status; }
+    public Order getOrder() { return order; }
+    public String getMessage() { return message; }
+    public boolean isSuccess() { return status == Status.SUCCESS; }
+}
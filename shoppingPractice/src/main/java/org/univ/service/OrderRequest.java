@@ -0,0 +1,30 @@
+package org.univ.service;
+
+import java.util.List;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.product.Product;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.payment.PaymentMethod;
+
+// 일괄 주문(placeOrders)의 주문 요청 한 건: placeOrder의 인자를 묶은 값 객체
+public final class OrderRequest {
+    private final Customer customer;               // 주문 고객
+    private final List<Product> products;          // 주문 상품 목록 (같은 상품 중복 가능)
+    private final PaymentMethod paymentMethod;     // 결제 방식
+    private final DeliveryMethod deliveryMethod;   // 배송 방식
+
+    public OrderRequest(Customer customer,
+                        List<Product> products,
+                        PaymentMethod paymentMethod,
+                        DeliveryMethod deliveryMethod) {
+        this.customer = customer;
+        this.products = products;
+        this.paymentMethod = paymentMethod;
+        this.deliveryMethod = deliveryMethod;
+    }
+
+    public Customer getCustomer() { return customer; }
+    public List<Product> getProducts() { return products; }
+    public PaymentMethod getPaymentMethod() { return paymentMethod; }
+    public DeliveryMethod getDeliveryMethod() { return deliveryMethod; }
+}
@@ -1,43 +1,222 @@
 package org.univ.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import org.univ.domain.customer.Customer;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.inventory.StockHold;
 import org.univ.domain.product.Product;
 import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderLine;
+import org.univ.domain.order.OrderListener;
+import org.univ.domain.order.OrderMetrics;
+import org.univ.exception.DeliveryException;
 import org.univ.exception.IllegalOrderStateException;
+import org.univ.exception.PaymentException;
+import org.univ.exception.StockUnavailableException;
+import org.univ.metrics.MetricsRegistry;
+import org.univ.repository.OrderRepository;
 import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentRequest;
+import org.univ.strategy.payment.PaymentResult;
 import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
 
 public class OrderService {
 
+    // 비동기 주문 처리에 기본으로 쓰는 실행기 (가능하면 가상 스레드, 처음 사용할 때 생성)
+    private static final class DefaultAsyncExecutor {
+        static final ExecutorService INSTANCE = VirtualThreads.newPerTaskExecutor("order-async");
+    }
+
+    // 일괄 주문에서 결제 승인/배송을 한 번에 묶는 최대 주문 수
+    static final int BATCH_CHUNK_SIZE = 32;
+    // 기본 멱등성 캐시: 최근 1시간, 최대 10만 개 키의 주문 결과 보관
+    static final int DEFAULT_IDEMPOTENCY_ENTRIES = 100_000;
+    static final Duration DEFAULT_IDEMPOTENCY_TTL = Duration.ofHours(1);
+    // 기본 주문 ID 생성기의 노드 ID를 정하는 시스템 속성 (서버마다 다른 값, 0~65535)
+    static final String NODE_ID_PROPERTY = "shop.nodeId";
+
+    // 기본 주문 ID 생성기 (처음 사용할 때 생성, 같은 JVM의 서비스들이 함께 사용해 ID가 겹치지 않음)
+    private static final class DefaultIdGenerator {
+        static final OrderIdGenerator INSTANCE = defaultIdGenerator(System.getProperty(NODE_ID_PROPERTY));
+    }
+
+    // 재고 예약 장부 (주문들이 공유)
+    private final ReservationLedger ledger;
+    // placeOrderAsync의 각 단계를 실행할 실행기 (null이면 기본 실행기)
+    private final Executor asyncExecutor;
+    // 처리에 성공한 주문을 보관하는 저장소
+    private final OrderRepository orderRepository;
+    // 이 서비스가 만드는 모든 주문에 등록할 리스너 (예: 주문 로그)
+    private final List<OrderListener> orderListeners = new CopyOnWriteArrayList<>();
+    // 멱등성 키별 주문 결과 (재시도된 요청에 처음 주문을 돌려줌)
+    private final IdempotencyCache<Order> idempotencyCache;
+    // 새 주문에 붙일 ID 생성기
+    private final OrderIdGenerator idGenerator;
+    // 주문 처리 단계별 지연/실패 계측
+    private final OrderMetrics metrics;
+
+    // 만료 없는 재고 예약(즉시 차감, 실패 시 복구)으로 동작
+    public OrderService() {
+        this(ReservationLedger.untimed());
+    }
+
+    // 지정한 장부의 TTL로 재고를 hold하고, 결제 시 확정
+    public OrderService(ReservationLedger ledger) {
+        this(ledger, null);
+    }
+
+    // 비동기 주문 처리 단계를 지정한 실행기에서 실행
+    public OrderService(ReservationLedger ledger, Executor asyncExecutor) {
+        this(ledger, asyncExecutor, new OrderRepository());
+    }
+
+    // 처리에 성공한 주문을 지정한 저장소에 저장
+    public OrderService(ReservationLedger ledger, Executor asyncExecutor, OrderRepository orderRepository) {
+        this(ledger, asyncExecutor, orderRepository,
+                new IdempotencyCache<>(DEFAULT_IDEMPOTENCY_ENTRIES, DEFAULT_IDEMPOTENCY_TTL));
+    }
+
+    // 멱등성 키 중복 제거에 지정한 캐시 사용
+    public OrderService(ReservationLedger ledger,
+                        Executor asyncExecutor,
+                        OrderRepository orderRepository,
+                        IdempotencyCache<Order> idempotencyCache) {
+        this(ledger, asyncExecutor, orderRepository, idempotencyCache, DefaultIdGenerator.INSTANCE);
+    }
+
+    /**
+     * 노드 ID 설정값으로 기본 주문 ID 생성기를 고른다.
+     * 값이 있으면 그 노드 ID의 시간순 ID(SnowflakeOrderIdGenerator), 없으면 UUID ID
+     * (노드 ID를 정하지 않고 시간순 ID를 쓰면 서버들이 같은 노드 ID로 겹치는 ID를 만들 수 있음)
+     * 정수가 아니거나 범위를 벗어나면 IllegalArgumentException
+     */
+    static OrderIdGenerator defaultIdGenerator(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            return new UuidOrderIdGenerator();
+        }
+        try {
+            return new SnowflakeOrderIdGenerator(Integer.parseInt(nodeId.strip()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(NODE_ID_PROPERTY + "는 정수여야 합니다: " + nodeId);
+        }
+    }
+
+    // 주문 ID를 지정한 생성기로 만듦 (예: 서버마다 노드 ID가 다른 SnowflakeOrderIdGenerator)
+    public OrderService(ReservationLedger ledger,
+                        Executor asyncExecutor,
+                        OrderRepository orderRepository,
+                        IdempotencyCache<Order> idempotencyCache,
+                        OrderIdGenerator idGenerator) {
+        this(ledger, asyncExecutor, orderRepository, idempotencyCache, idGenerator, OrderMetrics.global());
+    }
+
+    // 단계별 지연/실패 지표를 지정한 계측(레지스트리)에 기록
+    public OrderService(ReservationLedger ledger,
+                        Executor asyncExecutor,
+                        OrderRepository orderRepository,
+                        IdempotencyCache<Order> idempotencyCache,
+                        OrderIdGenerator idGenerator,
+                        OrderMetrics metrics) {
+        if (ledger == null) {
+            throw new IllegalArgumentException("재고 예약 장부가 지정되지 않았습니다.");
+        }
+        if (orderRepository == null) {
+            throw new IllegalArgumentException("주문 저장소가 지정되지 않았습니다.");
+        }
+        if (idempotencyCache == null) {
+            throw new IllegalArgumentException("멱등성 캐시가 지정되지 않았습니다.");
+        }
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("주문 ID 생성기가 지정되지 않았습니다.");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("주문 계측이 지정되지 않았습니다.");
+        }
+        this.ledger = ledger;
+        this.idGenerator = idGenerator;
+        this.metrics = metrics;
+        this.idempotencyCache = idempotencyCache;
+        this.asyncExecutor = asyncExecutor;
+        this.orderRepository = orderRepository;
+    }
+
+    // 단계별 지연/실패 지표가 기록되는 레지스트리 (dump()로 텍스트 출력)
+    public MetricsRegistry getMetricsRegistry() {
+        return metrics.getRegistry();
+    }
+
+    // 주문 저장소 반환 (주문 ID/고객/상태/기간별 조회)
+    public OrderRepository getOrderRepository() {
+        return orderRepository;
+    }
+
+    // 이후 생성되는 모든 주문에 등록할 리스너 추가 (생성 알림 onCreated부터 받음)
+    public void addOrderListener(OrderListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("리스너가 null입니다.");
+        }
+        orderListeners.add(listener);
+    }
+
+    /**
+     * 주문 로그 등에서 복구한 주문을 서비스에 다시 등록한다.
+     * 서비스 리스너를 붙이고(생성 알림은 다시 보내지 않음) 저장소에 저장한다.
+     */
+    public void restore(List<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("복구할 주문 목록이 null입니다.");
+        }
+        for (Order order : orders) {
+            for (OrderListener listener : orderListeners) {
+                order.addListener(listener);
+            }
+            orderRepository.save(order);
+        }
+    }
+
     /**
-     * 주문 생성 → 상품 예약(재고 차감) → 결제 → 배송
+     * 저장된 주문을 취소한다. 상태는 바로 바뀌고 재고 반환/알림은 백그라운드에서 진행된다.
+     * 없는 주문 ID면 IllegalArgumentException, 배송이 시작된 주문이면 IllegalOrderStateException
+     */
+    public CompletableFuture<Void> cancelOrder(String orderId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
+        try {
+            return order.cancel();
+        } catch (IllegalStateException e) {
+            throw new IllegalOrderStateException("주문 취소 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 주문 생성 → 상품 예약(재고 hold) → 결제(hold 확정) → 배송
      * 중간에 실패하면 예약된 재고를 모두 복구(롤백)
+     * 재고 예약과 복구는 단위 수가 아니라 SKU 수만큼만 수행된다
      */
     public Order placeOrder(Customer customer,
                             List<Product> products,
                             PaymentMethod paymentMethod,
                             DeliveryMethod deliveryMethod) {
+        long start = System.nanoTime();
         // 1. 주문 객체 생성 (빈 상품 리스트 허용)
-        Order order = new Order(
-                generateOrderId(),
-                customer,
-                List.of(),
-                paymentMethod,
-                deliveryMethod
-        );
-
-        // 예약된 상품 추적
-        List<Product> reserved = new ArrayList<>();
+        Order order = createOrder(customer, paymentMethod, deliveryMethod);
 
         try {
-            // 2. 상품 예약(addProduct가 내부에서 updateStock(-1) 호출)
-            for (Product p : products) {
-                order.addProduct(p);
-                reserved.add(p);
-            }
+            // 2. 상품 예약
+            reserve(order, products);
 
             // 3. 결제 처리
             order.processPayment();
@@ -45,22 +224,454 @@ public class OrderService {
             // 4. 배송 처리
             order.startDelivery();
 
-            // 5. 최종 주문 반환 (상태가 SHIPPED)
+            // 5. 저장 후 최종 주문 반환 (상태가 SHIPPED)
+            orderRepository.save(order);
+            metrics.place().success(start);
             return order;
 
         } catch (Exception e) {
-            // 실패 시: 예약된 재고 모두 복구
-            for (Product p : reserved) {
-                try {
-                    p.updateStock(+1); // 복구
-                } catch (Exception ignore) {}
+            metrics.place().failure(start, e.getClass());
+            throw rollback(order, e);
+        }
+    }
+
+    /**
+     * placeOrder의 예외 없는 버전: 재고 부족, 결제 거절, 배송 실패를 예외 대신 결과(PlaceOrderResult)로 돌려준다.
+     * 실패하면 예약된 재고를 모두 복구한다. 재고 부족과 결제 거절 경로에서는 예외 객체를 만들지 않는다.
+     * 그 밖의 오류(잘못된 인자, 동시 취소 등)는 placeOrder와 같이 IllegalOrderStateException으로 던진다.
+     */
+    public PlaceOrderResult tryPlaceOrder(Customer customer,
+                                          List<Product> products,
+                                          PaymentMethod paymentMethod,
+                                          DeliveryMethod deliveryMethod) {
+        long start = System.nanoTime();
+        PlaceOrderResult result = tryPlace(start, customer, products, paymentMethod, deliveryMethod);
+        if (result.isSuccess()) {
+            metrics.place().success(start);
+        } else {
+            metrics.place().failure(start, failureType(result.getStatus()));
+        }
+        return result;
+    }
+
+    private PlaceOrderResult tryPlace(long start,
+                                      Customer customer,
+                                      List<Product> products,
+                                      PaymentMethod paymentMethod,
+                                      DeliveryMethod deliveryMethod) {
+        Order order = createOrder(customer, paymentMethod, deliveryMethod);
+
+        try {
+            // 1. 상품 예약 (재고가 부족하면 아무것도 잡지 않음)
+            OrderLine missing = order.tryAddLines(OrderLine.groupByProduct(products));
+            if (missing != null) {
+                return stockOut(order, missing.getProduct(), missing.getQuantity());
+            }
+
+            // 2. hold 만료 확인 (만료된 hold가 있으면 나머지도 반환됨, 확정은 결제 승인 뒤에)
+            StockHold expired = order.findExpiredReservation();
+            if (expired != null) {
+                return stockOut(order, expired.getProduct(), expired.getQuantity());
             }
-            throw new IllegalOrderStateException("주문 처리 실패: " + e.getMessage());
+
+            // 3. 결제 (거절은 결과로 받음)
+            PaymentResult payment = order.tryProcessPayment();
+            if (!payment.isApproved()) {
+                order.releaseReservations();
+                return new PlaceOrderResult.PaymentDeclined(order, payment.getReason());
+            }
+
+            // 4. 배송
+            try {
+                order.startDelivery();
+            } catch (DeliveryException e) {
+                order.releaseReservations();
+                return new PlaceOrderResult.DeliveryFailed(order, e.getMessage());
+            }
+
+            // 5. 저장 후 결과 반환
+            orderRepository.save(order);
+            return new PlaceOrderResult.Placed(order);
+
+        } catch (Exception e) {
+            metrics.place().failure(start, e.getClass());
+            throw rollback(order, e);
+        }
+    }
+
+    // 결과 유형에 대응하는 실패 유형 (예외 기반 placeOrder와 같은 분류로 집계)
+    private static Class<? extends RuntimeException> failureType(OrderOutcome.Status status) {
+        switch (status) {
+            case STOCK_OUT:
+                return StockUnavailableException.class;
+            case PAYMENT_FAILED:
+                return PaymentException.class;
+            case DELIVERY_FAILED:
+                return DeliveryException.class;
+            default:
+                return IllegalOrderStateException.class;
+        }
+    }
+
+    private static PlaceOrderResult stockOut(Order order, Product product, int requested) {
+        return new PlaceOrderResult.StockOut(order, product, requested, product.getStockQuantity());
+    }
+
+    /**
+     * 멱등성 키를 붙인 placeOrder: 같은 키로 다시 요청하면 주문/결제를 반복하지 않고 처음 주문을 돌려준다.
+     * 처음 요청이 아직 진행 중이면 그 결과를 기다린다. 실패한 요청은 기억하지 않으므로 같은 키로 재시도할 수 있다.
+     * (타임아웃 후 클라이언트 재시도로 인한 이중 결제 방지)
+     */
+    public Order placeOrder(String idempotencyKey,
+                            Customer customer,
+                            List<Product> products,
+                            PaymentMethod paymentMethod,
+                            DeliveryMethod deliveryMethod) {
+        return idempotencyCache.execute(idempotencyKey,
+                () -> placeOrder(customer, products, paymentMethod, deliveryMethod));
+    }
+
+    /**
+     * placeOrder의 비동기 버전.
+     * 예약 → 결제 → 배송 각 단계를 비동기 실행기(기본: 가상 스레드)에서 차례로 실행하므로
+     * 느린 PaymentMethod.pay / DeliveryMethod.deliver를 기다리는 동안 호출 스레드를 붙잡지 않는다.
+     * 실패 시 재고를 복구하고 IllegalOrderStateException으로 완료된다.
+     */
+    public CompletableFuture<Order> placeOrderAsync(Customer customer,
+                                                    List<Product> products,
+                                                    PaymentMethod paymentMethod,
+                                                    DeliveryMethod deliveryMethod) {
+        long start = System.nanoTime();
+        Order order = createOrder(customer, paymentMethod, deliveryMethod);
+        Executor executor = asyncExecutor != null ? asyncExecutor : DefaultAsyncExecutor.INSTANCE;
+
+        return CompletableFuture
+                .runAsync(() -> reserve(order, products), executor)
+                .thenRunAsync(order::processPayment, executor)
+                .thenRunAsync(order::startDelivery, executor)
+                .handle((ignored, error) -> {
+                    if (error == null) {
+                        orderRepository.save(order);
+                        metrics.place().success(start);
+                        return order;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    metrics.place().failure(start, cause.getClass());
+                    throw rollback(order, cause);
+                });
+    }
+
+    /**
+     * 결제/배송 단계를 우선 처리 레인에서 실행하는 placeOrderAsync.
+     * 재고 예약은 호출 스레드에서 바로 하고, 냉장 상품이 든 주문은 레인에서 일반 주문보다 먼저 결제/배송된다.
+     * 실패 시 재고를 복구하고 IllegalOrderStateException으로 완료된다.
+     */
+    public CompletableFuture<Order> placeOrderAsync(Customer customer,
+                                                    List<Product> products,
+                                                    PaymentMethod paymentMethod,
+                                                    DeliveryMethod deliveryMethod,
+                                                    PriorityOrderLane lane) {
+        if (lane == null) {
+            throw new IllegalArgumentException("처리 레인이 지정되지 않았습니다.");
+        }
+        long start = System.nanoTime();
+        Order order = createOrder(customer, paymentMethod, deliveryMethod);
+        try {
+            reserve(order, products);
+        } catch (Exception e) {
+            metrics.place().failure(start, e.getClass());
+            return CompletableFuture.failedFuture(rollback(order, e));
+        }
+
+        CompletableFuture<Order> processed;
+        try {
+            processed = lane.submit(order.requiresColdChain(), () -> {
+                order.processPayment();
+                order.startDelivery();
+                orderRepository.save(order);
+                return order;
+            });
+        } catch (RuntimeException e) {
+            // 레인이 이미 종료되어 작업을 넣지 못했으면 잡아 둔 재고를 돌려준다
+            metrics.place().failure(start, e.getClass());
+            return CompletableFuture.failedFuture(rollback(order, e));
+        }
+        return processed.handle((result, error) -> {
+            if (error == null) {
+                metrics.place().success(start);
+                return result;
+            }
+            metrics.place().failure(start, error.getClass());
+            throw rollback(order, error);
+        });
+    }
+
+    // 멱등성 키를 붙인 placeOrderAsync (같은 키의 재요청은 처음 주문의 결과를 함께 받음)
+    public CompletableFuture<Order> placeOrderAsync(String idempotencyKey,
+                                                    Customer customer,
+                                                    List<Product> products,
+                                                    PaymentMethod paymentMethod,
+                                                    DeliveryMethod deliveryMethod) {
+        return idempotencyCache.executeAsync(idempotencyKey,
+                () -> placeOrderAsync(customer, products, paymentMethod, deliveryMethod));
+    }
+
+    /**
+     * 여러 주문 요청을 한꺼번에 처리한다. 요청마다 결과(OrderOutcome)를 같은 순서로 반환하며,
+     * 한 요청의 실패가 다른 요청을 롤백하지 않는다.
+     * - 주문 ID: 생성기의 nextIds로 배치 크기만큼 한 번에 받음
+     * - 재고: 모든 요청의 재고를 한 번의 순회로 예약 (재고 부족 요청은 STOCK_OUT)
+     * - 결제: 결제 수단 종류(batchKey)가 같은 주문을 BATCH_CHUNK_SIZE개씩 묶어 authorizeBatch 한 번으로 승인
+     *   (같은 게이트웨이의 카드/계좌 결제는 게이트웨이 호출 한 번)
+     * - 배송: 주소와 배송 방식 종류가 같은 결제 완료 주문을 BATCH_CHUNK_SIZE개씩 묶어 dispatch 한 번으로 배송
+     * - 묶음들은 비동기 실행기에서 동시에 처리
+     */
+    public List<OrderOutcome> placeOrders(List<OrderRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("주문 요청 목록이 null입니다.");
+        }
+        int size = requests.size();
+        OrderOutcome[] outcomes = new OrderOutcome[size];
+        Order[] orders = new Order[size];
+        String[] orderIds = idGenerator.nextIds(size);
+
+        // 1. 주문 생성 + 재고 예약 (한 번의 순회)
+        for (int i = 0; i < size; i++) {
+            OrderRequest request = requests.get(i);
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("주문 요청이 null입니다.");
+                }
+                orders[i] = createOrder(
+                        orderIds[i],
+                        request.getCustomer(),
+                        request.getPaymentMethod(),
+                        request.getDeliveryMethod()
+                );
+                // 재고 부족은 예외 없이 결과로 처리
+                OrderLine missing = orders[i].tryAddLines(OrderLine.groupByProduct(request.getProducts()));
+                if (missing != null) {
+                    outcomes[i] = new OrderOutcome(request, OrderOutcome.Status.STOCK_OUT, orders[i],
+                            stockOut(orders[i], missing.getProduct(), missing.getQuantity()).getMessage());
+                    orders[i] = null;
+                }
+            } catch (RuntimeException e) {
+                outcomes[i] = failure(request, orders[i], e);
+                orders[i] = null;
+            }
+        }
+
+        Executor executor = asyncExecutor != null ? asyncExecutor : DefaultAsyncExecutor.INSTANCE;
+
+        // 2. 결제: 결제 수단 종류(batchKey)가 같은 주문끼리 묶어 묶음마다 authorizeBatch 한 번으로 승인
+        PaymentRequest[] payments = new PaymentRequest[size];
+        Map<Object, List<Integer>> paymentGroups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (orders[i] == null) {
+                continue;
+            }
+            try {
+                payments[i] = orders[i].preparePayment();
+                paymentGroups.computeIfAbsent(payments[i].getMethod().batchKey(), k -> new ArrayList<>()).add(i);
+            } catch (RuntimeException e) {
+                outcomes[i] = failure(requests.get(i), orders[i], e);
+                orders[i] = null;
+            }
+        }
+        runChunks(paymentGroups.values(), chunk -> authorizeChunk(requests, orders, outcomes, payments, chunk), executor);
+
+        // 3. 배송: 주소와 배송 방식 종류(consolidationKey)가 같은 주문끼리 묶어 묶음마다 dispatch 한 번으로 배송
+        DeliveryRequest[] deliveries = new DeliveryRequest[size];
+        Map<List<Object>, List<Integer>> deliveryGroups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (orders[i] == null) {
+                continue;
+            }
+            try {
+                deliveries[i] = orders[i].prepareDelivery();
+                List<Object> key = List.of(deliveries[i].getAddress().strip(),
+                        orders[i].getDeliveryMethod().consolidationKey());
+                deliveryGroups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            } catch (RuntimeException e) {
+                outcomes[i] = failure(requests.get(i), orders[i], e);
+                orders[i] = null;
+            }
+        }
+        runChunks(deliveryGroups.values(), chunk -> dispatchChunk(requests, orders, outcomes, deliveries, chunk), executor);
+
+        return Arrays.asList(outcomes);
+    }
+
+    // 묶음마다 BATCH_CHUNK_SIZE개씩 잘라 실행기에서 동시에 처리하고 모두 끝날 때까지 기다린다.
+    private static void runChunks(Collection<List<Integer>> groups, Consumer<List<Integer>> action, Executor executor) {
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (List<Integer> group : groups) {
+            for (int from = 0; from < group.size(); from += BATCH_CHUNK_SIZE) {
+                List<Integer> chunk = group.subList(from, Math.min(group.size(), from + BATCH_CHUNK_SIZE));
+                chunks.add(CompletableFuture.runAsync(() -> action.accept(chunk), executor));
+            }
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    /**
+     * 같은 batchKey의 주문들을 authorizeBatch 한 번으로 승인하고 주문마다 결과를 반영한다.
+     * 묶음 승인 호출 자체가 예외로 끝나면 묶음의 주문은 모두 그 예외로 실패한다.
+     */
+    private void authorizeChunk(List<OrderRequest> requests, Order[] orders, OrderOutcome[] outcomes,
+                                PaymentRequest[] payments, List<Integer> chunk) {
+        long start = System.nanoTime();
+        List<PaymentRequest> batch = new ArrayList<>(chunk.size());
+        for (int i : chunk) {
+            batch.add(payments[i]);
+        }
+        List<PaymentResult> results;
+        try {
+            results = batch.get(0).getMethod().authorizeBatch(batch);
+            if (results == null || results.size() != batch.size()) {
+                throw new IllegalStateException("일괄 승인 결과 수가 요청 수와 다릅니다.");
+            }
+        } catch (RuntimeException e) {
+            for (int i : chunk) {
+                metrics.payment().failure(start, e.getClass());
+                outcomes[i] = failure(requests.get(i), orders[i], e);
+                orders[i] = null;
+            }
+            return;
+        }
+        for (int k = 0; k < chunk.size(); k++) {
+            int i = chunk.get(k);
+            try {
+                // 결제 거절은 예외 없이 결과로 처리
+                PaymentResult payment = orders[i].completePayment(results.get(k));
+                if (payment.isApproved()) {
+                    metrics.payment().success(start);
+                } else {
+                    metrics.payment().failure(start, PaymentException.class);
+                    orders[i].releaseReservations();
+                    outcomes[i] = new OrderOutcome(requests.get(i), OrderOutcome.Status.PAYMENT_FAILED, orders[i],
+                            "결제 실패: " + payment.getReason());
+                    orders[i] = null;
+                }
+            } catch (RuntimeException e) {
+                metrics.payment().failure(start, e.getClass());
+                outcomes[i] = failure(requests.get(i), orders[i], e);
+                orders[i] = null;
+            }
+        }
+    }
+
+    // 같은 주소/배송 방식의 주문들을 합포장 한 번으로 배송하고, 배송된 주문만 SHIPPED로 바꿔 저장한다.
+    private void dispatchChunk(List<OrderRequest> requests, Order[] orders, OrderOutcome[] outcomes,
+                               DeliveryRequest[] deliveries, List<Integer> chunk) {
+        long start = System.nanoTime();
+        List<DeliveryRequest> batch = new ArrayList<>(chunk.size());
+        for (int i : chunk) {
+            batch.add(deliveries[i]);
+        }
+        int first = chunk.get(0);
+        List<RuntimeException> failures;
+        try {
+            failures = DispatchScheduler.dispatch(orders[first].getDeliveryMethod(), batch.get(0).getAddress().strip(), batch);
+        } catch (RuntimeException e) {
+            for (int i : chunk) {
+                metrics.delivery().failure(start, e.getClass());
+                outcomes[i] = failure(requests.get(i), orders[i], deliveryFailure(e));
+            }
+            return;
+        }
+        for (int k = 0; k < chunk.size(); k++) {
+            int i = chunk.get(k);
+            try {
+                if (failures.get(k) != null) {
+                    throw deliveryFailure(failures.get(k));
+                }
+                orders[i].completeDelivery();
+                metrics.delivery().success(start);
+                orderRepository.save(orders[i]);
+                outcomes[i] = new OrderOutcome(requests.get(i), OrderOutcome.Status.SUCCESS, orders[i], null);
+            } catch (RuntimeException e) {
+                metrics.delivery().failure(start, e.getClass());
+                outcomes[i] = failure(requests.get(i), orders[i], e);
+            }
+        }
+    }
+
+    // 배송 실패 메시지를 Order.startDelivery와 같은 형식으로 맞춘다.
+    private static RuntimeException deliveryFailure(RuntimeException e) {
+        return e instanceof DeliveryException
+                ? DeliveryException.withoutStackTrace("배송 실패: " + e.getMessage())
+                : e;
+    }
+
+    // 실패한 요청의 재고를 복구하고, 예외 종류에 따라 결과 유형을 정한다
+    private OrderOutcome failure(OrderRequest request, Order order, RuntimeException e) {
+        if (order != null) {
+            order.releaseReservations();
+        }
+        OrderOutcome.Status status;
+        if (e instanceof StockUnavailableException) {
+            status = OrderOutcome.Status.STOCK_OUT;
+        } else if (e instanceof PaymentException) {
+            status = OrderOutcome.Status.PAYMENT_FAILED;
+        } else if (e instanceof DeliveryException) {
+            status = OrderOutcome.Status.DELIVERY_FAILED;
+        } else {
+            status = OrderOutcome.Status.REJECTED;
+        }
+        return new OrderOutcome(request, status, order, e.getMessage());
+    }
+
+    // 빈 주문 생성 (상태 PENDING)
+    private Order createOrder(Customer customer,
+                              PaymentMethod paymentMethod,
+                              DeliveryMethod deliveryMethod) {
+        return createOrder(generateOrderId(), customer, paymentMethod, deliveryMethod);
+    }
+
+    // 지정한 ID로 빈 주문을 만들고 서비스 리스너를 등록한 뒤 생성 알림
+    private Order createOrder(String orderId,
+                              Customer customer,
+                              PaymentMethod paymentMethod,
+                              DeliveryMethod deliveryMethod) {
+        Order order = new Order(
+                orderId,
+                customer,
+                List.of(),
+                paymentMethod,
+                deliveryMethod,
+                ledger,
+                metrics
+        );
+        for (OrderListener listener : orderListeners) {
+            order.addListener(listener);
+            listener.onCreated(order);
+        }
+        return order;
+    }
+
+    // 상품 예약: SKU별 주문 라인으로 묶은 뒤(productId 오름차순)
+    // SKU마다 hold 1회, 전부 성공하거나 전부 실패
+    private void reserve(Order order, List<Product> products) {
+        order.addLines(OrderLine.groupByProduct(products));
+    }
+
+    // 실패 시: 예약된 재고 모두 복구 (hold당 1회) 후 주문 예외로 변환
+    // 재고 부족/결제/배송 실패는 예상된 실패라 메시지만 담고 스택 트레이스는 생략, 그 밖의 오류는 원인 예외를 그대로 담는다
+    private IllegalOrderStateException rollback(Order order, Throwable cause) {
+        order.releaseReservations();
+        String message = "주문 처리 실패: " + cause.getMessage();
+        if (cause instanceof StockUnavailableException
+                || cause instanceof PaymentException
+                || cause instanceof DeliveryException) {
+            return IllegalOrderStateException.withoutStackTrace(message);
         }
+        return new IllegalOrderStateException(message, cause);
     }
 
-    // 주문 ID 생성 (UUID 기반)
+    // 주문 ID 생성 (지정한 생성기 사용)
     private String generateOrderId() {
-        return "ORD-" + UUID.randomUUID();
+        return idGenerator.nextId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,220 @@
+package org.univ.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentRequest;
+import org.univ.strategy.payment.PaymentResult;
+
+/**
+ * 결제 승인 마이크로 배칭: 여러 스레드에서 동시에 들어온 승인 요청을 모아 일괄 승인으로 보낸다.
+ * - 수집 스레드 하나가 첫 요청을 받은 뒤 maxBatchSize개가 차거나 maxWait가 지나면 묶음을 닫음
+ * - 묶음 안에서 batchKey가 같은 요청끼리(같은 결제 수단 종류/게이트웨이) authorizeBatch 한 번으로 처리
+ * - 승인 호출은 실행기에서 돌리므로 느린 게이트웨이를 기다리는 동안에도 다음 묶음을 계속 모음
+ * batched(method)로 감싼 결제 수단을 주문에 넘기면 Order.processPayment 호출들이 그대로 묶인다.
+ */
+public class PaymentBatchDispatcher implements AutoCloseable {
+
+    // 대기 중인 승인 요청 하나
+    private static final class Pending {
+        final PaymentRequest request;
+        final CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+
+        Pending(PaymentRequest request) {
+            this.request = request;
+        }
+    }
+
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;  // 직접 만든 기본 실행기 (close 시 종료)
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread collector;
+    private volatile boolean closed;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    // 승인 호출을 가상 스레드(가능하면)에서 실행
+    public PaymentBatchDispatcher(int maxBatchSize, Duration maxWait) {
+        this(maxBatchSize, maxWait, null);
+    }
+
+    // executor가 null이면 기본 실행기 사용
+    public PaymentBatchDispatcher(int maxBatchSize, Duration maxWait, Executor executor) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("묶음 크기는 1 이상이어야 합니다.");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("최대 대기 시간은 0 이상이어야 합니다.");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.ownedExecutor = executor == null ? VirtualThreads.newPerTaskExecutor("payment-batch") : null;
+        this.executor = executor == null ? ownedExecutor : executor;
+        this.collector = new Thread(this::collect, "payment-batcher");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    // 승인 요청을 묶음에 넣는다. 결과는 묶음이 승인되면 완료된다.
+    public CompletableFuture<PaymentResult> submit(PaymentMethod method, long amountMinor) {
+        Pending pending = new Pending(new PaymentRequest(method, amountMinor));
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("결제 배처가 이미 종료되었습니다.");
+            }
+            requestCount.incrementAndGet();
+            queue.add(pending);
+        }
+        return pending.result;
+    }
+
+    // payMinor가 이 배처를 거쳐 승인되는 결제 수단 (호출 스레드는 결과가 나올 때까지 기다림)
+    public PaymentMethod batched(PaymentMethod method) {
+        if (method == null) {
+            throw new IllegalArgumentException("결제 방식이 지정되지 않았습니다.");
+        }
+        return new PaymentMethod() {
+            @Override
+            public void payMinor(long amountMinor) {
+                authorize(amountMinor).throwIfDeclined();
+            }
+
+            @Override
+            public PaymentResult authorize(long amountMinor) {
+                try {
+                    return submit(method, amountMinor).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+
+            @Override
+            public void voidPayment(PaymentResult approved) {
+                method.voidPayment(approved);
+            }
+        };
+    }
+
+    // 수집 스레드: 묶음을 만들어 실행기로 넘긴다. 종료 후에도 남은 요청은 모두 처리
+    private void collect() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            Pending first;
+            try {
+                first = queue.poll(50, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                first = queue.poll();
+            }
+            if (first == null) {
+                if (!closed) {
+                    continue;
+                }
+                // 종료 표시 이전에 들어온 요청은 모두 보인다.
+                first = queue.poll();
+                if (first == null) {
+                    return;
+                }
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (batch.size() < maxBatchSize) {
+                // 이미 쌓인 요청은 기다리지 않고 바로 가져옴
+                if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                    continue;
+                }
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    break;
+                }
+                Pending next;
+                try {
+                    next = queue.poll(left, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+            dispatch(batch);
+            batch = new ArrayList<>(maxBatchSize);
+        }
+    }
+
+    // batchKey별로 나눠 각 묶음을 실행기에서 승인
+    private void dispatch(List<Pending> batch) {
+        Map<Object, List<Pending>> groups = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            groups.computeIfAbsent(pending.request.getMethod().batchKey(), k -> new ArrayList<>()).add(pending);
+        }
+        for (List<Pending> group : groups.values()) {
+            batchCount.incrementAndGet();
+            try {
+                executor.execute(() -> authorize(group));
+            } catch (RuntimeException e) {
+                for (Pending pending : group) {
+                    pending.result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private static void authorize(List<Pending> group) {
+        List<PaymentRequest> requests = new ArrayList<>(group.size());
+        for (Pending pending : group) {
+            requests.add(pending.request);
+        }
+        try {
+            List<PaymentResult> results = group.get(0).request.getMethod().authorizeBatch(requests);
+            if (results == null || results.size() != group.size()) {
+                throw new IllegalStateException("일괄 승인 결과 수가 요청 수와 다릅니다.");
+            }
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result.complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            for (Pending pending : group) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    // 새 요청을 막고, 이미 들어온 요청의 묶음을 모두 보낸 뒤 수집 스레드를 끝낸다.
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        try {
+            collector.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    // 지금까지 받은 승인 요청 수
+    public long getRequestCount() { return requestCount.get(); }
+    // 지금까지 보낸 일괄 승인 호출 수
+    public long getBatchCount() { return batchCount.get(); }
+}
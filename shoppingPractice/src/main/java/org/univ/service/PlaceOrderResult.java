@@ -0,0 +1,100 @@
+package org.univ.service;
+
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Product;
+
+/**
+ * 예외 없는 주문 처리(OrderService.tryPlaceOrder)의 결과.
+ * 재고 부족과 결제 거절은 흔한 결과이므로 예외를 만들지 않고 이 타입의 값으로 돌려준다.
+ * 실패 사유 문자열은 getMessage()를 부를 때만 만든다.
+ * 가능한 결과: Placed(성공), StockOut(재고 부족), PaymentDeclined(결제 거절), DeliveryFailed(배송 실패)
+ */
+public sealed interface PlaceOrderResult {
+
+    // 처리된(또는 실패해 재고가 복구된) 주문
+    Order getOrder();
+
+    // OrderOutcome과 같은 결과 유형
+    OrderOutcome.Status getStatus();
+
+    // 실패 사유 (성공이면 null)
+    String getMessage();
+
+    default boolean isSuccess() {
+        return getStatus() == OrderOutcome.Status.SUCCESS;
+    }
+
+    // 주문 성공 (상태 SHIPPED, 저장소에 저장됨)
+    final class Placed implements PlaceOrderResult {
+        private final Order order;
+
+        Placed(Order order) {
+            this.order = order;
+        }
+
+        @Override public Order getOrder() { return order; }
+        @Override public OrderOutcome.Status getStatus() { return OrderOutcome.Status.SUCCESS; }
+        @Override public String getMessage() { return null; }
+    }
+
+    // 재고 부족: 요청 수량만큼 확보하지 못한 상품 (예약 만료 포함)
+    final class StockOut implements PlaceOrderResult {
+        private final Order order;
+        private final Product product;
+        private final int requested;
+        private final int available;
+
+        StockOut(Order order, Product product, int requested, int available) {
+            this.order = order;
+            this.product = product;
+            this.requested = requested;
+            this.available = available;
+        }
+
+        @Override public Order getOrder() { return order; }
+        @Override public OrderOutcome.Status getStatus() { return OrderOutcome.Status.STOCK_OUT; }
+
+        @Override
+        public String getMessage() {
+            return "재고 부족: " + product.getName() + " (요청 " + requested + "개, 현재 " + available + "개)";
+        }
+
+        public Product getProduct() { return product; }
+        public int getRequested() { return requested; }
+        // 실패를 확인한 시점의 재고
+        public int getAvailable() { return available; }
+    }
+
+    // 결제 거절
+    final class PaymentDeclined implements PlaceOrderResult {
+        private final Order order;
+        private final String reason;
+
+        PaymentDeclined(Order order, String reason) {
+            this.order = order;
+            this.reason = reason;
+        }
+
+        @Override public Order getOrder() { return order; }
+        @Override public OrderOutcome.Status getStatus() { return OrderOutcome.Status.PAYMENT_FAILED; }
+        @Override public String getMessage() { return "결제 실패: " + reason; }
+
+        // 결제 수단이 알려 준 거절 사유
+        public String getReason() { return reason; }
+    }
+
+    // 배송 실패 (배송 방식이 요청을 거부)
+    final class DeliveryFailed implements PlaceOrderResult {
+        private final Order order;
+        private final String message;
+
+        DeliveryFailed(Order order, String message) {
+            this.order = order;
+            this.message = message;
+        }
+
+        @Override public Order getOrder() { return order; }
+        @Override public OrderOutcome.Status getStatus() { return OrderOutcome.Status.DELIVERY_FAILED; }
+        @Override public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,175 @@
+package org.univ.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.univ.metrics.HistogramSnapshot;
+import org.univ.metrics.LatencyHistogram;
+
+/**
+ * 콜드체인 우선 처리 레인: 냉장 상품이 든 주문의 결제/배송을 일반 주문보다 먼저 처리한다.
+ * - 작업마다 (들어온 시각 + 허용 대기 시간)을 마감 시각으로 잡고, 마감이 이른 작업부터 꺼냄
+ *   (냉장 주문은 짧은 허용 시간, 일반 주문은 긴 허용 시간)
+ * - 오래 기다린 일반 주문은 나중에 들어온 냉장 주문보다 마감이 빨라지므로 굶지 않는다 (aging)
+ * - 고정 개수의 작업 스레드가 PriorityBlockingQueue에서 작업을 꺼내 실행
+ * 작업이 끝날 때까지 걸린 시간(들어온 시각 기준)을 레인별 히스토그램에 기록해 백분위수로 확인할 수 있다.
+ * (작업 수와 관계없이 메모리가 고정되므로 오래 돌아가는 레인에서도 기록이 쌓이지 않음)
+ */
+public class PriorityOrderLane implements AutoCloseable {
+
+    // 대기 작업: 마감 시각이 이른 순, 같으면 들어온 순
+    private static final class Task implements Comparable<Task> {
+        final long deadlineNanos;
+        final long sequence;
+        final Runnable body;
+
+        Task(long deadlineNanos, long sequence, Runnable body) {
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+            this.body = body;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (this == STOP || other == STOP) {
+                return this == other ? 0 : (this == STOP ? 1 : -1);
+            }
+            // nanoTime 값끼리는 차이로 비교 (오버플로 대비)
+            long diff = deadlineNanos - other.deadlineNanos;
+            if (diff != 0) {
+                return diff < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // 레인 종료 신호 (항상 모든 작업보다 뒤에 꺼내짐)
+    private static final Task STOP = new Task(0, Long.MAX_VALUE, () -> { });
+
+    private final long coldChainBudgetNanos;
+    private final long standardBudgetNanos;
+    private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>();
+    private final Thread[] workers;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean closed;
+
+    // 완료까지 걸린 시간 분포 (나노초)
+    private final LatencyHistogram coldChainLatencies = new LatencyHistogram("lane.coldChain");
+    private final LatencyHistogram standardLatencies = new LatencyHistogram("lane.standard");
+
+    /**
+     * @param workerCount       작업 스레드 수
+     * @param coldChainBudget   냉장 주문의 허용 대기 시간 (짧을수록 먼저 처리)
+     * @param standardBudget    일반 주문의 허용 대기 시간 (coldChainBudget 이상)
+     */
+    public PriorityOrderLane(int workerCount, Duration coldChainBudget, Duration standardBudget) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("작업 스레드 수는 1 이상이어야 합니다.");
+        }
+        if (coldChainBudget == null || standardBudget == null
+                || coldChainBudget.isNegative() || standardBudget.compareTo(coldChainBudget) < 0) {
+            throw new IllegalArgumentException("허용 대기 시간은 0 이상이고 일반 주문이 냉장 주문보다 길거나 같아야 합니다.");
+        }
+        this.coldChainBudgetNanos = coldChainBudget.toNanos();
+        this.standardBudgetNanos = standardBudget.toNanos();
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::work, "order-lane-" + (i + 1));
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    // 작업을 레인에 넣는다. coldChain이면 냉장 주문 마감으로 우선 처리
+    public <T> CompletableFuture<T> submit(boolean coldChain, Supplier<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("실행할 작업이 null입니다.");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long now = System.nanoTime();
+        long deadline = now + (coldChain ? coldChainBudgetNanos : standardBudgetNanos);
+        LatencyHistogram latencies = coldChain ? coldChainLatencies : standardLatencies;
+        Task queued = new Task(deadline, sequence.incrementAndGet(), () -> {
+            T value;
+            try {
+                value = task.get();
+            } catch (Throwable e) {
+                latencies.recordSince(now);
+                result.completeExceptionally(e);
+                return;
+            }
+            // 결과를 받은 쪽에서 바로 통계를 볼 수 있도록 기록을 먼저 함
+            latencies.recordSince(now);
+            result.complete(value);
+        });
+        // 종료 확인과 넣기를 한 번에: close가 끼어들면 작업 스레드가 끝난 뒤에 들어가 영영 실행되지 않음
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("처리 레인이 이미 종료되었습니다.");
+            }
+            queue.add(queued);
+        }
+        return result;
+    }
+
+    private void work() {
+        while (true) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == STOP) {
+                queue.add(STOP); // 다른 작업 스레드도 끝나도록 다시 넣음
+                return;
+            }
+            task.body.run();
+        }
+    }
+
+    // 대기 중인 작업 수
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * 완료된 작업의 들어온 뒤 끝날 때까지 걸린 시간의 백분위수(밀리초, 히스토그램 칸 상한 기준)
+     * @param percentile 0~100 (예: 99)
+     */
+    public double latencyPercentileMillis(boolean coldChain, double percentile) {
+        return getLatency(coldChain).getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    // 레인의 완료 시간 분포
+    public HistogramSnapshot getLatency(boolean coldChain) {
+        return (coldChain ? coldChainLatencies : standardLatencies).snapshot();
+    }
+
+    // 완료된 작업 수
+    public int getCompletedCount(boolean coldChain) {
+        return (int) getLatency(coldChain).getCount();
+    }
+
+    // 새 작업을 막고, 이미 들어온 작업을 모두 처리한 뒤 작업 스레드를 끝낸다.
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (!closed) {
+                closed = true;
+                queue.add(STOP);
+            }
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
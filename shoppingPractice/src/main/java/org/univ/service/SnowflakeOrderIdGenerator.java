@@ -0,0 +1,110 @@
+package org.univ.service;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시간순 주문 ID (Snowflake 방식): "ORD-" + 고정 길이 16진수 28자리
+ * - 타임스탬프(ms, 12자리) + 노드 ID(4자리) + 스레드 번호(8자리) + 스레드별 순번(4자리)
+ * - 스레드마다 자기 순번만 쓰므로 ID를 만들 때 공유 잠금/CAS가 없음
+ *   (스레드 번호는 스레드가 처음 ID를 만들 때 한 번만 받음)
+ * - 고정 길이라 문자열 정렬 순서가 곧 생성 시각(ms) 순서
+ * 같은 ms에 한 스레드가 순번(65536개)을 다 쓰면 다음 ms를 미리 당겨 쓰고,
+ * 시계가 뒤로 가도 스레드별로는 시각이 줄지 않는다.
+ * 같은 노드 ID는 생성기 하나에서만 써야 한다. (서버마다 다른 노드 ID)
+ */
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+    // 노드 ID 최댓값 (16비트)
+    public static final int MAX_NODE_ID = 0xFFFF;
+    // 스레드별 ms당 순번 개수 (16비트)
+    static final int SEQUENCE_LIMIT = 1 << 16;
+
+    private static final int TIMESTAMP_DIGITS = 12;
+    private static final int NODE_DIGITS = 4;
+    private static final int THREAD_DIGITS = 8;
+    private static final int SEQUENCE_DIGITS = 4;
+    private static final int ID_LENGTH = PREFIX.length()
+            + TIMESTAMP_DIGITS + NODE_DIGITS + THREAD_DIGITS + SEQUENCE_DIGITS;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // 스레드별 상태: 마지막으로 쓴 시각과 그 ms 안의 순번
+    private static final class ThreadState {
+        final int threadSlot;
+        long lastMillis = -1;
+        int sequence;
+
+        ThreadState(int threadSlot) {
+            this.threadSlot = threadSlot;
+        }
+    }
+
+    private final int nodeId;
+    private final Clock clock;
+    private final AtomicInteger nextThreadSlot = new AtomicInteger();
+    private final ThreadLocal<ThreadState> state =
+            ThreadLocal.withInitial(() -> new ThreadState(nextThreadSlot.getAndIncrement()));
+
+    public SnowflakeOrderIdGenerator(int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    public SnowflakeOrderIdGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 지정되지 않았습니다.");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        ThreadState current = state.get();
+        long now = clock.millis();
+        if (now > current.lastMillis) {
+            current.lastMillis = now;
+            current.sequence = 0;
+        } else if (++current.sequence == SEQUENCE_LIMIT) {
+            // 이 ms의 순번을 다 씀 → 다음 ms로 넘어감
+            current.lastMillis++;
+            current.sequence = 0;
+        }
+        // 스레드 번호는 32비트를 넘으면 한 바퀴 돌지만, 같은 ms 안에서 겹칠 일은 없다
+        char[] id = new char[ID_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), id, 0);
+        int pos = PREFIX.length();
+        pos = writeHex(id, pos, current.lastMillis, TIMESTAMP_DIGITS);
+        pos = writeHex(id, pos, nodeId, NODE_DIGITS);
+        pos = writeHex(id, pos, current.threadSlot & 0xFFFFFFFFL, THREAD_DIGITS);
+        writeHex(id, pos, current.sequence, SEQUENCE_DIGITS);
+        return new String(id);
+    }
+
+    // value의 하위 digits자리를 16진수로 기록 (앞자리는 0으로 채움)
+    private static int writeHex(char[] out, int pos, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            out[pos + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return pos + digits;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    // 이 생성기 형식의 ID에서 생성 시각(epoch ms)을 읽는다.
+    public static long timestampOf(String orderId) {
+        if (orderId == null || orderId.length() != ID_LENGTH || !orderId.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("시간순 주문 ID 형식이 아닙니다: " + orderId);
+        }
+        try {
+            return Long.parseLong(orderId.substring(PREFIX.length(), PREFIX.length() + TIMESTAMP_DIGITS), 16);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("시간순 주문 ID 형식이 아닙니다: " + orderId);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.univ.service;
+
+import java.util.UUID;
+
+/**
+ * UUID 기반 주문 ID: "ORD-" + 무작위 UUID
+ * UUID.randomUUID()는 공유 SecureRandom을 거치므로 주문이 몰리면 생성 자체가 병목이 되고,
+ * ID가 무작위라 주문 ID로 정렬된 색인/로그에서는 순서가 흩어진다. (시간순 ID: SnowflakeOrderIdGenerator)
+ */
+public class UuidOrderIdGenerator implements OrderIdGenerator {
+
+    @Override
+    public String nextId() {
+        return PREFIX + UUID.randomUUID();
+    }
+
+    // 배치당 UUID를 한 번만 만들고, 하위 비트에 순번을 XOR해 주문마다 다른 UUID를 만든다
+    @Override
+    public String[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("ID 개수는 0 이상이어야 합니다.");
+        }
+        UUID batchId = UUID.randomUUID();
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = PREFIX + new UUID(batchId.getMostSignificantBits(),
+                    batchId.getLeastSignificantBits() ^ i);
+        }
+        return ids;
+    }
+}
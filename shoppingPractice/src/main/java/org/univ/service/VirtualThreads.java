@@ -0,0 +1,43 @@
+package org.univ.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 가상 스레드 하나를 쓰는 실행기를 만든다.
+ * - Java 21 이상: Executors.newVirtualThreadPerTaskExecutor() 사용
+ *   (결제/배송 대기 중에도 플랫폼 스레드를 점유하지 않아 수만 건의 주문을 동시에 진행 가능)
+ * - 그 이전 런타임: 데몬 스레드 기반 캐시 스레드 풀로 대체
+ * 빌드가 Java 17 기준이므로 21 전용 API는 리플렉션으로 찾는다.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static ExecutorService newPerTaskExecutor(String threadNamePrefix) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger seq = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, threadNamePrefix + "-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // 현재 런타임이 가상 스레드를 지원하는지 여부
+    public static boolean isSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
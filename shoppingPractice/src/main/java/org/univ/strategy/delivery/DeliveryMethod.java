@@ -1,7 +1,43 @@
 package org.univ.strategy.delivery;
 
+import java.util.ArrayList;
+import java.util.List;
+
 // 배송 전략 패턴 인터페이스: 다양한 배송 방식에 대해 동일한 deliver() 호출 가능
 public interface DeliveryMethod {
     // 주문 정보를 받아 배송을 처리한다. 실패 시 예외 발생
     void deliver(String productSummary);
-}
\ No newline at end of file
+
+    // 미리 계산된 배송 요청으로 배송을 처리한다. 기본 구현은 요약 문자열 방식으로 위임
+    default void deliver(DeliveryRequest request) {
+        deliver(request.getSummary());
+    }
+
+    /**
+     * 합포장 묶음을 한 번에 배송하고, 요청과 같은 순서로 항목별 실패(배송되었으면 null)를 돌려준다.
+     * 예외를 던지면 묶음의 어떤 요청도 배송되지 않은 것으로 본다. (호출하는 쪽이 요청마다 다시 시도할 수 있음)
+     * 기본 구현은 요청마다 deliver를 호출하고 실패한 요청의 예외만 결과에 담는다.
+     */
+    default List<RuntimeException> dispatch(Shipment shipment) {
+        List<RuntimeException> failures = new ArrayList<>(shipment.size());
+        for (DeliveryRequest request : shipment.getRequests()) {
+            try {
+                deliver(request);
+                failures.add(null);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    // 같은 합포장 묶음으로 보낼 수 있는 배송 방식끼리 같은 키 (기본: 자기 자신만)
+    default Object consolidationKey() {
+        return this;
+    }
+
+    // 평균 배송일 수 (0이면 알 수 없음)
+    default int getAverageDays() {
+        return 0;
+    }
+}
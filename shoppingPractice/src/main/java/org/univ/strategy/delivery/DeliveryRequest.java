@@ -0,0 +1,65 @@
+package org.univ.strategy.delivery;
+
+import java.util.function.Supplier;
+
+/**
+ * 배송 요청 값 객체: 배송 가능 여부 판단에 필요한 정보를 미리 계산해 담는다.
+ * - 취급 조건(냉장/특수포장/유해/취급주의)은 상품 속성에서 미리 구한 비트 플래그
+ * - 배송 방식은 문자열을 만들거나 검색하지 않고 비트 검사만으로 판단할 수 있다
+ * - 문자열 요약만 받는 기존 구현체를 위해 요약은 필요할 때 한 번만 만든다
+ */
+public final class DeliveryRequest {
+
+    // 취급 조건 플래그
+    public static final int REFRIGERATED = 1;             // 냉장 보관
+    public static final int SPECIAL_PACKAGING = 1 << 1;   // 특수포장
+    public static final int HAZARDOUS = 1 << 2;           // 유해 물품
+    public static final int FRAGILE = 1 << 3;             // 취급주의
+
+    private final String orderId;                  // 주문 ID
+    private final String address;                  // 배송지 주소
+    private final int handlingFlags;               // 취급 조건 플래그 조합
+    private final Supplier<String> summarySource;  // 주문 요약 문자열 생성기 (기존 구현체용)
+    private String summary;                        // 한 번 만든 요약 캐시
+
+    public DeliveryRequest(String orderId, String address, int handlingFlags, Supplier<String> summarySource) {
+        this.orderId = orderId;
+        this.address = address;
+        this.handlingFlags = handlingFlags;
+        this.summarySource = summarySource;
+    }
+
+    // 주문 상품명/설명 등의 키워드로 취급 조건 플래그를 구한다. (상품 생성 시 한 번만 호출하는 용도)
+    public static int flagsFromText(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int flags = 0;
+        if (text.contains("냉장")) flags |= REFRIGERATED;
+        if (text.contains("특수포장")) flags |= SPECIAL_PACKAGING;
+        if (text.contains("유해")) flags |= HAZARDOUS;
+        if (text.contains("취급주의")) flags |= FRAGILE;
+        return flags;
+    }
+
+    public boolean hasAddress() {
+        return address != null && !address.isBlank();
+    }
+
+    // flag 중 하나라도 해당하면 true
+    public boolean hasAny(int flags) {
+        return (handlingFlags & flags) != 0;
+    }
+
+    // 기존 문자열 기반 구현체에 넘길 주문 요약 (처음 요청할 때 한 번만 생성)
+    public String getSummary() {
+        if (summary == null) {
+            summary = summarySource == null ? "" : summarySource.get();
+        }
+        return summary;
+    }
+
+    public String getOrderId() { return orderId; }
+    public String getAddress() { return address; }
+    public int getHandlingFlags() { return handlingFlags; }
+}
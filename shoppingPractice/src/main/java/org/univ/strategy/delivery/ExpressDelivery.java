@@ -23,4 +23,26 @@ public class ExpressDelivery implements DeliveryMethod {
 
         // 정상 흐름: 예외 없이 리턴되면 배송 성공
     }
+
+    // 배송 요청 기반 처리: 문자열 검색 없이 주소 유무와 플래그만 검사
+    @Override
+    public void deliver(DeliveryRequest request) {
+        if (request == null || !request.hasAddress()) {
+            throw new DeliveryException("배송지 주소가 없습니다. 특급 배송 불가.");
+        }
+        if (!request.hasAny(DeliveryRequest.REFRIGERATED | DeliveryRequest.SPECIAL_PACKAGING)) {
+            throw new DeliveryException("특급 배송은 냉장 또는 특수포장 품목만 가능합니다.");
+        }
+    }
+
+    @Override
+    public int getAverageDays() {
+        return AVERAGE_DAYS;
+    }
+
+    // 특급 배송은 인스턴스가 달라도 같은 묶음으로 보낼 수 있음
+    @Override
+    public Object consolidationKey() {
+        return ExpressDelivery.class;
+    }
 }
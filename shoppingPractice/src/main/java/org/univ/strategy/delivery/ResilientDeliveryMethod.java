@@ -0,0 +1,78 @@
+package org.univ.strategy.delivery;
+
+import java.util.List;
+import java.util.Map;
+import org.univ.exception.DeliveryException;
+import org.univ.strategy.resilience.CallStats;
+import org.univ.strategy.resilience.CircuitState;
+import org.univ.strategy.resilience.ResilienceGuard;
+
+/**
+ * 배송 방식 데코레이터: 실제 배송 방식 호출을 ResilienceGuard(회로 차단/동시 호출 제한/시간 제한)로 감싼다.
+ * 거절과 시간 초과는 DeliveryException으로 알린다.
+ * 원래 배송 방식이 던진 DeliveryException(주소 없음, 배송 불가 품목 등)은 서비스가 정상 응답한 업무상 거절이므로
+ * 정상 호출로 기록하고 보호막 밖에서 다시 던진다. 회로는 그 밖의 예외와 시간 초과로만 열린다.
+ */
+public class ResilientDeliveryMethod implements DeliveryMethod {
+
+    private final DeliveryMethod delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientDeliveryMethod(DeliveryMethod delegate, ResilienceGuard guard) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("배송 방식이 지정되지 않았습니다.");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("보호막이 지정되지 않았습니다.");
+        }
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public void deliver(String productSummary) {
+        throwIfRejected(guard.call(() -> rejectionOf(() -> delegate.deliver(productSummary)), DeliveryException::new));
+    }
+
+    // 미리 계산된 배송 요청은 그대로 원래 배송 방식에 넘긴다. (플래그 기반 판단 유지)
+    @Override
+    public void deliver(DeliveryRequest request) {
+        throwIfRejected(guard.call(() -> rejectionOf(() -> delegate.deliver(request)), DeliveryException::new));
+    }
+
+    // 업무상 거절은 예외 대신 값으로 돌려 보호막이 정상 호출로 기록하게 한다.
+    private static DeliveryException rejectionOf(Runnable call) {
+        try {
+            call.run();
+            return null;
+        } catch (DeliveryException e) {
+            return e;
+        }
+    }
+
+    private static void throwIfRejected(DeliveryException rejection) {
+        if (rejection != null) {
+            throw rejection;
+        }
+    }
+
+    // 합포장 묶음은 보호막 호출 한 번으로 보낸다.
+    @Override
+    public List<RuntimeException> dispatch(Shipment shipment) {
+        return guard.call(() -> delegate.dispatch(shipment), DeliveryException::new);
+    }
+
+    @Override
+    public Object consolidationKey() {
+        return Map.entry(guard, delegate.consolidationKey());
+    }
+
+    @Override
+    public int getAverageDays() {
+        return delegate.getAverageDays();
+    }
+
+    public CircuitState getCircuitState() { return guard.getCircuitState(); }
+    public CallStats getStats() { return guard.getStats(); }
+    public ResilienceGuard getGuard() { return guard; }
+}
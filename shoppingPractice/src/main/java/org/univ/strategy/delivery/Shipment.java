@@ -0,0 +1,42 @@
+package org.univ.strategy.delivery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 합포장 배송: 같은 주소, 같은 배송 방식으로 모인 여러 주문의 배송 요청 묶음
+ * 배송사에는 묶음 하나가 한 번의 배송 요청으로 나간다.
+ */
+public final class Shipment {
+
+    private final String address;                 // 배송지 주소
+    private final List<DeliveryRequest> requests; // 묶인 주문들의 배송 요청 (들어온 순서)
+    private final int handlingFlags;              // 묶인 주문들의 취급 조건 합
+
+    public Shipment(String address, List<DeliveryRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("배송 요청이 없는 묶음은 만들 수 없습니다.");
+        }
+        int flags = 0;
+        for (DeliveryRequest request : requests) {
+            flags |= request.getHandlingFlags();
+        }
+        this.address = address;
+        this.requests = Collections.unmodifiableList(new ArrayList<>(requests));
+        this.handlingFlags = flags;
+    }
+
+    public List<String> getOrderIds() {
+        List<String> ids = new ArrayList<>(requests.size());
+        for (DeliveryRequest request : requests) {
+            ids.add(request.getOrderId());
+        }
+        return ids;
+    }
+
+    public String getAddress() { return address; }
+    public List<DeliveryRequest> getRequests() { return requests; }
+    public int size() { return requests.size(); }
+    public int getHandlingFlags() { return handlingFlags; }
+}
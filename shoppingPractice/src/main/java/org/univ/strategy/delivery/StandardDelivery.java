@@ -20,4 +20,26 @@ public class StandardDelivery implements DeliveryMethod {
         }
         // 정상 흐름: 예외 없이 리턴되면 배송 성공
     }
-}
\ No newline at end of file
+
+    // 배송 요청 기반 처리: 문자열 검색 없이 주소 유무와 플래그만 검사
+    @Override
+    public void deliver(DeliveryRequest request) {
+        if (request == null || !request.hasAddress()) {
+            throw new DeliveryException("배송지 주소가 없습니다. 일반 배송 불가.");
+        }
+        if (request.hasAny(DeliveryRequest.HAZARDOUS | DeliveryRequest.FRAGILE)) {
+            throw new DeliveryException("일반 배송 불가 품목이 포함되어 있습니다.");
+        }
+    }
+
+    @Override
+    public int getAverageDays() {
+        return AVERAGE_DAYS;
+    }
+
+    // 일반 배송은 인스턴스가 달라도 같은 묶음으로 보낼 수 있음
+    @Override
+    public Object consolidationKey() {
+        return StandardDelivery.class;
+    }
+}
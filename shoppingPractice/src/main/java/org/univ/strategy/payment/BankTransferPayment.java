@@ -1,33 +1,67 @@
 package org.univ.strategy.payment;
 
-import org.univ.exception.PaymentException;
+import java.util.List;
+import java.util.Map;
 
 public class BankTransferPayment implements PaymentMethod {
     private String bankName;        // 은행 이름
     private String accountNumber;   // 계좌 번호
+    private final PaymentGateway gateway;  // 승인 요청을 보낼 게이트웨이
 
     // 생성자에서 필수 정보 유효성 검사
     public BankTransferPayment(String bankName, String accountNumber) {
+        this(bankName, accountNumber, PaymentGateway.IMMEDIATE);
+    }
+
+    // 지정한 게이트웨이로 승인하는 생성자
+    public BankTransferPayment(String bankName, String accountNumber, PaymentGateway gateway) {
         if (bankName == null || bankName.isBlank()) {
             throw new IllegalArgumentException("은행명은 필수입니다.");
         }
         if (accountNumber == null || accountNumber.length() < 6) {
             throw new IllegalArgumentException("계좌 번호가 올바르지 않습니다.");
         }
+        if (gateway == null) {
+            throw new IllegalArgumentException("결제 게이트웨이가 지정되지 않았습니다.");
+        }
         this.bankName = bankName;
         this.accountNumber = accountNumber;
+        this.gateway = gateway;
     }
 
-    // 결제 로직: 계좌번호 규칙 등 임의 예시로 처리
+    // 결제 로직: 승인 결과가 거절이면 PaymentException
     @Override
-    public void pay(double amount) {
-        if (amount <= 0) {
-            throw new PaymentException("결제 금액이 0원 이하입니다.");
-        }
-        // 예시: 계좌번호가 "999999"로 끝나면 결제 실패
-        if (accountNumber.endsWith("999999")) {
-            throw new PaymentException("계좌 잔액 부족으로 결제 실패.");
-        }
-        // 결제 성공 (실제로는 외부 송금 연동 등)
+    public void payMinor(long amountMinor) {
+        authorize(amountMinor).throwIfDeclined();
+    }
+
+    @Override
+    public PaymentResult authorize(long amountMinor) {
+        return authorizeBatch(List.of(new PaymentRequest(this, amountMinor))).get(0);
+    }
+
+    // 같은 게이트웨이를 쓰는 계좌이체 결제들을 게이트웨이 호출 한 번으로 승인한다.
+    @Override
+    public List<PaymentResult> authorizeBatch(List<PaymentRequest> requests) {
+        return GatewayBatch.authorize(gateway, requests, request -> {
+            if (!batchKey().equals(request.getMethod().batchKey())) {
+                throw new IllegalArgumentException("같은 묶음으로 승인할 수 없는 결제 방식입니다.");
+            }
+            // 예시: 계좌번호가 "999999"로 끝나면 결제 실패
+            return ((BankTransferPayment) request.getMethod()).accountNumber.endsWith("999999")
+                    ? "계좌 잔액 부족으로 결제 실패."
+                    : null;
+        });
+    }
+
+    // 승인 결과의 승인 번호로 게이트웨이에 취소 요청
+    @Override
+    public void voidPayment(PaymentResult approved) {
+        gateway.voidAuthorizations(List.of(approved));
+    }
+
+    @Override
+    public Object batchKey() {
+        return Map.entry(BankTransferPayment.class, gateway);
     }
-}
\ No newline at end of file
+}
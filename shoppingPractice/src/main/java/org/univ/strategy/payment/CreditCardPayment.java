@@ -1,35 +1,68 @@
 package org.univ.strategy.payment;
 
-import org.univ.exception.PaymentException;
+import java.util.List;
+import java.util.Map;
 
 // 신용카드 결제 방식 구현체
 public class CreditCardPayment implements PaymentMethod {
     private String cardNumber;   // 카드 번호
     private String expiryDate;   // 유효기간(예: "12/27")
+    private final PaymentGateway gateway;  // 승인 요청을 보낼 게이트웨이
 
     // 생성자에서 카드 정보 유효성 검사
     public CreditCardPayment(String cardNumber, String expiryDate) {
+        this(cardNumber, expiryDate, PaymentGateway.IMMEDIATE);
+    }
+
+    // 지정한 게이트웨이로 승인하는 생성자
+    public CreditCardPayment(String cardNumber, String expiryDate, PaymentGateway gateway) {
         if (cardNumber == null || cardNumber.length() < 12) {
             throw new IllegalArgumentException("카드 번호가 올바르지 않습니다.");
         }
         if (expiryDate == null || !expiryDate.matches("\\d{2}/\\d{2}")) {
             throw new IllegalArgumentException("카드 유효기간 형식이 올바르지 않습니다. (예: 12/27)");
         }
+        if (gateway == null) {
+            throw new IllegalArgumentException("결제 게이트웨이가 지정되지 않았습니다.");
+        }
         this.cardNumber = cardNumber;
         this.expiryDate = expiryDate;
+        this.gateway = gateway;
     }
 
-    // 결제 로직: 잔액 등은 실제 구현 대신 임의로 실패/성공 예시
+    // 결제 로직: 승인 결과가 거절이면 PaymentException
     @Override
-    public void pay(double amount) {
-        if (amount <= 0) {
-            throw new PaymentException("결제 금액이 0원 이하입니다.");
-        }
-        // 예시: 카드번호 뒷자리가 '00'이면 결제 실패로 가정
-        if (cardNumber.endsWith("00")) {
-            throw new PaymentException("카드 잔액 부족 또는 한도 초과로 결제 실패.");
-        }
-        // 결제 성공 (실제로는 외부 결제 연동 등)
-        // 여기서는 별도 출력이나 반환 없이 정상 흐름이면 성공
+    public void payMinor(long amountMinor) {
+        authorize(amountMinor).throwIfDeclined();
+    }
+
+    @Override
+    public PaymentResult authorize(long amountMinor) {
+        return authorizeBatch(List.of(new PaymentRequest(this, amountMinor))).get(0);
+    }
+
+    // 같은 게이트웨이를 쓰는 카드 결제들을 게이트웨이 호출 한 번으로 승인한다.
+    @Override
+    public List<PaymentResult> authorizeBatch(List<PaymentRequest> requests) {
+        return GatewayBatch.authorize(gateway, requests, request -> {
+            if (!batchKey().equals(request.getMethod().batchKey())) {
+                throw new IllegalArgumentException("같은 묶음으로 승인할 수 없는 결제 방식입니다.");
+            }
+            // 예시: 카드번호 뒷자리가 '00'이면 결제 실패로 가정
+            return ((CreditCardPayment) request.getMethod()).cardNumber.endsWith("00")
+                    ? "카드 잔액 부족 또는 한도 초과로 결제 실패."
+                    : null;
+        });
+    }
+
+    // 승인 결과의 승인 번호로 게이트웨이에 취소 요청
+    @Override
+    public void voidPayment(PaymentResult approved) {
+        gateway.voidAuthorizations(List.of(approved));
+    }
+
+    @Override
+    public Object batchKey() {
+        return Map.entry(CreditCardPayment.class, gateway);
     }
 }
@@ -0,0 +1,42 @@
+package org.univ.strategy.payment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+// 결제 수단 구현체 공용: 자체 검사에서 거절된 항목은 빼고 나머지만 게이트웨이에 한 번에 보낸다.
+final class GatewayBatch {
+
+    private GatewayBatch() {
+    }
+
+    // precheck는 거절 사유(승인 가능하면 null)를 돌려준다.
+    static List<PaymentResult> authorize(PaymentGateway gateway,
+                                         List<PaymentRequest> requests,
+                                         Function<PaymentRequest, String> precheck) {
+        PaymentResult[] results = new PaymentResult[requests.size()];
+        List<PaymentRequest> forwarded = new ArrayList<>(requests.size());
+        int[] positions = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            PaymentRequest request = requests.get(i);
+            String reason = request.getAmountMinor() <= 0 ? "결제 금액이 0원 이하입니다." : precheck.apply(request);
+            if (reason != null) {
+                results[i] = PaymentResult.declined(request.getAmountMinor(), reason);
+            } else {
+                positions[forwarded.size()] = i;
+                forwarded.add(request);
+            }
+        }
+        if (!forwarded.isEmpty()) {
+            List<PaymentResult> answered = gateway.authorize(forwarded);
+            if (answered == null || answered.size() != forwarded.size()) {
+                throw new IllegalStateException("게이트웨이 응답 수가 요청 수와 다릅니다.");
+            }
+            for (int k = 0; k < answered.size(); k++) {
+                results[positions[k]] = answered.get(k);
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,28 @@
+package org.univ.strategy.payment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 결제 처리사(카드사/은행) 연동 창구: 승인 요청 묶음을 한 번의 호출로 보낸다.
+ * 호출당 비용(네트워크 왕복 등)이 크므로 여러 건을 묶을수록 건당 비용이 줄어든다.
+ * 반환 목록은 요청 목록과 같은 순서, 같은 크기여야 한다.
+ * 외부 청구가 생기는 게이트웨이는 승인 결과에 승인 번호를 담아 돌려주고, 취소는 그 번호로 요청받는다.
+ */
+public interface PaymentGateway {
+
+    // 지연 없이 모두 승인하는 게이트웨이 (외부 연동이 없는 기본값)
+    PaymentGateway IMMEDIATE = requests -> {
+        List<PaymentResult> results = new ArrayList<>(requests.size());
+        for (PaymentRequest request : requests) {
+            results.add(PaymentResult.approved(request.getAmountMinor()));
+        }
+        return results;
+    };
+
+    List<PaymentResult> authorize(List<PaymentRequest> requests);
+
+    // 이 게이트웨이가 승인했던 결과(승인 번호)들을 취소한다. (기본: 취소할 외부 청구가 없음)
+    default void voidAuthorizations(List<PaymentResult> approved) {
+    }
+}
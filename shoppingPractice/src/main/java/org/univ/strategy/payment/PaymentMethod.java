@@ -1,6 +1,51 @@
 package org.univ.strategy.payment;
 
+import java.util.ArrayList;
+import java.util.List;
+import org.univ.domain.money.Money;
+import org.univ.exception.PaymentException;
+
 public interface PaymentMethod {
-    // 주어진 금액을 결제한다. 실패 시 예외 발생
-    void pay(double amount);
+    // 주어진 금액(Money minor 단위: 1원 = 100)을 결제한다. 실패 시 예외 발생
+    void payMinor(long amountMinor);
+
+    // 원 단위 금액으로 결제한다. (호환용: minor 단위로 변환해 payMinor 호출)
+    default void pay(double amount) {
+        payMinor(Money.ofWon(amount));
+    }
+
+    // 금액을 승인하고 결과를 돌려준다. 거절은 예외 대신 결과로 표현 (기본 구현은 payMinor로 위임)
+    default PaymentResult authorize(long amountMinor) {
+        try {
+            payMinor(amountMinor);
+            return PaymentResult.approved(amountMinor);
+        } catch (PaymentException e) {
+            return PaymentResult.declined(amountMinor, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 승인 요청을 한 번에 처리하고 요청과 같은 순서로 항목별 결과를 돌려준다.
+     * requests의 결제 수단은 모두 이 결제 수단과 batchKey가 같아야 한다.
+     * 기본 구현은 항목마다 authorize를 따로 호출한다.
+     */
+    default List<PaymentResult> authorizeBatch(List<PaymentRequest> requests) {
+        List<PaymentResult> results = new ArrayList<>(requests.size());
+        for (PaymentRequest request : requests) {
+            results.add(request.getMethod().authorize(request.getAmountMinor()));
+        }
+        return results;
+    }
+
+    /**
+     * 승인된 결제를 취소한다. 승인 뒤에 주문을 진행할 수 없게 되었을 때(재고 hold 만료, 동시 취소) 호출된다.
+     * 기본 구현은 외부 청구가 없는 결제 수단을 위한 것으로 아무것도 하지 않는다.
+     */
+    default void voidPayment(PaymentResult approved) {
+    }
+
+    // 같은 묶음으로 승인할 수 있는 결제 수단끼리 같은 키 (기본: 자기 자신만)
+    default Object batchKey() {
+        return this;
+    }
 }
@@ -0,0 +1,19 @@
+package org.univ.strategy.payment;
+
+// 일괄 승인의 한 항목: 어떤 결제 수단으로 얼마를 승인할지
+public final class PaymentRequest {
+
+    private final PaymentMethod method;  // 결제 수단
+    private final long amountMinor;      // 승인 금액 (Money minor 단위)
+
+    public PaymentRequest(PaymentMethod method, long amountMinor) {
+        if (method == null) {
+            throw new IllegalArgumentException("결제 방식이 지정되지 않았습니다.");
+        }
+        this.method = method;
+        this.amountMinor = amountMinor;
+    }
+
+    public PaymentMethod getMethod() { return method; }
+    public long getAmountMinor() { return amountMinor; }
+}
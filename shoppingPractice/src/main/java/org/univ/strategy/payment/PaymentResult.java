@@ -0,0 +1,55 @@
+package org.univ.strategy.payment;
+
+import org.univ.exception.PaymentException;
+
+/**
+ * 결제 승인 결과 (일괄 승인에서 항목마다 하나씩 돌려준다)
+ * 거절은 예외 대신 결과로 표현하므로 한 항목의 실패가 같은 묶음의 다른 항목에 영향을 주지 않는다.
+ */
+public final class PaymentResult {
+
+    private final long amountMinor;   // 승인 요청 금액 (Money minor 단위)
+    private final boolean approved;   // 승인 여부
+    private final String reason;      // 거절 사유 (승인이면 null)
+    private final String authorizationId;  // 게이트웨이가 발급한 승인 번호 (취소 요청에 사용, 거절이거나 외부 청구가 없으면 null)
+
+    private PaymentResult(long amountMinor, boolean approved, String reason, String authorizationId) {
+        this.amountMinor = amountMinor;
+        this.approved = approved;
+        this.reason = reason;
+        this.authorizationId = authorizationId;
+    }
+
+    public static PaymentResult approved(long amountMinor) {
+        return approved(amountMinor, null);
+    }
+
+    // 게이트웨이가 승인 번호를 발급한 승인 (취소할 때 이 번호로 요청)
+    public static PaymentResult approved(long amountMinor, String authorizationId) {
+        return new PaymentResult(amountMinor, true, null, authorizationId);
+    }
+
+    public static PaymentResult declined(long amountMinor, String reason) {
+        if (reason == null || reason.isBlank()) {
+            throw new IllegalArgumentException("거절 사유는 필수입니다.");
+        }
+        return new PaymentResult(amountMinor, false, reason, null);
+    }
+
+    // 거절된 결과면 PaymentException (단건 pay/payMinor 호환용)
+    public void throwIfDeclined() {
+        if (!approved) {
+            throw PaymentException.withoutStackTrace(reason);
+        }
+    }
+
+    public long getAmountMinor() { return amountMinor; }
+    public boolean isApproved() { return approved; }
+    public String getReason() { return reason; }
+    public String getAuthorizationId() { return authorizationId; }
+
+    @Override
+    public String toString() {
+        return approved ? "승인(" + amountMinor + ")" : "거절(" + amountMinor + ", " + reason + ")";
+    }
+}
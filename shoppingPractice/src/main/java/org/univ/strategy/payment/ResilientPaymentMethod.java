@@ -0,0 +1,86 @@
+package org.univ.strategy.payment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.univ.exception.PaymentException;
+import org.univ.strategy.resilience.CallStats;
+import org.univ.strategy.resilience.CircuitState;
+import org.univ.strategy.resilience.ResilienceGuard;
+
+/**
+ * 결제 방식 데코레이터: 실제 결제 방식 호출을 ResilienceGuard(회로 차단/동시 호출 제한/시간 제한)로 감싼다.
+ * 거절과 시간 초과는 PaymentException으로 알리므로 주문 쪽 실패 처리(롤백)는 그대로 동작한다.
+ * authorize/authorizeBatch에서 거절은 결과로 돌아오므로 정상 호출로 기록되고,
+ * 회로는 예외(게이트웨이 오류)와 시간 초과로만 열린다.
+ * 같은 보호막을 쓰는 결제들은 일괄 승인도 보호막 호출 한 번으로 처리한다.
+ * 시간 초과로 거절 처리한 승인이 나중에 승인되면 바로 취소해 청구가 남지 않게 한다.
+ */
+public class ResilientPaymentMethod implements PaymentMethod {
+
+    private final PaymentMethod delegate;
+    private final ResilienceGuard guard;
+
+    public ResilientPaymentMethod(PaymentMethod delegate, ResilienceGuard guard) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("결제 방식이 지정되지 않았습니다.");
+        }
+        if (guard == null) {
+            throw new IllegalArgumentException("보호막이 지정되지 않았습니다.");
+        }
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public void payMinor(long amountMinor) {
+        guard.run(() -> delegate.payMinor(amountMinor), PaymentException::new);
+    }
+
+    // 보호막 안에서 원래 결제 방식의 승인을 호출한다. 차단/시간 초과는 거절 결과로 돌려준다.
+    @Override
+    public PaymentResult authorize(long amountMinor) {
+        try {
+            return guard.call(() -> delegate.authorize(amountMinor), PaymentException::new, this::voidIfApproved);
+        } catch (PaymentException e) {
+            return PaymentResult.declined(amountMinor, e.getMessage());
+        }
+    }
+
+    // 보호막 안에서 원래 결제 방식들의 일괄 승인을 한 번 호출한다.
+    @Override
+    public List<PaymentResult> authorizeBatch(List<PaymentRequest> requests) {
+        List<PaymentRequest> unwrapped = new ArrayList<>(requests.size());
+        for (PaymentRequest request : requests) {
+            if (!batchKey().equals(request.getMethod().batchKey())) {
+                throw new IllegalArgumentException("같은 묶음으로 승인할 수 없는 결제 방식입니다.");
+            }
+            unwrapped.add(new PaymentRequest(((ResilientPaymentMethod) request.getMethod()).delegate,
+                    request.getAmountMinor()));
+        }
+        return guard.call(() -> delegate.authorizeBatch(unwrapped), PaymentException::new,
+                late -> late.forEach(this::voidIfApproved));
+    }
+
+    // 시간 초과 뒤에 늦게 도착한 승인 결과: 호출자는 이미 거절로 처리했으므로 승인이면 취소한다.
+    private void voidIfApproved(PaymentResult late) {
+        if (late != null && late.isApproved()) {
+            delegate.voidPayment(late);
+        }
+    }
+
+    // 취소는 보호막을 거치지 않음 (회로가 열려 있어도 이미 승인된 청구는 되돌려야 함)
+    @Override
+    public void voidPayment(PaymentResult approved) {
+        delegate.voidPayment(approved);
+    }
+
+    @Override
+    public Object batchKey() {
+        return Map.entry(guard, delegate.batchKey());
+    }
+
+    public CircuitState getCircuitState() { return guard.getCircuitState(); }
+    public CallStats getStats() { return guard.getStats(); }
+    public ResilienceGuard getGuard() { return guard; }
+}
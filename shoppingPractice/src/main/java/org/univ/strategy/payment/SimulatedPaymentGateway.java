@@ -0,0 +1,102 @@
+package org.univ.strategy.payment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로컬 모의 결제 게이트웨이: 호출마다 고정 지연(네트워크 왕복 흉내)과 항목당 지연을 준 뒤 모두 승인하고 승인 번호를 발급한다.
+ * 동시 호출 수를 제한하면 처리사 연결 수 제한처럼 초과 호출은 자리가 날 때까지 기다린다.
+ * 일괄 승인의 효과(호출 수 감소)를 측정하는 용도
+ */
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private final long perCallNanos;   // 호출당 지연
+    private final long perItemNanos;   // 항목당 추가 지연
+    private final Semaphore slots;     // 동시 호출 제한 (null이면 제한 없음)
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong items = new AtomicLong();
+    private final AtomicLong voids = new AtomicLong();
+    private final AtomicLong authorizationSeq = new AtomicLong();
+    private final Queue<String> voidedIds = new ConcurrentLinkedQueue<>();  // 취소 요청받은 승인 번호
+
+    public SimulatedPaymentGateway(Duration perCallLatency) {
+        this(perCallLatency, Duration.ZERO);
+    }
+
+    public SimulatedPaymentGateway(Duration perCallLatency, Duration perItemLatency) {
+        this(perCallLatency, perItemLatency, 0);
+    }
+
+    // maxConcurrentCalls가 0이면 동시 호출 제한 없음
+    public SimulatedPaymentGateway(Duration perCallLatency, Duration perItemLatency, int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 0) {
+            throw new IllegalArgumentException("동시 호출 제한은 0 이상이어야 합니다.");
+        }
+        if (perCallLatency == null || perCallLatency.isNegative()
+                || perItemLatency == null || perItemLatency.isNegative()) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+        }
+        this.perCallNanos = perCallLatency.toNanos();
+        this.perItemNanos = perItemLatency.toNanos();
+        this.slots = maxConcurrentCalls == 0 ? null : new Semaphore(maxConcurrentCalls, true);
+    }
+
+    @Override
+    public List<PaymentResult> authorize(List<PaymentRequest> requests) {
+        calls.incrementAndGet();
+        items.addAndGet(requests.size());
+        if (slots != null) {
+            slots.acquireUninterruptibly();
+        }
+        try {
+            sleepNanos(perCallNanos + perItemNanos * requests.size());
+        } finally {
+            if (slots != null) {
+                slots.release();
+            }
+        }
+        List<PaymentResult> results = new ArrayList<>(requests.size());
+        for (PaymentRequest request : requests) {
+            results.add(PaymentResult.approved(request.getAmountMinor(), "SIM-" + authorizationSeq.incrementAndGet()));
+        }
+        return results;
+    }
+
+    // 취소는 지연 없이 승인 번호와 건수만 기록 (승인 번호가 없으면 어떤 청구인지 알 수 없으므로 거절)
+    @Override
+    public void voidAuthorizations(List<PaymentResult> approved) {
+        for (PaymentResult result : approved) {
+            if (result.getAuthorizationId() == null) {
+                throw new IllegalArgumentException("승인 번호가 없는 취소 요청입니다.");
+            }
+        }
+        for (PaymentResult result : approved) {
+            voidedIds.add(result.getAuthorizationId());
+        }
+        voids.addAndGet(approved.size());
+    }
+
+    private static void sleepNanos(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long left = nanos;
+        while (left > 0) {
+            LockSupport.parkNanos(left);
+            left = deadline - System.nanoTime();
+        }
+    }
+
+    // 지금까지 받은 호출 수
+    public long getCallCount() { return calls.get(); }
+    // 지금까지 받은 승인 항목 수
+    public long getItemCount() { return items.get(); }
+    // 지금까지 받은 승인 취소 항목 수
+    public long getVoidCount() { return voids.get(); }
+    // 지금까지 취소 요청받은 승인 번호 (요청 순서)
+    public List<String> getVoidedAuthorizationIds() { return new ArrayList<>(voidedIds); }
+}
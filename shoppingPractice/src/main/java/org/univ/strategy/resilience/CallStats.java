@@ -0,0 +1,75 @@
+package org.univ.strategy.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 호출 통계: 결과별 호출 수와 지연 시간 (여러 스레드가 동시에 기록)
+ * 지연 시간은 실제로 실행된 호출(성공/실패/시간 초과)만 집계한다.
+ */
+public class CallStats {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();    // 회로 차단으로 거절
+    private final LongAdder bulkheadRejected = new LongAdder();  // 동시 호출 제한으로 거절
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    void recordSuccess(long latencyNanos) {
+        successes.increment();
+        recordLatency(latencyNanos);
+    }
+
+    void recordFailure(long latencyNanos) {
+        failures.increment();
+        recordLatency(latencyNanos);
+    }
+
+    void recordTimeout(long latencyNanos) {
+        timeouts.increment();
+        recordLatency(latencyNanos);
+    }
+
+    void recordShortCircuited() {
+        shortCircuited.increment();
+    }
+
+    void recordBulkheadRejected() {
+        bulkheadRejected.increment();
+    }
+
+    private void recordLatency(long nanos) {
+        totalLatencyNanos.add(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getSuccessCount() { return successes.sum(); }
+    public long getFailureCount() { return failures.sum(); }
+    public long getTimeoutCount() { return timeouts.sum(); }
+    public long getShortCircuitedCount() { return shortCircuited.sum(); }
+    public long getBulkheadRejectedCount() { return bulkheadRejected.sum(); }
+
+    // 실제로 실행된 호출 수
+    public long getExecutedCount() {
+        return getSuccessCount() + getFailureCount() + getTimeoutCount();
+    }
+
+    // 실행된 호출의 평균 지연 (밀리초)
+    public double getAverageLatencyMillis() {
+        long executed = getExecutedCount();
+        return executed == 0 ? 0.0 : totalLatencyNanos.sum() / 1_000_000.0 / executed;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("성공 %d, 실패 %d, 시간 초과 %d, 차단 %d, 동시 호출 초과 %d, 평균 %.2fms, 최대 %.2fms",
+                getSuccessCount(), getFailureCount(), getTimeoutCount(), getShortCircuitedCount(),
+                getBulkheadRejectedCount(), getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+}
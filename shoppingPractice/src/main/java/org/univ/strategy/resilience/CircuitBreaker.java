@@ -0,0 +1,138 @@
+package org.univ.strategy.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 회로 차단기: 최근 windowSize번 호출의 실패율이 기준을 넘으면 일정 시간 호출을 바로 거절한다.
+ * - CLOSED: 결과를 링 버퍼(최근 windowSize개)에 기록, 최소 minimumCalls번 이상 기록된 뒤 실패율 판단
+ * - OPEN: openDuration 동안 모든 호출 거절
+ * - HALF_OPEN: 시험 호출 하나만 허용, 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN
+ * 상태 판단은 원격 호출에 비하면 아주 짧으므로 synchronized로 보호한다.
+ */
+public class CircuitBreaker {
+
+    private final boolean[] outcomes;       // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long openMillis;
+    private final Clock clock;
+
+    private int recorded;       // 링 버퍼에 기록된 결과 수 (최대 windowSize)
+    private int next;           // 다음에 기록할 위치
+    private int failures;       // 링 버퍼 안의 실패 수
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAtMillis;
+    private boolean trialInFlight;  // HALF_OPEN에서 시험 호출이 진행 중인지
+
+    // 최근 windowSize번 중 failureRatePercent% 이상 실패하면 openDuration 동안 차단 (최소 기록 수 = windowSize / 2)
+    public CircuitBreaker(int windowSize, int failureRatePercent, Duration openDuration) {
+        this(windowSize, Math.max(1, windowSize / 2), failureRatePercent, openDuration, Clock.systemUTC());
+    }
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRatePercent, Duration openDuration, Clock clock) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("기록 창 크기는 1 이상이어야 합니다.");
+        }
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("최소 기록 수는 1 이상, 창 크기 이하여야 합니다.");
+        }
+        if (failureRatePercent <= 0 || failureRatePercent > 100) {
+            throw new IllegalArgumentException("실패율 기준은 1~100(%) 이어야 합니다.");
+        }
+        if (openDuration == null || openDuration.isNegative()) {
+            throw new IllegalArgumentException("차단 시간은 0 이상이어야 합니다.");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("시계가 지정되지 않았습니다.");
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRatePercent = failureRatePercent;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    // 호출해도 되는지 확인한다. true를 받았으면 결과를 onSuccess/onFailure로 반드시 알려야 한다.
+    public synchronized boolean tryAcquire() {
+        if (state == CircuitState.OPEN) {
+            if (clock.millis() - openedAtMillis < openMillis) {
+                return false;
+            }
+            state = CircuitState.HALF_OPEN;
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == CircuitState.HALF_OPEN) {
+            trialInFlight = false;
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == CircuitState.HALF_OPEN) {
+            trialInFlight = false;
+            open();
+            return;
+        }
+        record(true);
+        if (state == CircuitState.CLOSED && recorded >= minimumCalls
+                && failures * 100 >= failureRatePercent * recorded) {
+            open();
+        }
+    }
+
+    // 허용받았지만 실행하지 않은 호출 (예: 벌크헤드에서 거절) - 결과로 기록하지 않음
+    synchronized void onIgnored() {
+        if (state == CircuitState.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = CircuitState.OPEN;
+        openedAtMillis = clock.millis();
+    }
+
+    private void close() {
+        state = CircuitState.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+
+    // 현재 상태 (차단 시간이 지났어도 다음 호출 전까지는 OPEN으로 보임)
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    // 기록 창 안의 실패율(%)
+    public synchronized int getFailureRatePercent() {
+        return recorded == 0 ? 0 : failures * 100 / recorded;
+    }
+}
@@ -0,0 +1,17 @@
+package org.univ.strategy.resilience;
+
+public enum CircuitState {
+    CLOSED("정상"),         // 모든 호출 통과
+    OPEN("차단"),           // 호출을 바로 거절
+    HALF_OPEN("시험 중");   // 시험 호출 하나만 통과시켜 회복 여부 확인
+
+    private final String description;
+
+    CircuitState(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
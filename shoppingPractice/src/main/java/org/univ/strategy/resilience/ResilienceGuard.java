@@ -0,0 +1,189 @@
+package org.univ.strategy.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 보호막: 회로 차단기 → 벌크헤드 → 시간 제한 순서로 호출을 감싼다.
+ * - 회로가 열려 있으면 벌크헤드 자리를 기다리지도 않고 바로 거절
+ * - 시간 제한을 넘기면 호출자는 바로 실패를 받지만, 벌크헤드 자리는 실제 호출이 끝날 때까지 잡혀 있으므로
+ *   느린 서비스에 묶인 호출 수가 한도를 넘지 않는다
+ * 세 장치는 각각 null(또는 시간 제한 0)로 끌 수 있다. 거절/시간 초과 예외는 rejection으로 만든다.
+ */
+public class ResilienceGuard {
+
+    // 시간 제한이 있는 호출을 실행하는 기본 실행기
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE;
+
+        static {
+            AtomicInteger seq = new AtomicInteger();
+            INSTANCE = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "resilience-call-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final long timeoutNanos;
+    private final Executor executor;
+    private final CallStats stats = new CallStats();
+
+    public ResilienceGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Duration timeout) {
+        this(name, circuitBreaker, bulkhead, timeout, null);
+    }
+
+    // executor: 시간 제한이 있는 호출을 실행할 실행기 (null이면 기본 실행기)
+    public ResilienceGuard(String name,
+                           CircuitBreaker circuitBreaker,
+                           Bulkhead bulkhead,
+                           Duration timeout,
+                           Executor executor) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("보호 대상 이름은 필수입니다.");
+        }
+        if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("시간 제한은 0 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeoutNanos = timeout == null ? 0 : timeout.toNanos();
+        this.executor = executor;
+    }
+
+    public void run(Runnable call, Function<String, ? extends RuntimeException> rejection) {
+        call(() -> {
+            call.run();
+            return null;
+        }, rejection);
+    }
+
+    /**
+     * call을 보호막 안에서 실행하고 결과를 돌려준다.
+     * call이 던진 예외는 그대로 전달되고(실패로 기록), 거절/시간 초과는 rejection이 만든 예외로 던진다.
+     */
+    public <T> T call(Supplier<T> call, Function<String, ? extends RuntimeException> rejection) {
+        return call(call, rejection, null);
+    }
+
+    /**
+     * call과 같지만, 시간 초과로 포기한 호출이 나중에 정상 결과를 내면 그 결과를 lateResult로 넘긴다.
+     * (예: 호출자는 거절로 처리했는데 뒤늦게 승인된 결제를 취소)
+     */
+    public <T> T call(Supplier<T> call,
+                      Function<String, ? extends RuntimeException> rejection,
+                      Consumer<? super T> lateResult) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            stats.recordShortCircuited();
+            throw rejection.apply(name + " 호출 차단 (회로 열림)");
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onIgnored();
+            }
+            stats.recordBulkheadRejected();
+            throw rejection.apply(name + " 동시 호출 한도 초과 (" + bulkhead.getMaxConcurrentCalls() + "건)");
+        }
+
+        long start = System.nanoTime();
+        if (timeoutNanos == 0) {
+            try {
+                T result = call.get();
+                onSuccess(start);
+                return result;
+            } catch (RuntimeException | Error e) {
+                onFailure(start);
+                throw e;
+            } finally {
+                releaseBulkhead();
+            }
+        }
+
+        CompletableFuture<T> task;
+        try {
+            task = CompletableFuture.supplyAsync(call, executor != null ? executor : DefaultExecutor.INSTANCE);
+        } catch (RuntimeException e) {
+            releaseBulkhead();
+            onFailure(start);
+            throw e;
+        }
+        // 벌크헤드 자리는 실제 호출이 끝날 때 반환
+        task.whenComplete((result, error) -> releaseBulkhead());
+        try {
+            T result = task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            onSuccess(start);
+            return result;
+        } catch (TimeoutException e) {
+            stats.recordTimeout(System.nanoTime() - start);
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure();
+            }
+            if (lateResult != null) {
+                task.thenAccept(lateResult);
+            }
+            throw rejection.apply(name + " 응답 시간 초과 (" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms)");
+        } catch (ExecutionException e) {
+            onFailure(start);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onFailure(start);
+            throw rejection.apply(name + " 호출 대기 중 중단됨");
+        }
+    }
+
+    private void onSuccess(long startNanos) {
+        stats.recordSuccess(System.nanoTime() - startNanos);
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void onFailure(long startNanos) {
+        stats.recordFailure(System.nanoTime() - startNanos);
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void releaseBulkhead() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    public String getName() { return name; }
+    public CallStats getStats() { return stats; }
+
+    // 회로 상태 (회로 차단기가 없으면 항상 CLOSED)
+    public CircuitState getCircuitState() {
+        return circuitBreaker == null ? CircuitState.CLOSED : circuitBreaker.getState();
+    }
+
+    // 지금 진행 중인 호출 수 (벌크헤드가 없으면 0)
+    public int getActiveCalls() {
+        return bulkhead == null ? 0 : bulkhead.getActiveCalls();
+    }
+}
@@ -1,12 +1,20 @@
 package org.univ.ui;
 
 import org.univ.domain.customer.Customer;
+import org.univ.domain.discount.DiscountEngine;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.money.Money;
 import org.univ.domain.order.Order;
 import org.univ.domain.product.Clothing;
 import org.univ.domain.product.Electronics;
 import org.univ.domain.product.Food;
 import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
 import org.univ.exception.IllegalOrderStateException;
+import org.univ.persistence.CatalogSnapshot;
+import org.univ.persistence.FsyncPolicy;
+import org.univ.persistence.WalRecovery;
+import org.univ.persistence.WriteAheadLog;
 import org.univ.service.OrderService;
 import org.univ.strategy.delivery.ExpressDelivery;
 import org.univ.strategy.delivery.StandardDelivery;
@@ -15,6 +23,8 @@ import org.univ.strategy.payment.BankTransferPayment;
 import org.univ.strategy.payment.CreditCardPayment;
 import org.univ.strategy.payment.PaymentMethod;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,8 +38,12 @@ public class ConsoleApp {
     private final InputReader reader = new InputReader();
     private final OrderService orderService = new OrderService();
     private Customer customer;
+    // 카탈로그 스냅샷 파일 (-Dshop.snapshot=파일경로로 지정했을 때만 사용)
+    private final Path snapshotPath = optionalPath("shop.snapshot");
     // 애플리케이션 실행 내내 공유할 카탈로그
-    private final List<Product> catalog = buildCatalog();
+    private final ProductCatalog catalog = loadCatalog();
+    // 주문 로그 (-Dshop.wal=파일경로로 지정했을 때만 사용)
+    private WriteAheadLog orderLog;
 
     public static void main(String[] args) {
         new ConsoleApp().run();
@@ -37,6 +51,7 @@ public class ConsoleApp {
 
     public void run() {
         System.out.println("=== 쇼핑몰 주문 시스템 ===");
+        openOrderLog();
         customer = readCustomer();
 
         boolean exit = false;
@@ -67,9 +82,46 @@ public class ConsoleApp {
         }
 
         reader.close();
+        if (orderLog != null) {
+            orderLog.close();
+        } else if (snapshotPath != null) {
+            // 주문 로그가 없으면 현재 재고를 스냅샷에 남김 (로그가 있으면 스냅샷은 로그 시작 시점 재고로 유지)
+            CatalogSnapshot.write(snapshotPath, catalog.findAll());
+        }
         System.out.println("프로그램을 종료합니다.");
     }
 
+    private static Path optionalPath(String property) {
+        String value = System.getProperty(property);
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+
+    // 스냅샷이 있으면 상품을 처음 조회할 때 스냅샷에서 읽고(읽은 상품은 할인 가격표에 등록), 없으면 새로 만들어 스냅샷으로 저장
+    private ProductCatalog loadCatalog() {
+        if (snapshotPath == null) {
+            return buildCatalog();
+        }
+        if (Files.exists(snapshotPath)) {
+            return new ProductCatalog(CatalogSnapshot.open(snapshotPath), DiscountEngine.global()::registerAll);
+        }
+        ProductCatalog c = buildCatalog();
+        CatalogSnapshot.write(snapshotPath, c.findAll());
+        return c;
+    }
+
+    // 주문 로그 경로가 지정되어 있으면 이전 실행의 주문/재고를 복구하고, 이후 주문 변화를 기록한다.
+    private void openOrderLog() {
+        Path logPath = optionalPath("shop.wal");
+        if (logPath == null) {
+            return;
+        }
+        List<Order> recovered = new WalRecovery(catalog, ReservationLedger.untimed()).recover(logPath);
+        orderLog = new WriteAheadLog(logPath, FsyncPolicy.INTERVAL);
+        orderService.addOrderListener(orderLog);
+        orderService.restore(recovered);
+        System.out.println("주문 로그에서 " + recovered.size() + "건의 주문을 복구했습니다.");
+    }
+
     private void handlePlaceOrder() {
         try {
             List<Product> items = selectProducts(catalog);
@@ -89,7 +141,7 @@ public class ConsoleApp {
 
     private void handleViewOrders() {
         System.out.println("\n=== 내 주문 조회 ===");
-        List<Order> orders = customer.getOrders();
+        List<Order> orders = orderService.getOrderRepository().findByCustomerId(customer.getCustomerId());
         if (orders.isEmpty()) {
             System.out.println("등록된 주문이 없습니다.");
         } else {
@@ -133,18 +185,20 @@ public class ConsoleApp {
         return new Customer(id, name, email, phone, address);
     }
 
-    private List<Product> selectProducts(List<Product> catalog) {
+    private List<Product> selectProducts(ProductCatalog productCatalog) {
         System.out.println("\n=== 상품 선택 ===");
         List<Product> chosen = new ArrayList<>();
         while (true) {
+            // 화면에 보여준 순서 그대로 번호를 매기기 위해 목록을 한 번 가져옴
+            List<Product> catalog = productCatalog.findAll();
             for (int i = 0; i < catalog.size(); i++) {
                 Product p = catalog.get(i);
                 System.out.printf(
-                        "%d) %s (%s) %,d원 [%d개]%n",
+                        "%d) %s (%s) %s [%d개]%n",
                         i + 1,
                         p.getName(),
                         p.getProductId(),
-                        (int) p.getPrice(),
+                        Money.format(p.getPriceMinor()),
                         p.getStockQuantity()
                 );
             }
@@ -218,12 +272,14 @@ public class ConsoleApp {
     }
 
     // 애플리케이션 실행 내내 한 번만 호출되는 카탈로그 빌더
-    private List<Product> buildCatalog() {
-        List<Product> c = new ArrayList<>();
+    private ProductCatalog buildCatalog() {
+        ProductCatalog c = new ProductCatalog();
         c.add(new Clothing("C001", "반팔티", 15000, "여름용 반팔티", 10, "M", "면"));
         c.add(new Electronics("E001", "무선헤드폰", 50000, "블루투스 헤드폰", 5, 12));
         c.add(new Clothing("C002", "청바지", 30000, "데님 청바지", 7, "L", "데님"));
         c.add(new Food("F001", "냉장 식품", 20000, "신선 냉장 보관 필요", 20, true));
+        // 할인 가격표에 카탈로그 상품 등록
+        DiscountEngine.global().registerAll(c.findAll());
         return c;
     }
 }
\ No newline at end of file
@@ -0,0 +1,299 @@
+package org.univ.ui;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.discount.DiscountEngine;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.order.OrderMetrics;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Electronics;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
+import org.univ.exception.DeliveryException;
+import org.univ.metrics.Counter;
+import org.univ.metrics.LatencyHistogram;
+import org.univ.metrics.MetricsRegistry;
+import org.univ.repository.OrderRepository;
+import org.univ.service.IdempotencyCache;
+import org.univ.service.OrderOutcome;
+import org.univ.service.OrderService;
+import org.univ.service.PlaceOrderResult;
+import org.univ.service.SnowflakeOrderIdGenerator;
+import org.univ.service.VirtualThreads;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
+import org.univ.strategy.delivery.ExpressDelivery;
+import org.univ.strategy.delivery.StandardDelivery;
+import org.univ.strategy.payment.BankTransferPayment;
+import org.univ.strategy.payment.CreditCardPayment;
+import org.univ.strategy.payment.PaymentGateway;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.SimulatedPaymentGateway;
+
+/**
+ * 콘솔 없이 돌리는 부하 발생기: 가상 고객들이 공유 카탈로그와 OrderService로 주문을 넣는다. (용량 산정용)
+ * - open-loop: 주문은 포아송 도착 시각표대로 보내고, 앞선 주문이 끝나기를 기다리지 않음
+ *   (주문마다 가상 스레드 하나에서 OrderService.tryPlaceOrder 호출)
+ * - 장바구니 크기, 결제/배송 방식, 결제 거절/배송 실패 주입은 도착 시점에 시드 고정 난수로 정함
+ * - 결제 거절은 실제 거절 규칙(카드 끝자리 00, 계좌 끝자리 999999)을 타는 결제 수단으로 주입
+ * 끝나면 처리량, 결과 유형별 건수, 지연 백분위수, 단계별 지표를 LoadReport로 돌려준다.
+ *
+ * 실행: java org.univ.ui.LoadDriver --rate=5000 --duration=30 (설정 목록은 LoadProfile 참고)
+ */
+public class LoadDriver {
+
+    // 부하 발생기가 쓰는 주문 ID 노드 (실제 서버 노드 ID와 겹치지 않게 마지막 번호 사용)
+    private static final int LOAD_NODE_ID = SnowflakeOrderIdGenerator.MAX_NODE_ID;
+    // 이보다 많이 남았으면 잠들고, 남은 시간이 짧으면 양보하며 도착 시각을 기다림
+    private static final long PARK_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    // 배송 실패 주입용 배송 방식 (항상 실패, 스택 트레이스 없이)
+    private static final DeliveryMethod FAILING_DELIVERY = new DeliveryMethod() {
+        @Override
+        public void deliver(String productSummary) {
+            throw DeliveryException.withoutStackTrace("배송사 장애(주입된 실패)");
+        }
+
+        @Override
+        public void deliver(DeliveryRequest request) {
+            throw DeliveryException.withoutStackTrace("배송사 장애(주입된 실패)");
+        }
+    };
+
+    private final LoadProfile profile;
+    private final OrderService orderService;
+    private final List<Product> products = new ArrayList<>();
+    private final List<Product> coldProducts = new ArrayList<>();
+    private final Customer[] customers;
+
+    // 결제 수단: [카드, 계좌] × [승인, 거절]
+    private final PaymentMethod card;
+    private final PaymentMethod declinedCard;
+    private final PaymentMethod transfer;
+    private final PaymentMethod declinedTransfer;
+    private final DeliveryMethod standard = new StandardDelivery();
+    private final DeliveryMethod express = new ExpressDelivery();
+
+    // 주문 전체 지연/결과 집계 (단계별 지표와 섞이지 않게 레지스트리 밖에 둠)
+    private final LatencyHistogram latency = new LatencyHistogram("load.order");
+    private final Map<OrderOutcome.Status, Counter> outcomes = new EnumMap<>(OrderOutcome.Status.class);
+    private final Counter errors = new Counter();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong lastCompletedNanos = new AtomicLong();
+
+    public LoadDriver(LoadProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("부하 설정이 지정되지 않았습니다.");
+        }
+        this.profile = profile;
+        this.orderService = new OrderService(ReservationLedger.untimed(),
+                null,
+                new OrderRepository(),
+                new IdempotencyCache<>(1, Duration.ofMinutes(1)),  // tryPlaceOrder는 멱등성 키를 쓰지 않음
+                new SnowflakeOrderIdGenerator(LOAD_NODE_ID),
+                new OrderMetrics(new MetricsRegistry()));
+        buildCatalog();
+        this.customers = new Customer[profile.getCustomers()];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer("LOAD-" + (i + 1), "가상고객" + (i + 1),
+                    "load" + (i + 1) + "@example.com", "010-0000-0000", "서울시 부하구 " + (i + 1) + "번지");
+        }
+        PaymentGateway gateway = profile.getPaymentLatencyMillis() > 0
+                ? new SimulatedPaymentGateway(Duration.ofNanos(Math.round(profile.getPaymentLatencyMillis() * 1e6)))
+                : PaymentGateway.IMMEDIATE;
+        this.card = new CreditCardPayment("123412341234", "12/30", gateway);
+        this.declinedCard = new CreditCardPayment("123412341200", "12/30", gateway);
+        this.transfer = new BankTransferPayment("부하은행", "12345678", gateway);
+        this.declinedTransfer = new BankTransferPayment("부하은행", "12999999", gateway);
+        for (OrderOutcome.Status status : OrderOutcome.Status.values()) {
+            outcomes.put(status, new Counter());
+        }
+    }
+
+    public static void main(String[] args) {
+        LoadProfile profile;
+        try {
+            profile = LoadProfile.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("설정 오류: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.out.println(new LoadDriver(profile).run().format());
+    }
+
+    // 상품 종류를 돌아가며 채운 카탈로그 (세 개 중 하나는 냉장 식품)
+    private void buildCatalog() {
+        ProductCatalog catalog = new ProductCatalog();
+        for (int i = 0; i < profile.getProducts(); i++) {
+            String id = String.format("L%05d", i + 1);
+            double price = 1000 + (i % 50) * 500;
+            Product product;
+            switch (i % 3) {
+                case 0:
+                    product = new Food(id, "냉장 식품 " + (i + 1), price, "부하용 냉장 식품", profile.getStock(), true);
+                    coldProducts.add(product);
+                    break;
+                case 1:
+                    product = new Clothing(id, "의류 " + (i + 1), price, "부하용 의류", profile.getStock(), "M", "면");
+                    break;
+                default:
+                    product = new Electronics(id, "전자제품 " + (i + 1), price, "부하용 전자제품", profile.getStock(), 12);
+                    break;
+            }
+            catalog.add(product);
+        }
+        products.addAll(catalog.findAll());
+        DiscountEngine.global().registerAll(products);
+    }
+
+    /**
+     * 설정한 도착 수만큼 주문을 보내고, 보낸 주문이 모두 끝나면 결과를 돌려준다.
+     * 한 인스턴스는 한 번만 실행하는 것을 전제로 한다. (재고와 지표가 누적됨)
+     */
+    public LoadReport run() {
+        Random random = new Random(profile.getSeed());
+        double meanGapNanos = 1e9 / profile.getRatePerSecond();
+        long arrivals = profile.getArrivalCount();
+        long dropped = 0;
+        long maxLag = 0;
+
+        ExecutorService executor = VirtualThreads.newPerTaskExecutor("load-customer");
+        long start = System.nanoTime();
+        lastCompletedNanos.set(start);
+        double scheduled = 0;  // 시작 기준 예정 도착 시각
+        long sent = start;
+        try {
+            for (long i = 0; i < arrivals; i++) {
+                // 포아송 도착: 도착 간격은 지수 분포
+                scheduled += -Math.log(1 - random.nextDouble()) * meanGapNanos;
+                long intended = start + (long) scheduled;
+                Arrival arrival = nextArrival(random);
+                awaitUntil(intended);
+
+                sent = System.nanoTime();
+                maxLag = Math.max(maxLag, sent - intended);
+                int running = inFlight.incrementAndGet();
+                if (running > profile.getMaxInFlight()) {
+                    inFlight.decrementAndGet();
+                    dropped++;
+                    continue;
+                }
+                maxInFlight.accumulateAndGet(running, Math::max);
+                executor.execute(() -> place(intended, arrival));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        awaitTermination(executor);
+
+        Map<OrderOutcome.Status, Long> counts = new EnumMap<>(OrderOutcome.Status.class);
+        for (Map.Entry<OrderOutcome.Status, Counter> entry : outcomes.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        long end = Math.max(lastCompletedNanos.get(), sent);
+        return new LoadReport(profile, arrivals, dropped, errors.get(), counts,
+                sent - start, end - start, maxLag, maxInFlight.get(), latency.snapshot(),
+                orderService.getMetricsRegistry().dump());
+    }
+
+    // 주문 한 건의 내용 (도착 시점에 정함)
+    private static final class Arrival {
+        final Customer customer;
+        final List<Product> cart;
+        final PaymentMethod paymentMethod;
+        final DeliveryMethod deliveryMethod;
+
+        Arrival(Customer customer, List<Product> cart, PaymentMethod paymentMethod, DeliveryMethod deliveryMethod) {
+            this.customer = customer;
+            this.cart = cart;
+            this.paymentMethod = paymentMethod;
+            this.deliveryMethod = deliveryMethod;
+        }
+    }
+
+    private Arrival nextArrival(Random random) {
+        Customer customer = customers[random.nextInt(customers.length)];
+        boolean useExpress = !coldProducts.isEmpty() && random.nextDouble() < profile.getExpressRatio();
+        int size = cartSize(random);
+        List<Product> cart = new ArrayList<>(size);
+        if (useExpress) {
+            // 특급 배송은 냉장 품목만 받으므로 냉장 식품을 하나 넣음
+            cart.add(coldProducts.get(random.nextInt(coldProducts.size())));
+        }
+        while (cart.size() < size) {
+            cart.add(products.get(random.nextInt(products.size())));
+        }
+
+        boolean useCard = random.nextDouble() < profile.getCardRatio();
+        boolean decline = random.nextDouble() < profile.getDeclineRate();
+        PaymentMethod paymentMethod = useCard
+                ? (decline ? declinedCard : card)
+                : (decline ? declinedTransfer : transfer);
+
+        DeliveryMethod deliveryMethod = random.nextDouble() < profile.getDeliveryFailureRate()
+                ? FAILING_DELIVERY
+                : (useExpress ? express : standard);
+        return new Arrival(customer, cart, paymentMethod, deliveryMethod);
+    }
+
+    // 평균 cartMean인 기하 분포 (1 이상, cartMax에서 자름)
+    private int cartSize(Random random) {
+        double mean = profile.getCartMean();
+        if (mean <= 1) {
+            return 1;
+        }
+        double p = 1 / mean;
+        int extra = (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        return Math.min(profile.getCartMax(), 1 + extra);
+    }
+
+    private void place(long intendedNanos, Arrival arrival) {
+        try {
+            PlaceOrderResult result = orderService.tryPlaceOrder(
+                    arrival.customer, arrival.cart, arrival.paymentMethod, arrival.deliveryMethod);
+            outcomes.get(result.getStatus()).increment();
+        } catch (RuntimeException e) {
+            errors.increment();
+        } finally {
+            long now = System.nanoTime();
+            latency.record(now - intendedNanos);
+            lastCompletedNanos.accumulateAndGet(now, Math::max);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void awaitUntil(long deadlineNanos) {
+        long left;
+        while ((left = deadlineNanos - System.nanoTime()) > 0) {
+            if (left > PARK_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(left - PARK_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                // 남은 주문이 끝날 때까지 기다림
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
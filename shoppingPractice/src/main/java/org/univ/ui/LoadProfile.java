@@ -0,0 +1,177 @@
+package org.univ.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 발생기(LoadDriver) 설정: 명령행 인자 "--이름=값"으로 기본값을 덮어쓴다.
+ * 예) --rate=5000 --duration=30 --customers=2000 --cartMean=4 --declineRate=0.05
+ *
+ * - customers:            가상 고객 수 (주문마다 이 중 한 명을 고름)
+ * - rate:                 초당 주문 도착 수 (포아송 도착, 처리 완료를 기다리지 않는 open-loop)
+ * - duration:             주문을 보내는 시간(초)
+ * - products / stock:     카탈로그 상품 수 / 상품당 초기 재고
+ * - cartMean / cartMax:   장바구니 상품 수 분포 (평균 cartMean인 기하 분포, 최대 cartMax)
+ * - cardRatio:            카드 결제 비율 (나머지는 계좌 이체)
+ * - expressRatio:         특급 배송 비율 (특급 주문에는 냉장 식품이 한 개 이상 들어감, 나머지는 일반 배송)
+ * - declineRate:          결제 거절 주입 비율
+ * - deliveryFailureRate:  배송 실패 주입 비율
+ * - paymentLatencyMs:     결제 게이트웨이 호출당 지연(ms)
+ * - maxInFlight:          동시에 처리 중인 주문 상한 (넘으면 보내지 않고 버린 것으로 집계)
+ * - seed:                 난수 시드 (같은 시드면 같은 주문 순서)
+ */
+public final class LoadProfile {
+
+    private final int customers;
+    private final double ratePerSecond;
+    private final double durationSeconds;
+    private final int products;
+    private final int stock;
+    private final double cartMean;
+    private final int cartMax;
+    private final double cardRatio;
+    private final double expressRatio;
+    private final double declineRate;
+    private final double deliveryFailureRate;
+    private final double paymentLatencyMillis;
+    private final int maxInFlight;
+    private final long seed;
+
+    private LoadProfile(Map<String, String> values) {
+        this.customers = positiveInt(values, "customers", 1000);
+        this.ratePerSecond = positiveDouble(values, "rate", 2000);
+        this.durationSeconds = positiveDouble(values, "duration", 10);
+        this.products = positiveInt(values, "products", 100);
+        this.stock = positiveInt(values, "stock", 1_000_000);
+        this.cartMean = positiveDouble(values, "cartMean", 3);
+        this.cartMax = positiveInt(values, "cartMax", 20);
+        this.cardRatio = ratio(values, "cardRatio", 0.7);
+        this.expressRatio = ratio(values, "expressRatio", 0.2);
+        this.declineRate = ratio(values, "declineRate", 0.02);
+        this.deliveryFailureRate = ratio(values, "deliveryFailureRate", 0.01);
+        this.paymentLatencyMillis = nonNegativeDouble(values, "paymentLatencyMs", 0);
+        this.maxInFlight = positiveInt(values, "maxInFlight", 100_000);
+        this.seed = parseLong(values, "seed", 42);
+        if (cartMean < 1 || cartMean > cartMax) {
+            throw new IllegalArgumentException("cartMean은 1 이상 cartMax 이하여야 합니다.");
+        }
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 설정입니다: " + values.keySet());
+        }
+    }
+
+    // 모든 항목이 기본값인 설정
+    public static LoadProfile defaults() {
+        return parse();
+    }
+
+    /**
+     * "--이름=값" 형식의 인자로 설정을 만든다.
+     * 형식이 틀리거나, 모르는 이름이거나, 값이 범위를 벗어나면 IllegalArgumentException
+     */
+    public static LoadProfile parse(String... args) {
+        if (args == null) {
+            throw new IllegalArgumentException("인자가 null입니다.");
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg == null ? -1 : arg.indexOf('=');
+            if (eq < 3 || !arg.startsWith("--")) {
+                throw new IllegalArgumentException("인자는 --이름=값 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadProfile(values);
+    }
+
+    // 읽은 항목은 values에서 지워 마지막에 남은 것을 모르는 설정으로 판단
+    private static String take(Map<String, String> values, String name) {
+        String value = values.remove(name);
+        return value == null ? null : value.strip();
+    }
+
+    private static int positiveInt(Map<String, String> values, String name, int defaultValue) {
+        long value = parseLong(values, name, defaultValue);
+        if (value <= 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + "는 1 이상의 정수여야 합니다.");
+        }
+        return (int) value;
+    }
+
+    private static long parseLong(Map<String, String> values, String name, long defaultValue) {
+        String value = take(values, name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + "는 정수여야 합니다: " + value);
+        }
+    }
+
+    private static double nonNegativeDouble(Map<String, String> values, String name, double defaultValue) {
+        String value = take(values, name);
+        if (value == null) {
+            return defaultValue;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + "는 숫자여야 합니다: " + value);
+        }
+        if (!(parsed >= 0) || Double.isInfinite(parsed)) {
+            throw new IllegalArgumentException(name + "는 0 이상이어야 합니다.");
+        }
+        return parsed;
+    }
+
+    private static double positiveDouble(Map<String, String> values, String name, double defaultValue) {
+        double value = nonNegativeDouble(values, name, defaultValue);
+        if (value == 0) {
+            throw new IllegalArgumentException(name + "는 0보다 커야 합니다.");
+        }
+        return value;
+    }
+
+    private static double ratio(Map<String, String> values, String name, double defaultValue) {
+        double value = nonNegativeDouble(values, name, defaultValue);
+        if (value > 1) {
+            throw new IllegalArgumentException(name + "는 0~1 사이여야 합니다.");
+        }
+        return value;
+    }
+
+    // 보낼 주문 수 (rate × duration, 최소 1)
+    public long getArrivalCount() {
+        return Math.max(1, Math.round(ratePerSecond * durationSeconds));
+    }
+
+    public int getCustomers() { return customers; }
+    public double getRatePerSecond() { return ratePerSecond; }
+    public double getDurationSeconds() { return durationSeconds; }
+    public int getProducts() { return products; }
+    public int getStock() { return stock; }
+    public double getCartMean() { return cartMean; }
+    public int getCartMax() { return cartMax; }
+    public double getCardRatio() { return cardRatio; }
+    public double getExpressRatio() { return expressRatio; }
+    public double getDeclineRate() { return declineRate; }
+    public double getDeliveryFailureRate() { return deliveryFailureRate; }
+    public double getPaymentLatencyMillis() { return paymentLatencyMillis; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "customers=%d rate=%.1f/s duration=%.1fs products=%d stock=%d cart=geo(mean=%.1f,max=%d)"
+                        + " card=%.2f express=%.2f decline=%.3f deliveryFailure=%.3f paymentLatency=%.1fms"
+                        + " maxInFlight=%d seed=%d",
+                customers, ratePerSecond, durationSeconds, products, stock, cartMean, cartMax,
+                cardRatio, expressRatio, declineRate, deliveryFailureRate, paymentLatencyMillis,
+                maxInFlight, seed);
+    }
+}
@@ -0,0 +1,135 @@
+package org.univ.ui;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import org.univ.metrics.HistogramSnapshot;
+import org.univ.service.OrderOutcome;
+
+/**
+ * 부하 실행 결과: 처리량, 결과 유형별 건수, 주문 지연 백분위수
+ * 지연은 주문이 "도착했어야 할 시각"부터 결과를 받을 때까지로 잰다.
+ * (발생기가 밀려 늦게 보낸 시간도 지연에 포함되므로 과부하 구간이 가려지지 않음)
+ */
+public final class LoadReport {
+
+    private final LoadProfile profile;
+    private final long arrivals;             // 도착시킨 주문 수 (버린 주문 포함)
+    private final long dropped;              // 동시 처리 상한을 넘어 보내지 않은 주문 수
+    private final long errors;               // 결과 대신 예외로 끝난 주문 수
+    private final Map<OrderOutcome.Status, Long> outcomes;
+    private final long sendNanos;            // 마지막 주문을 보낼 때까지 걸린 시간
+    private final long elapsedNanos;         // 마지막 주문이 끝날 때까지 걸린 시간
+    private final long maxLagNanos;          // 예정 도착 시각보다 늦게 보낸 최대 시간
+    private final int maxInFlight;           // 실제로 관측된 최대 동시 처리 주문 수
+    private final HistogramSnapshot latency;
+    private final String stageMetrics;       // 주문 처리 단계별 지표 (MetricsRegistry.dump)
+
+    LoadReport(LoadProfile profile,
+               long arrivals,
+               long dropped,
+               long errors,
+               Map<OrderOutcome.Status, Long> outcomes,
+               long sendNanos,
+               long elapsedNanos,
+               long maxLagNanos,
+               int maxInFlight,
+               HistogramSnapshot latency,
+               String stageMetrics) {
+        this.profile = profile;
+        this.arrivals = arrivals;
+        this.dropped = dropped;
+        this.errors = errors;
+        this.outcomes = new EnumMap<>(outcomes);
+        this.sendNanos = sendNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.maxLagNanos = maxLagNanos;
+        this.maxInFlight = maxInFlight;
+        this.latency = latency;
+        this.stageMetrics = stageMetrics;
+    }
+
+    public LoadProfile getProfile() { return profile; }
+    public long getArrivals() { return arrivals; }
+    public long getDropped() { return dropped; }
+    public long getErrors() { return errors; }
+    public long getMaxLagNanos() { return maxLagNanos; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public HistogramSnapshot getLatency() { return latency; }
+    public String getStageMetrics() { return stageMetrics; }
+
+    // 결과 유형별 완료 건수
+    public long getCount(OrderOutcome.Status status) {
+        return outcomes.getOrDefault(status, 0L);
+    }
+
+    // 결과(성공/실패 무관) 또는 예외로 끝난 주문 수
+    public long getCompleted() {
+        long completed = errors;
+        for (long count : outcomes.values()) {
+            completed += count;
+        }
+        return completed;
+    }
+
+    // 실제로 보낸 초당 주문 수
+    public double getOfferedPerSecond() {
+        return perSecond(arrivals - dropped, sendNanos);
+    }
+
+    // 초당 완료 주문 수 (시작부터 마지막 완료까지 기준)
+    public double getCompletedPerSecond() {
+        return perSecond(getCompleted(), elapsedNanos);
+    }
+
+    // 초당 성공 주문 수
+    public double getSucceededPerSecond() {
+        return perSecond(getCount(OrderOutcome.Status.SUCCESS), elapsedNanos);
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos <= 0 ? 0.0 : count * 1e9 / nanos;
+    }
+
+    // 사람이 읽는 보고서 (지연 단위: ms)
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 부하 실행 결과 ===\n");
+        sb.append("설정: ").append(profile).append('\n');
+        sb.append(String.format(Locale.ROOT,
+                "도착 %d건 (버림 %d건), 완료 %d건, 경과 %.2fs%n",
+                arrivals, dropped, getCompleted(), elapsedNanos / 1e9));
+        sb.append(String.format(Locale.ROOT,
+                "처리량: 목표 %.1f/s, 보냄 %.1f/s, 완료 %.1f/s, 성공 %.1f/s%n",
+                profile.getRatePerSecond(), getOfferedPerSecond(), getCompletedPerSecond(), getSucceededPerSecond()));
+        sb.append(String.format(Locale.ROOT,
+                "최대 동시 처리 %d건, 최대 발송 지연 %.3fms%n",
+                maxInFlight, maxLagNanos / 1e6));
+        sb.append("결과:");
+        for (OrderOutcome.Status status : OrderOutcome.Status.values()) {
+            long count = getCount(status);
+            if (count > 0) {
+                sb.append(' ').append(status.getDescription()).append('=').append(count);
+            }
+        }
+        if (errors > 0) {
+            sb.append(" 오류=").append(errors);
+        }
+        sb.append('\n');
+        sb.append(String.format(Locale.ROOT,
+                "지연(ms): mean=%.3f p50=%.3f p90=%.3f p99=%.3f p999=%.3f max=%.3f%n",
+                latency.getMeanNanos() / 1e6,
+                latency.getValueAtPercentile(50) / 1e6,
+                latency.getValueAtPercentile(90) / 1e6,
+                latency.getValueAtPercentile(99) / 1e6,
+                latency.getValueAtPercentile(99.9) / 1e6,
+                latency.getMaxNanos() / 1e6));
+        sb.append("단계별 지표:\n").append(stageMetrics);
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,239 @@
+package org.univ.domain.discount;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.money.Money;
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DiscountEngine 할인 가격표 검증")
+class DiscountEngineTest {
+
+    // 테스트에서 시간을 직접 옮길 수 있는 시계
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final DiscountEngine engine = new DiscountEngine(clock);
+
+    private final Product shirt = new Clothing("D100", "셔츠", 10000, "테스트", 10, "M", "면");
+    private final Product milk = new Food("D200", "우유", 3000, "테스트", 10, true);
+
+    @Nested
+    @DisplayName("규칙 적용")
+    class RuleTests {
+
+        @Test
+        @DisplayName("규칙이 없거나 등록되지 않은 상품은 정가를 반환한다")
+        void listPriceWithoutRules() {
+            // given
+            engine.register(shirt);
+
+            // when / then
+            assertEquals(Money.ofWon(10000), engine.unitPriceMinor(shirt, 1), "규칙이 없으면 정가");
+            engine.addRule(new CategoryDiscount(Food.class, 50));
+            assertEquals(Money.ofWon(3000), engine.unitPriceMinor(milk, 1), "등록되지 않은 상품은 정가");
+        }
+
+        @Test
+        @DisplayName("카테고리 할인은 해당 타입 상품에만 적용된다")
+        void categoryDiscount() {
+            // given
+            engine.registerAll(List.of(shirt, milk));
+
+            // when
+            engine.addRule(new CategoryDiscount(Clothing.class, 20));
+
+            // then
+            assertEquals(Money.ofWon(8000), engine.unitPriceMinor(shirt, 1), "의류는 20% 할인");
+            assertEquals(Money.ofWon(3000), engine.unitPriceMinor(milk, 1), "식품은 정가");
+        }
+
+        @Test
+        @DisplayName("규칙이 겹치면 가장 낮은 단가를 적용한다")
+        void lowestPriceWins() {
+            // given
+            engine.register(shirt);
+            engine.addRule(new CategoryDiscount(Clothing.class, 10));
+
+            // when
+            engine.addRule(new SkuMarkdown("D100", 7000));
+
+            // then
+            assertEquals(Money.ofWon(7000), engine.unitPriceMinor(shirt, 1), "9000원과 7000원 중 7000원");
+        }
+
+        @Test
+        @DisplayName("수량 구간 할인은 최소 수량 이상일 때만 적용된다")
+        void quantityTier() {
+            // given
+            engine.register(shirt);
+            engine.addRule(new QuantityTier(Product.class, 5, 10));
+            engine.addRule(new QuantityTier(Clothing.class, 10, 30));
+
+            // when / then
+            assertEquals(Money.ofWon(10000), engine.unitPriceMinor(shirt, 4), "4개는 정가");
+            assertEquals(Money.ofWon(9000), engine.unitPriceMinor(shirt, 5), "5개부터 10% 할인");
+            assertEquals(Money.ofWon(7000), engine.unitPriceMinor(shirt, 12), "10개부터 30% 할인");
+        }
+
+        @Test
+        @DisplayName("같은 ID라도 정가가 다른 상품은 자기 정가로 할인 단가를 계산한다")
+        void sameIdDifferentListPrice() {
+            // given: 다른 카탈로그에 같은 ID로 정가만 다른 셔츠
+            engine.register(shirt);
+            engine.addRule(new CategoryDiscount(Clothing.class, 10));
+            Product otherShirt = new Clothing("D100", "셔츠", 20000, "다른 카탈로그", 10, "M", "면");
+
+            // when / then
+            assertEquals(Money.ofWon(9000), engine.unitPriceMinor(shirt, 1));
+            assertEquals(Money.ofWon(18000), engine.unitPriceMinor(otherShirt, 1),
+                    "등록된 상품의 정가로 계산하면 안 된다");
+        }
+
+        @Test
+        @DisplayName("할인율이 0~100을 벗어나면 IllegalArgumentException 발생")
+        void rejectInvalidPercent() {
+            assertThrows(IllegalArgumentException.class, () -> new CategoryDiscount(Clothing.class, 120));
+            assertThrows(IllegalArgumentException.class, () -> new QuantityTier(Clothing.class, 0, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("가격표 교체")
+    class TableTests {
+
+        @Test
+        @DisplayName("기간 한정 프로모션은 기간이 시작/종료되면 가격표가 다시 만들어진다")
+        void timeWindowPromotion() {
+            // given: 1시간 뒤부터 2시간 동안 50% 할인
+            engine.register(shirt);
+            LocalDateTime start = LocalDateTime.now(clock).plusHours(1);
+            engine.addRule(new TimeWindowPromotion(
+                    new CategoryDiscount(Clothing.class, 50), start, start.plusHours(2)));
+
+            // when / then
+            assertEquals(Money.ofWon(10000), engine.unitPriceMinor(shirt, 1), "시작 전에는 정가");
+            clock.advance(Duration.ofMinutes(90));
+            assertEquals(Money.ofWon(5000), engine.unitPriceMinor(shirt, 1), "기간 중에는 50% 할인");
+            clock.advance(Duration.ofHours(2));
+            assertEquals(Money.ofWon(10000), engine.unitPriceMinor(shirt, 1), "종료 후에는 정가");
+        }
+
+        @Test
+        @DisplayName("가격 조회만으로는 가격표를 다시 만들지 않는다")
+        void lookupDoesNotRebuild() {
+            // given
+            engine.register(shirt);
+            engine.addRule(new CategoryDiscount(Clothing.class, 10));
+            long rebuilds = engine.getRebuildCount();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                engine.unitPriceMinor(shirt, 1 + i % 20);
+            }
+
+            // then
+            assertEquals(rebuilds, engine.getRebuildCount(), "조회는 가격표를 재사용해야 한다");
+        }
+
+        @Test
+        @DisplayName("상품 등록은 가격표 전체를 다시 만들지 않고 새 상품의 구간만 더한다")
+        void registerAddsIncrementally() {
+            // given
+            engine.register(shirt);
+            engine.addRule(new CategoryDiscount(Clothing.class, 10));
+            engine.addRule(new CategoryDiscount(Food.class, 50));
+            long rebuilds = engine.getRebuildCount();
+            Product pants = new Clothing("D101", "바지", 20000, "테스트", 10, "L", "면");
+
+            // when
+            engine.register(milk);
+            engine.registerAll(List.of(pants));
+
+            // then
+            assertEquals(rebuilds, engine.getRebuildCount(), "상품 등록은 가격표를 다시 만들지 않아야 한다");
+            assertEquals(Money.ofWon(9000), engine.unitPriceMinor(shirt, 1), "기존 상품의 단가는 그대로");
+            assertEquals(Money.ofWon(1500), engine.unitPriceMinor(milk, 1), "새 상품에도 현재 규칙이 적용되어야 한다");
+            assertEquals(Money.ofWon(18000), engine.unitPriceMinor(pants, 1));
+        }
+
+        @Test
+        @DisplayName("만료된 가격표에 상품을 등록하면 바뀐 규칙으로 전체를 다시 만든다")
+        void registerAfterExpiryRebuilds() {
+            // given: 1시간 뒤부터 50% 할인
+            engine.register(shirt);
+            LocalDateTime start = LocalDateTime.now(clock).plusHours(1);
+            engine.addRule(new TimeWindowPromotion(
+                    new CategoryDiscount(Clothing.class, 50), start, start.plusHours(2)));
+            Product pants = new Clothing("D101", "바지", 20000, "테스트", 10, "L", "면");
+
+            // when: 시작 시각이 지난 뒤 조회 없이 바로 등록
+            clock.advance(Duration.ofMinutes(90));
+            engine.register(pants);
+
+            // then
+            assertEquals(Money.ofWon(10000), engine.unitPriceMinor(pants, 1), "새 상품도 기간 중 할인이 적용되어야 한다");
+            assertEquals(Money.ofWon(5000), engine.unitPriceMinor(shirt, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("상품/주문 연동 (공용 엔진)")
+    class GlobalEngineTests {
+
+        private final DiscountRule tier = new QuantityTier(Clothing.class, 3, 10);
+
+        @AfterEach
+        void resetGlobal() {
+            DiscountEngine.global().removeRule(tier);
+            DiscountEngine.global().unregister("D300");
+        }
+
+        @Test
+        @DisplayName("주문 총액은 라인 수량에 맞는 할인 단가로 계산된다")
+        void orderUsesTierPrice() {
+            // given
+            Product coat = new Clothing("D300", "코트", 100000, "테스트", 10, "L", "울");
+            DiscountEngine.global().register(coat);
+            DiscountEngine.global().addRule(tier);
+            Customer customer = new Customer("C300", "테스터", "t@univ.org", "010-0000-0000", "서울시");
+            Order order = new Order("O300", customer, List.of(), amt -> { }, sum -> { });
+
+            // when
+            order.addProduct(coat, 2);
+            double beforeTier = order.calculateTotalPrice();
+            order.addProduct(coat);
+
+            // then
+            assertEquals(200000.0, beforeTier, "2개는 정가 합계");
+            assertEquals(270000.0, order.calculateTotalPrice(), "3개부터 전체 수량에 10% 할인");
+            assertEquals(Money.ofWon(90000), coat.getDiscountedPriceMinor(3), "상품 수량별 할인가도 가격표를 따른다");
+            assertEquals(100000.0, coat.getDiscountedPrice(), "1개 할인가는 정가");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.univ.domain.inventory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Product;
+import org.univ.exception.PaymentException;
+import org.univ.exception.StockUnavailableException;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReservationLedger 재고 hold/만료 동작 검증")
+class ReservationLedgerTest {
+
+    // 짧은 TTL과 틱으로 만료를 빠르게 확인
+    private final ReservationLedger ledger =
+            new ReservationLedger(Duration.ofMillis(50), Duration.ofMillis(10));
+
+    @AfterEach
+    void closeLedger() {
+        ledger.close();
+    }
+
+    // 조건이 참이 될 때까지 최대 timeoutMillis 동안 기다린다
+    private static boolean await(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(5);
+        }
+        return condition.getAsBoolean();
+    }
+
+    @Nested
+    @DisplayName("hold 생성과 만료")
+    class HoldTests {
+
+        @Test
+        @DisplayName("재고가 부족하면 tryHold는 null을 반환하고 재고를 바꾸지 않는다")
+        void returnNullWhenNotEnoughStock() {
+            // given
+            Product p = new Clothing("P100", "티셔츠", 10000, "테스트", 2, "M", "면");
+
+            // when
+            StockHold hold = ledger.tryHold(p, 3);
+
+            // then
+            assertNull(hold, "재고 부족 시 hold는 null이어야 한다");
+            assertEquals(2, p.getStockQuantity(), "재고는 그대로여야 한다");
+        }
+
+        @Test
+        @DisplayName("결제되지 않은 hold는 TTL이 지나면 재고로 반환된다")
+        void expiredHoldReturnsStock() throws InterruptedException {
+            // given
+            Product p = new Clothing("P101", "바지", 20000, "테스트", 5, "L", "면");
+            StockHold hold = ledger.tryHold(p, 3);
+            assertEquals(2, p.getStockQuantity(), "hold 직후 재고는 차감되어 있어야 한다");
+
+            // when / then
+            assertTrue(await(() -> p.getStockQuantity() == 5, 2_000),
+                    "만료된 hold의 재고가 반환되어야 한다");
+            assertTrue(hold.isReleased(), "만료된 hold는 RELEASED 상태여야 한다");
+            assertEquals(1, ledger.getExpiredCount(), "만료 건수는 1이어야 한다");
+        }
+
+        @Test
+        @DisplayName("확정된 hold는 TTL이 지나도 반환되지 않는다")
+        void committedHoldDoesNotExpire() throws InterruptedException {
+            // given
+            Product p = new Clothing("P102", "셔츠", 15000, "테스트", 5, "S", "면");
+            StockHold hold = ledger.tryHold(p, 2);
+
+            // when
+            assertTrue(ledger.commit(hold), "활성 hold는 확정할 수 있어야 한다");
+            Thread.sleep(200);
+
+            // then
+            assertEquals(3, p.getStockQuantity(), "확정된 차감은 유지되어야 한다");
+            assertTrue(hold.isCommitted(), "hold는 COMMITTED 상태여야 한다");
+        }
+
+        @Test
+        @DisplayName("만료된 hold는 확정할 수 없다")
+        void cannotCommitExpiredHold() throws InterruptedException {
+            // given
+            Product p = new Clothing("P103", "양말", 3000, "테스트", 5, "F", "면");
+            StockHold hold = ledger.tryHold(p, 1);
+            assertTrue(await(hold::isReleased, 2_000), "hold가 만료되어야 한다");
+
+            // when / then
+            assertFalse(ledger.commit(hold), "만료된 hold 확정은 실패해야 한다");
+        }
+
+        @Test
+        @DisplayName("release는 여러 번 호출해도 재고를 한 번만 반환한다")
+        void releaseIsIdempotent() {
+            // given
+            Product p = new Clothing("P104", "모자", 8000, "테스트", 4, "F", "면");
+            StockHold hold = ledger.tryHold(p, 4);
+            ledger.commit(hold);
+
+            // when
+            ledger.release(hold);
+            ledger.release(hold);
+
+            // then
+            assertEquals(4, p.getStockQuantity(), "재고는 정확히 한 번만 반환되어야 한다");
+        }
+
+        @Test
+        @DisplayName("일부 수량만 반환하면 나머지는 hold로 남고 만료 시 남은 수량만 반환된다")
+        void partialReleaseThenExpire() throws InterruptedException {
+            // given
+            Product p = new Clothing("P105", "장갑", 5000, "테스트", 5, "F", "면");
+            StockHold hold = ledger.tryHold(p, 5);
+
+            // when: 2개만 먼저 반환
+            int returned = ledger.release(hold, 2);
+
+            // then
+            assertEquals(2, returned, "요청한 2개가 반환되어야 한다");
+            assertEquals(2, p.getStockQuantity(), "재고는 2개가 되어야 한다");
+            assertEquals(3, hold.getHeldQuantity(), "hold에는 3개가 남아야 한다");
+
+            // when / then: 남은 3개만 만료로 반환되어 원래 재고와 같아짐
+            assertTrue(await(hold::isReleased, 2_000), "남은 hold도 만료되어야 한다");
+            assertEquals(5, p.getStockQuantity(), "만료 후 재고는 원래대로 5개여야 한다");
+        }
+    }
+
+    @Nested
+    @DisplayName("Order 연동")
+    class OrderIntegrationTests {
+
+        private final Customer customer = new Customer(
+                "C100", "테스터", "test@univ.org", "010-0000-0000", "주소: 서울시"
+        );
+
+        @Test
+        @DisplayName("hold가 만료된 주문은 결제하지 않고 StockUnavailableException 발생")
+        void paymentFailsAfterHoldExpired() throws InterruptedException {
+            // given
+            Product p = new Clothing("P200", "한정판", 99000, "테스트", 1, "M", "면");
+            boolean[] charged = { false };
+            Order o = new Order("O200", customer, List.of(),
+                    amt -> charged[0] = true, sum -> { }, ledger);
+            o.addProduct(p);
+            assertTrue(await(() -> p.getStockQuantity() == 1, 2_000), "hold가 만료되어야 한다");
+
+            // when / then
+            assertThrows(StockUnavailableException.class, o::processPayment,
+                    "만료된 주문 결제 시 StockUnavailableException이 발생해야 한다");
+            assertFalse(charged[0], "만료된 주문은 결제 수단을 호출하면 안 된다");
+            assertEquals(1, p.getStockQuantity(), "재고는 한 번만 반환되어야 한다");
+        }
+
+        @Test
+        @DisplayName("hold가 만료된 주문은 결제를 다시 시도해도 재고 없이 결제되지 않는다")
+        void retryAfterHoldExpiredDoesNotOversell() throws InterruptedException {
+            // given: 만료로 재고를 돌려준 주문과, 그 재고를 가져간 다른 주문
+            Product p = new Clothing("P204", "한정판 모자", 29000, "테스트", 1, "F", "면");
+            int[] charges = { 0 };
+            Order o = new Order("O204", customer, List.of(),
+                    amt -> charges[0]++, sum -> { }, ledger);
+            o.addProduct(p);
+            assertTrue(await(() -> p.getStockQuantity() == 1, 2_000), "hold가 만료되어야 한다");
+            assertThrows(StockUnavailableException.class, o::processPayment);
+            Order other = new Order("O205", customer, List.of(), amt -> { }, sum -> { }, ledger);
+            other.addProduct(p);
+            other.processPayment();
+
+            // when / then
+            assertThrows(StockUnavailableException.class, o::processPayment, "다시 결제해도 거절되어야 한다");
+            assertEquals(0, charges[0], "결제 수단을 호출하면 안 된다");
+            assertEquals(OrderStatus.PENDING, o.getStatus());
+            assertEquals(0, p.getStockQuantity(), "재고는 다른 주문의 1개만 차감되어야 한다");
+        }
+
+        @Test
+        @DisplayName("결제가 거절되면 hold는 확정되지 않고 TTL이 지나면 재고로 돌아온다")
+        void declinedPaymentLeavesHoldExpirable() throws InterruptedException {
+            // given
+            Product p = new Clothing("P202", "후드티", 39000, "테스트", 2, "L", "면");
+            Order o = new Order("O202", customer, List.of(),
+                    amt -> { throw new PaymentException("카드 한도 초과"); }, sum -> { }, ledger);
+            o.addProduct(p);
+
+            // when
+            assertThrows(PaymentException.class, o::processPayment);
+
+            // then: 주문 쪽에서 롤백하지 않아도 재고가 돌아옴
+            assertTrue(await(() -> p.getStockQuantity() == 2, 2_000), "거절된 주문의 hold는 만료되어야 한다");
+        }
+
+        @Test
+        @DisplayName("승인과 확정 사이에 hold가 만료되면 결제를 취소하고 StockUnavailableException 발생")
+        void voidsPaymentWhenHoldExpiresDuringAuthorization() {
+            // given: 승인 도중 hold가 만료되는 결제 수단
+            Product p = new Clothing("P203", "패딩", 129000, "테스트", 1, "L", "덕다운");
+            List<Long> voided = new ArrayList<>();
+            PaymentMethod slow = new PaymentMethod() {
+                @Override
+                public void payMinor(long amountMinor) {
+                    try {
+                        assertTrue(await(() -> p.getStockQuantity() == 1, 2_000), "hold가 만료되어야 한다");
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+
+                @Override
+                public void voidPayment(PaymentResult approved) {
+                    voided.add(approved.getAmountMinor());
+                }
+            };
+            Order o = new Order("O203", customer, List.of(), slow, sum -> { }, ledger);
+            o.addProduct(p);
+
+            // when / then
+            assertThrows(StockUnavailableException.class, o::processPayment);
+            assertEquals(List.of(o.calculateTotalMinor()), voided, "승인된 금액이 한 번 취소되어야 한다");
+            assertEquals(OrderStatus.PENDING, o.getStatus());
+            assertEquals(1, p.getStockQuantity(), "재고는 한 번만 반환되어야 한다");
+        }
+
+        @Test
+        @DisplayName("TTL 안에 결제된 주문의 재고는 확정 차감된다")
+        void paymentCommitsHolds() throws InterruptedException {
+            // given
+            Product p = new Clothing("P201", "기본티", 12000, "테스트", 3, "L", "면");
+            Order o = new Order("O201", customer, List.of(), amt -> { }, sum -> { }, ledger);
+            o.addProduct(p, 2);
+
+            // when
+            o.processPayment();
+            Thread.sleep(200);
+
+            // then
+            assertEquals(1, p.getStockQuantity(), "결제된 재고는 만료되지 않아야 한다");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.univ.domain.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money 고정소수점 금액 동작 검증")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("변환과 연산")
+    class Conversion {
+
+        @ParameterizedTest
+        @ValueSource(doubles = { 0.0, 0.1, 1000.0, 12345.67 })
+        @DisplayName("원 → minor → 원 변환은 값을 보존한다")
+        void roundTrip(double won) {
+            assertEquals(won, Money.toWon(Money.ofWon(won)), "왕복 변환 후 같은 값이어야 한다");
+        }
+
+        @Test
+        @DisplayName("원 단위는 100 minor로 변환된다")
+        void ofWonScalesByHundred() {
+            assertEquals(1_234_567L, Money.ofWon(12345.67));
+            assertEquals(1_500_000L, Money.ofWon(15000));
+        }
+
+        @Test
+        @DisplayName("숫자가 아닌 금액은 IllegalArgumentException 발생")
+        void rejectNaN() {
+            assertThrows(IllegalArgumentException.class, () -> Money.ofWon(Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> Money.ofWon(Double.POSITIVE_INFINITY));
+        }
+
+        @Test
+        @DisplayName("범위를 넘는 합계는 ArithmeticException 발생")
+        void overflowIsDetected() {
+            assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+            assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3));
+        }
+
+        @Test
+        @DisplayName("표시 문자열은 천 단위 구분과 소수점 둘째 자리를 사용한다")
+        void format() {
+            assertEquals("15,000원", Money.format(1_500_000));
+            assertEquals("12,345.67원", Money.format(1_234_567));
+            assertEquals("-0.50원", Money.format(-50));
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 합계 정확도")
+    class OrderTotals {
+
+        @Test
+        @DisplayName("10,000개 라인의 합계가 오차 없이 계산된다")
+        void exactTotalOverLargeCart() {
+            // given: 0.1원짜리 상품 10,000개 (double로 더하면 오차가 생기는 값)
+            Product dime = new Food("F100", "사탕", 0.1, "테스트", 10_000, false);
+            List<Product> cart = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                cart.add(dime);
+            }
+            Customer customer = new Customer("C100", "테스터", "test@univ.org", "010-0000-0000", "주소: 서울시");
+            Order order = new Order("O100", customer, cart, amt -> { }, sum -> { });
+
+            // when
+            long totalMinor = order.calculateTotalMinor();
+
+            // then
+            assertEquals(100_000L, totalMinor, "합계는 정확히 1,000원(100,000 minor)이어야 한다");
+            assertEquals(1000.0, order.calculateTotalPrice(), "원 단위 합계도 정확해야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 수단에는 minor 단위 합계가 전달된다")
+        void paymentReceivesMinorTotal() {
+            // given
+            Product p = new Food("F101", "우유", 2500.5, "테스트", 10, true);
+            Customer customer = new Customer("C100", "테스터", "test@univ.org", "010-0000-0000", "주소: 서울시");
+            long[] charged = new long[1];
+            Order order = new Order("O101", customer, List.of(p, p), amt -> charged[0] = amt, sum -> { });
+
+            // when
+            order.processPayment();
+
+            // then
+            assertEquals(500_100L, charged[0], "2 x 2,500.50원 = 500,100 minor가 결제되어야 한다");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.univ.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Product;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderLine 동작 검증")
+class OrderLineTest {
+
+    private final Product shirt = new Clothing("P200", "셔츠", 10000, "테스트", 50, "M", "면");
+    private final Product cap = new Clothing("P100", "모자", 5000, "테스트", 50, "F", "면");
+
+    @Test
+    @DisplayName("같은 상품은 수량을 합산해 한 라인으로 묶고 productId 순으로 정렬한다")
+    void groupByProductMergesAndSorts() {
+        // given: 셔츠 3개, 모자 2개가 섞인 목록
+        List<Product> products = List.of(shirt, cap, shirt, shirt, cap);
+
+        // when
+        List<OrderLine> lines = OrderLine.groupByProduct(products);
+
+        // then
+        assertEquals(2, lines.size(), "SKU 두 개로 묶여야 한다");
+        assertSame(cap, lines.get(0).getProduct(), "productId가 작은 모자가 먼저 와야 한다");
+        assertEquals(2, lines.get(0).getQuantity(), "모자 수량은 2개여야 한다");
+        assertSame(shirt, lines.get(1).getProduct(), "셔츠가 두 번째여야 한다");
+        assertEquals(3, lines.get(1).getQuantity(), "셔츠 수량은 3개여야 한다");
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 빈 라인 목록을 반환한다")
+    void groupByProductEmpty() {
+        assertTrue(OrderLine.groupByProduct(List.of()).isEmpty(), "빈 목록은 빈 라인 목록이 되어야 한다");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -3 })
+    @DisplayName("수량이 1 미만이면 IllegalArgumentException 발생")
+    void throwWhenQuantityNotPositive(int badQuantity) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderLine(shirt, badQuantity),
+                "수량이 1 미만이면 IllegalArgumentException이 발생해야 한다");
+    }
+}
@@ -12,9 +12,18 @@ import org.univ.exception.DeliveryException;
 import org.univ.exception.PaymentException;
 import org.univ.exception.StockUnavailableException;
 import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.payment.CreditCardPayment;
 import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentRequest;
+import org.univ.strategy.payment.PaymentResult;
+import org.univ.strategy.payment.SimulatedPaymentGateway;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -82,6 +91,118 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("addLines 메서드 검증 (SKU 단위 일괄 예약)")
+    class AddLinesTests {
+
+        @Test
+        @DisplayName("모든 라인의 재고가 충분하면 수량만큼 차감되고 목록에 추가된다")
+        void reserveAllLines() {
+            // given: 재고 5개, 3개짜리 상품 두 종류
+            Product shirt = new Clothing("P110", "셔츠", 10000, "테스트", 5, "M", "면");
+            Product pants = new Clothing("P111", "바지", 20000, "테스트", 3, "L", "면");
+            Order o = new Order("O110", dummyCustomer, List.of(), successPay, successDel);
+
+            // when
+            o.addLines(List.of(new OrderLine(shirt, 4), new OrderLine(pants, 2)));
+
+            // then
+            assertEquals(1, shirt.getStockQuantity(), "셔츠 재고는 4개 차감되어야 한다");
+            assertEquals(1, pants.getStockQuantity(), "바지 재고는 2개 차감되어야 한다");
+            assertEquals(6, o.getProductList().size(), "주문 상품 단위 수는 6개여야 한다");
+        }
+
+        @Test
+        @DisplayName("한 라인이라도 재고가 부족하면 아무 재고도 차감되지 않는다")
+        void reserveNothingWhenAnyLineFails() {
+            // given: 두 번째 상품의 재고가 부족
+            Product shirt = new Clothing("P120", "셔츠", 10000, "테스트", 5, "M", "면");
+            Product pants = new Clothing("P121", "바지", 20000, "테스트", 1, "L", "면");
+            Order o = new Order("O120", dummyCustomer, List.of(), successPay, successDel);
+
+            // when / then
+            assertThrows(StockUnavailableException.class,
+                    () -> o.addLines(List.of(new OrderLine(shirt, 2), new OrderLine(pants, 2))),
+                    "재고 부족 라인이 있으면 StockUnavailableException 발생");
+            assertEquals(5, shirt.getStockQuantity(), "앞서 예약한 셔츠 재고는 복구되어야 한다");
+            assertEquals(1, pants.getStockQuantity(), "바지 재고는 그대로여야 한다");
+            assertTrue(o.getProductList().isEmpty(), "실패 시 주문 목록은 비어 있어야 한다");
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 라인/총액 유지 검증")
+    class LineAndTotalTests {
+
+        @Test
+        @DisplayName("같은 상품을 여러 번 담으면 한 라인으로 합쳐지고 총액이 갱신된다")
+        void collapseDuplicateProducts() {
+            // given
+            Product shirt = new Clothing("P130", "셔츠", 10000, "테스트", 10, "M", "면");
+            Order o = new Order("O130", dummyCustomer, List.of(), successPay, successDel);
+
+            // when
+            o.addProduct(shirt);
+            o.addProduct(shirt);
+            o.addProduct(shirt, 3);
+
+            // then
+            assertEquals(1, o.getLines().size(), "같은 상품은 한 라인이어야 한다");
+            assertEquals(5, o.getLines().get(0).getQuantity(), "라인 수량은 5개여야 한다");
+            assertEquals(5, o.getUnitCount(), "단위 수는 5개여야 한다");
+            assertEquals(50000.0, o.calculateTotalPrice(), "총액은 5 * 10000이어야 한다");
+        }
+
+        @Test
+        @DisplayName("상품을 빼면 총액이 줄고 그만큼 재고가 돌아온다")
+        void removeProductReleasesStock() {
+            // given: 셔츠 3개, 바지 1개 담기
+            Product shirt = new Clothing("P131", "셔츠", 10000, "테스트", 5, "M", "면");
+            Product pants = new Clothing("P132", "바지", 20000, "테스트", 5, "L", "면");
+            Order o = new Order("O131", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(shirt, 3);
+            o.addProduct(pants);
+
+            // when
+            o.removeProduct(shirt, 2);
+            o.removeProduct(pants);
+
+            // then
+            assertEquals(10000.0, o.calculateTotalPrice(), "남은 셔츠 1개 금액만 남아야 한다");
+            assertEquals(4, shirt.getStockQuantity(), "셔츠 재고 2개가 돌아와야 한다");
+            assertEquals(5, pants.getStockQuantity(), "바지 재고는 모두 돌아와야 한다");
+            assertEquals(1, o.getLines().size(), "수량이 0이 된 라인은 사라져야 한다");
+        }
+
+        @Test
+        @DisplayName("담긴 수량보다 많이 빼면 IllegalArgumentException 발생")
+        void throwWhenRemovingMoreThanAdded() {
+            // given
+            Order o = new Order("O132", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct);
+
+            // when / then
+            assertThrows(IllegalArgumentException.class,
+                    () -> o.removeProduct(dummyProduct, 2),
+                    "담긴 수량보다 많이 빼면 예외 발생");
+            assertEquals(1, o.getUnitCount(), "실패 시 주문 수량은 그대로여야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 후에는 상품을 뺄 수 없다")
+        void throwWhenRemovingAfterPayment() {
+            // given
+            Order o = new Order("O133", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct);
+            o.processPayment();
+
+            // when / then
+            assertThrows(IllegalStateException.class,
+                    () -> o.removeProduct(dummyProduct),
+                    "결제 후 상품 삭제 시 IllegalStateException 발생");
+        }
+    }
+
     @Nested
     @DisplayName("calculateTotalPrice 메서드 검증")
     class CalculateTotalPriceTests {
@@ -202,4 +323,219 @@ class OrderTest {
                     "배송 실패 후 상태는 여전히 PAID이어야 한다");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("cancel / markDelivered 메서드 검증")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("전이표는 종료 상태(DELIVERED, CANCELLED)에서 나가는 전이를 허용하지 않는다")
+        void transitionTable() {
+            assertTrue(OrderStateMachine.canTransition(OrderStatus.PENDING, OrderStatus.CANCELLED));
+            assertTrue(OrderStateMachine.canTransition(OrderStatus.PAID, OrderStatus.CANCELLED));
+            assertTrue(OrderStateMachine.canTransition(OrderStatus.SHIPPED, OrderStatus.DELIVERED));
+            assertFalse(OrderStateMachine.canTransition(OrderStatus.SHIPPED, OrderStatus.CANCELLED));
+            assertFalse(OrderStateMachine.canTransition(OrderStatus.PENDING, OrderStatus.SHIPPED));
+            for (OrderStatus status : OrderStatus.values()) {
+                assertEquals(OrderStateMachine.nextStatuses(status).isEmpty(), OrderStateMachine.isTerminal(status));
+            }
+            assertTrue(OrderStateMachine.isTerminal(OrderStatus.DELIVERED));
+            assertTrue(OrderStateMachine.isTerminal(OrderStatus.CANCELLED));
+        }
+
+        @Test
+        @DisplayName("결제 전 주문을 취소하면 잡아 둔 재고가 돌아온다")
+        void cancelPendingReleasesHolds() {
+            // given
+            Order o = new Order("O600", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct, 3);
+
+            // when
+            o.cancel().join();
+
+            // then
+            assertEquals(OrderStatus.CANCELLED, o.getStatus());
+            assertEquals(5, dummyProduct.getStockQuantity(), "hold한 재고 3개가 돌아와야 한다");
+            assertEquals(3, o.getUnitCount(), "취소해도 주문 내역은 남아야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 완료 주문을 취소하면 확정 차감된 재고가 돌아오고 리스너가 알림을 받는다")
+        void cancelPaidReleasesCommittedStock() {
+            // given
+            Order o = new Order("O601", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct, 2);
+            o.processPayment();
+            OrderStatus[] notified = new OrderStatus[2];
+            o.addListener(new OrderListener() {
+                @Override
+                public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+                    notified[0] = from;
+                    notified[1] = to;
+                }
+            });
+
+            // when
+            o.cancel().join();
+
+            // then
+            assertEquals(5, dummyProduct.getStockQuantity());
+            assertArrayEquals(new OrderStatus[]{OrderStatus.PAID, OrderStatus.CANCELLED}, notified);
+        }
+
+        @Test
+        @DisplayName("배송이 시작된 주문은 취소할 수 없고, 배송 완료 후에도 마찬가지다")
+        void cannotCancelAfterShipping() {
+            // given
+            Order o = new Order("O602", dummyCustomer, List.of(dummyProduct), successPay, successDel);
+            o.processPayment();
+            o.startDelivery();
+
+            // when / then
+            assertThrows(IllegalStateException.class, o::cancel);
+            o.markDelivered().join();
+            assertEquals(OrderStatus.DELIVERED, o.getStatus());
+            assertThrows(IllegalStateException.class, o::cancel);
+            assertThrows(IllegalStateException.class, o::markDelivered, "배송 완료는 한 번만 가능하다");
+        }
+
+        @Test
+        @DisplayName("배송 중이 아닌 주문은 배송 완료 처리할 수 없다")
+        void cannotDeliverBeforeShipping() {
+            Order o = new Order("O603", dummyCustomer, List.of(dummyProduct), successPay, successDel);
+
+            assertThrows(IllegalStateException.class, o::markDelivered);
+            assertEquals(OrderStatus.PENDING, o.getStatus());
+        }
+
+        @Test
+        @DisplayName("취소된 주문에는 상품을 추가하거나 결제할 수 없다")
+        void cancelledOrderRejectsChanges() {
+            // given
+            Order o = new Order("O604", dummyCustomer, List.of(dummyProduct), successPay, successDel);
+            o.cancel().join();
+
+            // when / then
+            assertThrows(IllegalStateException.class, () -> o.addProduct(dummyProduct));
+            assertThrows(IllegalStateException.class, o::processPayment);
+            assertEquals(5, dummyProduct.getStockQuantity(), "추가 시도로 재고가 잡히면 안 된다");
+        }
+
+        @Test
+        @DisplayName("취소 호출은 느린 리스너를 기다리지 않고 바로 반환된다")
+        void cancelDoesNotWaitForListeners() throws Exception {
+            // given: 알림을 받으면 latch가 열릴 때까지 멈추는 리스너
+            CountDownLatch gate = new CountDownLatch(1);
+            Order o = new Order("O605", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct);
+            o.addListener(new OrderListener() {
+                @Override
+                public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            // when
+            CompletableFuture<Void> done = o.cancel();
+
+            // then: 상태는 이미 바뀌었고 후처리는 아직 진행 중
+            assertEquals(OrderStatus.CANCELLED, o.getStatus());
+            assertFalse(done.isDone(), "리스너가 끝나기 전에는 future가 완료되면 안 된다");
+            gate.countDown();
+            done.get(5, TimeUnit.SECONDS);
+            assertEquals(5, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("결제 승인 도중 주문이 취소되면 승인된 결제를 취소한다")
+        void voidPaymentWhenCancelledDuringAuthorization() {
+            // given: 승인 요청을 받는 순간 주문이 취소되는 게이트웨이
+            Order[] holder = new Order[1];
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO) {
+                @Override
+                public List<PaymentResult> authorize(List<PaymentRequest> requests) {
+                    holder[0].cancel().join();
+                    return super.authorize(requests);
+                }
+            };
+            Order o = new Order("O606", dummyCustomer, List.of(),
+                    new CreditCardPayment("123412341234", "12/27", gateway), successDel);
+            holder[0] = o;
+            o.addProduct(dummyProduct, 2);
+
+            // when
+            assertThrows(IllegalStateException.class, o::processPayment);
+
+            // then
+            assertEquals(OrderStatus.CANCELLED, o.getStatus());
+            assertEquals(1, gateway.getVoidCount(), "취소된 주문의 결제는 되돌려야 한다");
+            assertEquals(5, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("결제 완료 주문을 취소하면 승인된 결제도 취소한다")
+        void voidPaymentWhenPaidOrderCancelled() {
+            // given
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            Order o = new Order("O620", dummyCustomer, List.of(),
+                    new CreditCardPayment("123412341234", "12/27", gateway), successDel);
+            o.addProduct(dummyProduct, 2);
+            PaymentResult paid = o.tryProcessPayment();
+            assertEquals(0, gateway.getVoidCount());
+
+            // when
+            o.cancel().join();
+
+            // then
+            assertEquals(OrderStatus.CANCELLED, o.getStatus());
+            assertEquals(1, gateway.getVoidCount(), "결제 완료 주문의 결제는 되돌려야 한다");
+            assertEquals(List.of(paid.getAuthorizationId()), gateway.getVoidedAuthorizationIds(),
+                    "승인했던 그 결제를 취소해야 한다");
+            assertEquals(5, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("결제 알림이 끝나기 전에 들어온 취소는 결제 알림 뒤에 알려진다")
+        void cancelNotifiesAfterPendingPaymentNotification() throws Exception {
+            // given: 결제 완료 알림을 받으면 latch가 열릴 때까지 멈추는 리스너
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            List<OrderStatus> notified = new CopyOnWriteArrayList<>();
+            Order o = new Order("O607", dummyCustomer, List.of(), successPay, successDel);
+            o.addProduct(dummyProduct);
+            o.addListener(new OrderListener() {
+                @Override
+                public void onStatusChanged(Order order, OrderStatus from, OrderStatus to) {
+                    if (to == OrderStatus.PAID) {
+                        entered.countDown();
+                        try {
+                            gate.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    notified.add(to);
+                }
+            });
+            Thread payer = new Thread(o::processPayment);
+            payer.start();
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // when: 결제 알림이 멈춘 사이 다른 스레드에서 취소
+            CompletableFuture<CompletableFuture<Void>> cancelled =
+                    CompletableFuture.supplyAsync(o::cancel);
+            Thread.sleep(50);
+            gate.countDown();
+            cancelled.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+            payer.join(5000);
+
+            // then
+            assertEquals(List.of(OrderStatus.PAID, OrderStatus.CANCELLED), notified);
+            assertEquals(OrderStatus.CANCELLED, o.getStatus());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.univ.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProductCatalog 인덱스 동작 검증")
+class ProductCatalogTest {
+
+    private final ProductCatalog catalog = new ProductCatalog();
+
+    private final Clothing tee = new Clothing("C001", "반팔티", 15000, "여름용", 10, "M", "면");
+    private final Clothing jeans = new Clothing("C002", "청바지", 30000, "데님", 7, "L", "데님");
+    private final Electronics headphone = new Electronics("E001", "무선헤드폰", 50000, "블루투스", 5, 12);
+    private final Food chilled = new Food("F001", "냉장 식품", 20000, "신선", 20, true);
+
+    private void addAll() {
+        catalog.add(jeans);
+        catalog.add(headphone);
+        catalog.add(tee);
+        catalog.add(chilled);
+    }
+
+    @Nested
+    @DisplayName("등록과 ID 조회")
+    class AddAndFindById {
+
+        @Test
+        @DisplayName("등록한 상품을 ID로 조회할 수 있다")
+        void findById() {
+            // given
+            addAll();
+
+            // when / then
+            assertSame(headphone, catalog.findById("E001").orElseThrow(), "ID로 같은 상품을 찾아야 한다");
+            assertTrue(catalog.findById("X999").isEmpty(), "없는 ID는 빈 결과여야 한다");
+            assertEquals(4, catalog.size());
+        }
+
+        @Test
+        @DisplayName("같은 상품 ID를 다시 등록하면 IllegalArgumentException 발생")
+        void rejectDuplicateId() {
+            // given
+            catalog.add(tee);
+
+            // when / then
+            assertThrows(IllegalArgumentException.class,
+                    () -> catalog.add(new Clothing("C001", "다른티", 9000, "중복", 1, "S", "면")),
+                    "중복 상품 ID는 등록할 수 없어야 한다");
+        }
+
+        @Test
+        @DisplayName("삭제한 상품은 모든 인덱스에서 사라진다")
+        void removeFromAllIndexes() {
+            // given
+            addAll();
+
+            // when
+            catalog.remove("C001");
+
+            // then
+            assertTrue(catalog.findById("C001").isEmpty());
+            assertEquals(List.of(jeans), catalog.findByType(Clothing.class));
+            assertEquals(List.of(chilled, jeans), catalog.findByPriceRange(10000, 30000));
+        }
+
+        @Test
+        @DisplayName("전체 목록은 상품 ID 오름차순이다")
+        void findAllSortedById() {
+            // given
+            addAll();
+
+            // when / then
+            assertEquals(List.of(tee, jeans, headphone, chilled), catalog.findAll());
+        }
+    }
+
+    @Nested
+    @DisplayName("타입/가격 인덱스")
+    class SecondaryIndexes {
+
+        @Test
+        @DisplayName("구체 타입별로 상품을 조회할 수 있다")
+        void findByType() {
+            // given
+            addAll();
+
+            // when
+            List<Food> foods = catalog.findByType(Food.class);
+            List<Clothing> clothes = catalog.findByType(Clothing.class);
+
+            // then
+            assertEquals(List.of(chilled), foods);
+            assertEquals(2, clothes.size());
+            assertTrue(clothes.containsAll(List.of(tee, jeans)));
+        }
+
+        @Test
+        @DisplayName("가격 범위 조회는 경계를 포함하고 가격 오름차순이다")
+        void findByPriceRangeInclusive() {
+            // given
+            addAll();
+
+            // when
+            List<Product> result = catalog.findByPriceRange(15000, 30000);
+
+            // then
+            assertEquals(List.of(tee, chilled, jeans), result);
+            assertTrue(catalog.findByPriceRange(60000, 70000).isEmpty(), "범위 안 상품이 없으면 빈 목록");
+            assertTrue(catalog.findByPriceRange(30000, 10000).isEmpty(), "최소가 최대보다 크면 빈 목록");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.univ.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.univ.exception.StockUnavailableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Product 재고 예약(tryReserve/release) 동작 검증")
+class ProductStockTest {
+
+    @Nested
+    @DisplayName("단일 스레드 동작")
+    class SingleThreadTests {
+
+        @Test
+        @DisplayName("재고가 충분하면 tryReserve는 true를 반환하고 재고를 차감한다")
+        void reserveWhenEnoughStock() {
+            // given
+            Product p = new Clothing("P100", "티셔츠", 10000, "테스트", 5, "M", "면");
+
+            // when
+            boolean reserved = p.tryReserve(3);
+
+            // then
+            assertTrue(reserved, "재고가 충분하면 예약에 성공해야 한다");
+            assertEquals(2, p.getStockQuantity(), "예약한 만큼 재고가 차감되어야 한다");
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 tryReserve는 false를 반환하고 재고를 바꾸지 않는다")
+        void rejectWhenNotEnoughStock() {
+            // given
+            Product p = new Clothing("P101", "바지", 20000, "테스트", 2, "L", "면");
+
+            // when
+            boolean reserved = p.tryReserve(3);
+
+            // then
+            assertFalse(reserved, "재고보다 많이 예약하면 실패해야 한다");
+            assertEquals(2, p.getStockQuantity(), "실패한 예약은 재고를 바꾸면 안 된다");
+        }
+
+        @Test
+        @DisplayName("release는 예약한 재고를 되돌린다")
+        void releaseRestoresStock() {
+            // given
+            Product p = new Clothing("P102", "셔츠", 15000, "테스트", 4, "S", "면");
+            p.tryReserve(4);
+
+            // when
+            p.release(4);
+
+            // then
+            assertEquals(4, p.getStockQuantity(), "release 후 재고가 원래대로 돌아와야 한다");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, -1 })
+        @DisplayName("0 이하 수량으로 예약/복구하면 IllegalArgumentException 발생")
+        void throwWhenNonPositiveQuantity(int badQuantity) {
+            // given
+            Product p = new Clothing("P103", "양말", 3000, "테스트", 4, "F", "면");
+
+            // when / then
+            assertThrows(IllegalArgumentException.class, () -> p.tryReserve(badQuantity),
+                    "0 이하 수량 예약 시 IllegalArgumentException이 발생해야 한다");
+            assertThrows(IllegalArgumentException.class, () -> p.release(badQuantity),
+                    "0 이하 수량 복구 시 IllegalArgumentException이 발생해야 한다");
+        }
+
+        @Test
+        @DisplayName("updateStock으로 재고보다 많이 출고하면 StockUnavailableException 발생")
+        void updateStockThrowsWhenInsufficient() {
+            // given
+            Product p = new Clothing("P104", "모자", 8000, "테스트", 1, "F", "면");
+
+            // when / then
+            assertThrows(StockUnavailableException.class, () -> p.updateStock(-2),
+                    "재고 부족 시 StockUnavailableException이 발생해야 한다");
+            assertEquals(1, p.getStockQuantity(), "실패한 출고는 재고를 바꾸면 안 된다");
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 동작")
+    class ConcurrencyTests {
+
+        private static final int THREADS = 64;
+        private static final int ATTEMPTS_PER_THREAD = 1_000;
+
+        @Test
+        @DisplayName("64개 스레드가 한 상품을 동시에 예약해도 초과 판매가 없다")
+        void noOversellUnderContention() throws Exception {
+            // given: 전체 시도 횟수보다 훨씬 적은 재고
+            int initialStock = 10_000;
+            Product p = new Clothing("P200", "한정판", 99000, "테스트", initialStock, "M", "면");
+            AtomicInteger successCount = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+            // when: 모든 스레드가 동시에 출발해 1개씩 예약 시도
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        if (p.tryReserve(1)) {
+                            successCount.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            // then: 성공한 예약 수는 정확히 초기 재고와 같고, 재고는 0이어야 한다
+            assertEquals(initialStock, successCount.get(), "성공한 예약 수는 초기 재고를 넘으면 안 된다");
+            assertEquals(0, p.getStockQuantity(), "모든 재고가 정확히 소진되어야 한다");
+        }
+
+        @Test
+        @DisplayName("예약과 복구가 섞여도 갱신 손실이 없다")
+        void noLostUpdatesWithReserveAndRelease() throws Exception {
+            // given
+            int initialStock = 500;
+            Product p = new Clothing("P201", "기본티", 12000, "테스트", initialStock, "L", "면");
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+            // when: 예약에 성공한 스레드는 곧바로 같은 수량을 복구
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        if (p.tryReserve(2)) {
+                            p.release(2);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            // then
+            assertEquals(initialStock, p.getStockQuantity(), "예약/복구가 짝을 이루면 재고는 원래대로여야 한다");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.univ.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.univ.exception.PaymentException;
+import org.univ.exception.StockUnavailableException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("지연 히스토그램/지표 레지스트리 검증")
+class MetricsRegistryTest {
+
+    @Nested
+    @DisplayName("LatencyHistogram")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("백분위수는 실제 값과 구간 오차(1/16) 이내로 맞는다")
+        void percentilesWithinBucketError() {
+            // given: 1~1000µs를 고르게 기록
+            LatencyHistogram histogram = new LatencyHistogram("test");
+            for (int micros = 1; micros <= 1000; micros++) {
+                histogram.record(micros * 1_000L);
+            }
+
+            // when
+            HistogramSnapshot snapshot = histogram.snapshot();
+
+            // then
+            assertEquals(1000, snapshot.getCount());
+            assertEquals(1_000_000, snapshot.getMaxNanos());
+            assertEquals(500_500.0, snapshot.getMeanNanos(), 0.001);
+            assertWithin(500_000, snapshot.getValueAtPercentile(50));
+            assertWithin(990_000, snapshot.getValueAtPercentile(99));
+            assertEquals(1_000_000, snapshot.getValueAtPercentile(100), "최댓값을 넘지 않아야 한다");
+        }
+
+        private void assertWithin(long expected, long actual) {
+            assertTrue(actual >= expected && actual <= expected + expected / 16,
+                    "예상 " + expected + " 근처여야 한다: " + actual);
+        }
+
+        @Test
+        @DisplayName("작은 값은 정확히, 범위를 넘는 값은 마지막 칸에 세고 최댓값은 그대로 보관한다")
+        void smallAndHugeValues() {
+            // given
+            LatencyHistogram histogram = new LatencyHistogram("test");
+
+            // when
+            histogram.record(7);
+            histogram.record(-5);
+            histogram.record(LatencyHistogram.MAX_TRACKABLE_NANOS * 4);
+
+            // then
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(0, snapshot.getValueAtPercentile(0));
+            assertEquals(7, snapshot.getValueAtPercentile(50));
+            assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS * 4, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("칸 번호와 칸 상한이 서로 맞는다")
+        void bucketBoundsAreConsistent() {
+            for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+                long upper = LatencyHistogram.bucketUpperBound(i);
+                assertEquals(i, LatencyHistogram.bucketIndex(upper), "칸 " + i + "의 상한");
+                assertEquals(i + 1 == LatencyHistogram.BUCKET_COUNT ? i : i + 1,
+                        LatencyHistogram.bucketIndex(upper + 1), "칸 " + i + "의 다음 값");
+            }
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 기록해도 합친 건수가 모두 맞는다")
+        void concurrentRecording() throws InterruptedException {
+            // given
+            LatencyHistogram histogram = new LatencyHistogram("test");
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // when
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // then
+            HistogramSnapshot snapshot = histogram.snapshot();
+            assertEquals(80_000, snapshot.getCount());
+            assertEquals(9_999, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("기록할 때 힙 할당이 없다")
+        void recordingDoesNotAllocate() {
+            // given
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return; // 스레드별 할당량을 잴 수 없는 JVM
+            }
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            StageMetrics stage = new MetricsRegistry().stage("test");
+            for (int i = 0; i < 10_000; i++) {   // 실패 유형 카운터 생성 등 첫 기록 비용 제외
+                stage.success(System.nanoTime());
+                stage.failure(System.nanoTime(), PaymentException.class);
+            }
+            long threadId = Thread.currentThread().getId();
+
+            // when
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 100_000; i++) {
+                stage.success(System.nanoTime());
+                stage.failure(System.nanoTime(), PaymentException.class);
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            // then: 측정 호출 자체의 오차만 허용
+            assertTrue(allocated < 1024, "기록 20만 번에 할당된 바이트: " + allocated);
+        }
+    }
+
+    @Nested
+    @DisplayName("MetricsRegistry")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("같은 이름으로 요청하면 같은 지표를 돌려준다")
+        void sameNameSameMetric() {
+            MetricsRegistry registry = new MetricsRegistry();
+
+            assertSame(registry.stage("a"), registry.stage("a"));
+            assertSame(registry.histogram("h"), registry.histogram("h"));
+            assertSame(registry.counter("c"), registry.counter("c"));
+            assertThrows(IllegalArgumentException.class, () -> registry.counter(" "));
+        }
+
+        @Test
+        @DisplayName("단계별 성공/실패 유형별 횟수를 세고 텍스트로 내보낸다")
+        void stageCountsAndDump() {
+            // given
+            MetricsRegistry registry = new MetricsRegistry();
+            StageMetrics stage = registry.stage("order.payment");
+            long start = System.nanoTime();
+
+            // when
+            stage.success(start);
+            stage.success(start);
+            stage.failure(start, PaymentException.class);
+            stage.failure(start, StockUnavailableException.class);
+            stage.failure(start, PaymentException.class);
+            registry.counter("orders.created").add(3);
+
+            // then
+            assertEquals(2, stage.getSuccessCount());
+            assertEquals(2, stage.getFailureCount(PaymentException.class));
+            assertEquals(Map.of("PaymentException", 2L, "StockUnavailableException", 1L), stage.getFailureCounts());
+            assertEquals(5, stage.getLatency().snapshot().getCount());
+            String dump = registry.dump();
+            assertTrue(dump.startsWith("order.payment count=5 mean="), dump);
+            assertTrue(dump.contains(" success=2 failures={PaymentException=2, StockUnavailableException=1}\n"), dump);
+            assertTrue(dump.contains("orders.created count=3\n"), dump);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.univ.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.discount.CategoryDiscount;
+import org.univ.domain.discount.DiscountEngine;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Electronics;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
+import org.univ.exception.PersistenceException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CatalogSnapshot 카탈로그 스냅샷 검증")
+class CatalogSnapshotTest {
+
+    private final Path snapshotPath = createTempFile();
+
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("catalog", ".snap");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshotPath);
+    }
+
+    @Test
+    @DisplayName("저장한 상품과 재고가 그대로 복원된다")
+    void roundTrip() {
+        // given: 재고가 바뀐 상품 세 종류
+        Clothing shirt = new Clothing("S001", "셔츠", 15000, "여름용", 10, "M", "면");
+        Electronics phone = new Electronics("S002", "휴대폰", 990000.5, "최신형", 3, 24);
+        Food milk = new Food("S003", "냉장 우유", 3000, "신선", 7, true);
+        shirt.updateStock(-4);
+
+        // when
+        CatalogSnapshot.write(snapshotPath, List.of(milk, shirt, phone));
+        ProductCatalog catalog = new ProductCatalog(CatalogSnapshot.open(snapshotPath));
+
+        // then
+        Clothing restoredShirt = (Clothing) catalog.findById("S001").orElseThrow();
+        Electronics restoredPhone = (Electronics) catalog.findById("S002").orElseThrow();
+        Food restoredMilk = (Food) catalog.findById("S003").orElseThrow();
+        assertAll(
+                () -> assertEquals(6, restoredShirt.getStockQuantity(), "저장 시점 재고"),
+                () -> assertEquals(shirt.getDescription(), restoredShirt.getDescription()),
+                () -> assertEquals("M", restoredShirt.getSize()),
+                () -> assertEquals(phone.getPriceMinor(), restoredPhone.getPriceMinor()),
+                () -> assertEquals(24, restoredPhone.getWarrantyPeriod()),
+                () -> assertTrue(restoredMilk.isRefrigerated()),
+                () -> assertEquals(milk.getHandlingFlags(), restoredMilk.getHandlingFlags())
+        );
+    }
+
+    @Test
+    @DisplayName("스냅샷을 열기만 하면 상품을 만들지 않고, ID 조회 시 해당 상품만 한 번 만든다")
+    void hydrateLazily() {
+        // given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            products.add(new Clothing(String.format("L%05d", i), "상품" + i, 1000 + i, "테스트", 5, "M", "면"));
+        }
+        CatalogSnapshot.write(snapshotPath, products);
+
+        // when
+        CatalogSnapshot snapshot = CatalogSnapshot.open(snapshotPath);
+        ProductCatalog catalog = new ProductCatalog(snapshot);
+        long afterOpen = snapshot.getLoadCount();
+        Product first = catalog.findById("L04321").orElseThrow();
+        Product second = catalog.findById("L04321").orElseThrow();
+
+        // then
+        assertEquals(0, afterOpen, "열 때는 상품을 만들지 않아야 한다");
+        assertSame(first, second, "같은 상품은 한 번만 만들어야 한다");
+        assertEquals(1, snapshot.getLoadCount());
+        assertTrue(catalog.findById("L99999").isEmpty(), "없는 ID는 빈 결과");
+    }
+
+    @Test
+    @DisplayName("전체/가격 조회는 남은 상품을 모두 만든 뒤 수행한다")
+    void hydrateAllForRangeQueries() {
+        // given
+        CatalogSnapshot.write(snapshotPath, List.of(
+                new Clothing("R001", "티셔츠", 10000, "테스트", 5, "M", "면"),
+                new Food("R002", "사과", 5000, "테스트", 5, false),
+                new Electronics("R003", "충전기", 20000, "테스트", 5, 6)));
+        CatalogSnapshot snapshot = CatalogSnapshot.open(snapshotPath);
+        ProductCatalog catalog = new ProductCatalog(snapshot);
+        Product apple = catalog.findById("R002").orElseThrow();
+
+        // when
+        List<Product> cheap = catalog.findByPriceRange(0, 10000);
+        List<Product> all = catalog.findAll();
+
+        // then
+        assertEquals(3, all.size());
+        assertEquals(List.of("R002", "R001"), List.of(cheap.get(0).getProductId(), cheap.get(1).getProductId()));
+        assertSame(apple, cheap.get(0), "이미 만든 상품을 재사용해야 한다");
+        assertEquals(3, snapshot.getLoadCount(), "상품마다 한 번씩만 만든다");
+        assertThrows(IllegalArgumentException.class,
+                () -> catalog.add(new Food("R002", "배", 4000, "테스트", 1, false)),
+                "스냅샷에 있는 ID는 중복 등록 불가");
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 만든 상품은 만들 때마다 할인 가격표에 등록된다")
+    void registerHydratedProducts() {
+        // given: 의류 10% 할인 규칙이 있는 엔진
+        CatalogSnapshot.write(snapshotPath, List.of(
+                new Clothing("D001", "티셔츠", 10000, "테스트", 5, "M", "면"),
+                new Clothing("D002", "바지", 20000, "테스트", 5, "L", "면"),
+                new Food("D003", "사과", 5000, "테스트", 5, false)));
+        DiscountEngine engine = new DiscountEngine();
+        engine.addRule(new CategoryDiscount(Clothing.class, 10));
+        ProductCatalog catalog = new ProductCatalog(CatalogSnapshot.open(snapshotPath), engine::registerAll);
+        long rebuildsBefore = engine.getRebuildCount();
+
+        // when
+        Product shirt = catalog.findById("D001").orElseThrow();
+        catalog.findById("D001").orElseThrow();
+        catalog.findAll();
+
+        // then
+        assertEquals(900000, engine.unitPriceMinor(shirt, 1), "ID로 만든 상품에 할인이 적용되어야 한다");
+        Product pants = catalog.findById("D002").orElseThrow();
+        assertEquals(1800000, engine.unitPriceMinor(pants, 1), "전체 조회로 만든 상품에도 할인이 적용되어야 한다");
+        assertEquals(0, engine.getRebuildCount() - rebuildsBefore, "만든 상품은 가격표 전체를 다시 만들지 않고 더해져야 한다");
+    }
+
+    @Test
+    @DisplayName("스냅샷 형식이 아닌 파일은 PersistenceException 발생")
+    void rejectInvalidFile() throws IOException {
+        // given
+        Files.write(snapshotPath, "not a snapshot file".getBytes());
+
+        // when / then
+        assertThrows(PersistenceException.class, () -> CatalogSnapshot.open(snapshotPath));
+    }
+}
@@ -0,0 +1,268 @@
+package org.univ.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Food;
+import org.univ.domain.product.Product;
+import org.univ.domain.product.ProductCatalog;
+import org.univ.exception.DeliveryException;
+import org.univ.exception.IllegalOrderStateException;
+import org.univ.exception.PaymentException;
+import org.univ.service.OrderService;
+import org.univ.strategy.delivery.StandardDelivery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteAheadLog 주문 로그 기록/복구 검증")
+class WriteAheadLogTest {
+
+    private final Path logPath = createTempFile();
+    private final Customer customer = new Customer(
+            "C100", "테스터", "test@univ.org", "010-0000-0000", "서울시"
+    );
+
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("orders", ".wal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void deleteLog() throws IOException {
+        Files.deleteIfExists(logPath);
+    }
+
+    // 로그를 쓰기 시작한 시점과 같은 재고의 카탈로그 (실행할 때마다 새로 만듦)
+    private static ProductCatalog freshCatalog() {
+        ProductCatalog catalog = new ProductCatalog();
+        catalog.add(new Clothing("W001", "셔츠", 10000, "테스트", 10, "M", "면"));
+        catalog.add(new Food("W002", "우유", 3000, "테스트", 10, true));
+        return catalog;
+    }
+
+    @Nested
+    @DisplayName("복구")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("배송된 주문과 결제 전 주문은 복구되고, 실패한 주문은 복구되지 않는다")
+        void recoverOrdersAndStock() {
+            // given: 로그를 붙인 서비스로 성공 1건, 결제 실패 1건, 배송 실패 1건, 결제 전 1건
+            ProductCatalog catalog = freshCatalog();
+            var shirt = catalog.findById("W001").orElseThrow();
+            var milk = catalog.findById("W002").orElseThrow();
+            String shippedId;
+            String pendingId;
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.GROUP_COMMIT)) {
+                OrderService service = new OrderService();
+                service.addOrderListener(wal);
+                shippedId = service.placeOrder(customer, List.of(shirt, shirt, milk),
+                        amount -> { }, new StandardDelivery()).getOrderId();
+                assertThrows(IllegalOrderStateException.class, () -> service.placeOrder(customer, List.of(milk),
+                        amount -> { throw new PaymentException("한도 초과"); }, new StandardDelivery()));
+                // 배송 실패: 결제(PAID)까지 기록된 뒤 예약이 모두 되돌려진 주문
+                assertThrows(IllegalOrderStateException.class, () -> service.placeOrder(customer, List.of(milk, milk),
+                        amount -> { }, summary -> { throw new DeliveryException("배송 불가"); }));
+
+                Order pending = new Order("W-PENDING", customer, List.of(), amount -> { }, new StandardDelivery());
+                pending.addListener(wal);
+                wal.onCreated(pending);
+                pending.addProduct(shirt, 3);
+                pending.removeProduct(shirt);
+                pendingId = pending.getOrderId();
+            }
+
+            // when: 새 카탈로그(초기 재고)로 복구
+            ProductCatalog restored = freshCatalog();
+            WalRecovery recovery = new WalRecovery(restored, ReservationLedger.untimed());
+            List<Order> orders = recovery.recover(logPath);
+
+            // then
+            assertEquals(2, orders.size(), "실패한 주문은 복구하지 않아야 한다");
+            Order shipped = orders.get(0);
+            Order pending = orders.get(1);
+            assertEquals(shippedId, shipped.getOrderId());
+            assertEquals(OrderStatus.SHIPPED, shipped.getStatus(), "배송 상태가 복구되어야 한다");
+            assertEquals(23000.0, shipped.calculateTotalPrice(), "주문 라인이 복구되어야 한다");
+            assertEquals(pendingId, pending.getOrderId());
+            assertEquals(OrderStatus.PENDING, pending.getStatus());
+            assertEquals(2, pending.getUnitCount(), "뺀 수량을 제외한 라인이 복구되어야 한다");
+            assertEquals(6, restored.findById("W001").orElseThrow().getStockQuantity(),
+                    "셔츠 재고: 배송 2 + 결제 전 hold 2");
+            assertEquals(9, restored.findById("W002").orElseThrow().getStockQuantity(),
+                    "우유 재고: 배송 1 (결제/배송 실패 주문은 반영 안 함)");
+        }
+
+        @Test
+        @DisplayName("복구된 결제 완료 주문을 취소하면 차감했던 재고가 돌아온다")
+        void cancelRestoredPaidOrderReturnsStock() {
+            // given: 결제까지 끝난 주문
+            ProductCatalog catalog = freshCatalog();
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.NEVER)) {
+                Order order = new Order("W-PAID", customer, List.of(), amount -> { }, new StandardDelivery());
+                order.addListener(wal);
+                wal.onCreated(order);
+                order.addProduct(catalog.findById("W001").orElseThrow(), 3);
+                order.processPayment();
+            }
+            ProductCatalog restored = freshCatalog();
+            List<Order> orders = new WalRecovery(restored, ReservationLedger.untimed()).recover(logPath);
+            assertEquals(1, orders.size());
+            assertEquals(OrderStatus.PAID, orders.get(0).getStatus());
+            assertEquals(7, restored.findById("W001").orElseThrow().getStockQuantity());
+
+            // when
+            orders.get(0).cancel().join();
+
+            // then
+            assertEquals(OrderStatus.CANCELLED, orders.get(0).getStatus());
+            assertEquals(10, restored.findById("W001").orElseThrow().getStockQuantity(),
+                    "복구된 주문도 취소하면 재고가 돌아와야 한다");
+        }
+
+        @Test
+        @DisplayName("취소된 주문은 내역만 복구되고 재고는 차감되지 않는다")
+        void recoverCancelledOrder() {
+            // given: 결제 후 취소한 주문
+            ProductCatalog catalog = freshCatalog();
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.NEVER)) {
+                Order order = new Order("W-CANCEL", customer, List.of(), amount -> { }, new StandardDelivery());
+                order.addListener(wal);
+                wal.onCreated(order);
+                order.addProduct(catalog.findById("W001").orElseThrow(), 2);
+                order.processPayment();
+                order.cancel().join();
+            }
+
+            // when
+            ProductCatalog restored = freshCatalog();
+            List<Order> orders = new WalRecovery(restored, ReservationLedger.untimed()).recover(logPath);
+
+            // then
+            assertEquals(1, orders.size());
+            assertEquals(OrderStatus.CANCELLED, orders.get(0).getStatus());
+            assertEquals(2, orders.get(0).getUnitCount(), "취소된 주문의 라인은 남아야 한다");
+            assertEquals(10, restored.findById("W001").orElseThrow().getStockQuantity(),
+                    "취소된 주문은 재고에 반영하지 않아야 한다");
+        }
+
+        @Test
+        @DisplayName("재고 부족으로 하나도 예약하지 못한 주문은 복구되지 않는다")
+        void skipStockOutOrder() {
+            // given: 재고(10)보다 많이 담아 첫 상품부터 예약에 실패한 주문 (생성 기록만 남음)
+            ProductCatalog catalog = freshCatalog();
+            var shirt = catalog.findById("W001").orElseThrow();
+            List<Product> cart = new ArrayList<>();
+            for (int i = 0; i < 11; i++) {
+                cart.add(shirt);
+            }
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.NEVER)) {
+                OrderService service = new OrderService();
+                service.addOrderListener(wal);
+                assertThrows(RuntimeException.class, () -> service.placeOrder(customer, cart,
+                        amount -> { }, new StandardDelivery()));
+            }
+
+            // when
+            ProductCatalog restored = freshCatalog();
+            WalRecovery recovery = new WalRecovery(restored, ReservationLedger.untimed());
+            List<Order> orders = recovery.recover(logPath);
+
+            // then
+            assertTrue(recovery.getRecordCount() > 0, "생성 기록은 로그에 남아 있어야 한다");
+            assertTrue(orders.isEmpty(), "금액 0원짜리 결제 전 주문으로 복구하지 않아야 한다");
+            assertEquals(10, restored.findById("W001").orElseThrow().getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("마지막 기록이 쓰다 만 상태면 그 앞까지만 복구하고 꼬리를 잘라 낸다")
+        void truncateTornTail() throws IOException {
+            // given
+            ProductCatalog catalog = freshCatalog();
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.NEVER)) {
+                OrderService service = new OrderService();
+                service.addOrderListener(wal);
+                service.placeOrder(customer, List.of(catalog.findById("W001").orElseThrow()),
+                        amount -> { }, new StandardDelivery());
+            }
+            long validSize = Files.size(logPath);
+            Files.write(logPath, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+            // when
+            WalRecovery recovery = new WalRecovery(freshCatalog(), ReservationLedger.untimed());
+            List<Order> orders = recovery.recover(logPath);
+
+            // then
+            assertEquals(1, orders.size(), "유효한 주문은 복구되어야 한다");
+            assertEquals(7, recovery.getTruncatedBytes(), "잘린 꼬리 바이트 수");
+            assertEquals(validSize, Files.size(logPath), "파일은 유효한 끝까지 잘려야 한다");
+        }
+    }
+
+    @Nested
+    @DisplayName("기록")
+    class AppendTests {
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 기록해도 GROUP_COMMIT 반환 시점에 모두 디스크에 남는다")
+        void groupCommitFromManyThreads() throws InterruptedException {
+            // given
+            Order order = new Order("W-STATUS", customer, List.of(), amount -> { }, new StandardDelivery());
+            int threads = 8;
+            int perThread = 500;
+
+            // when
+            try (WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.GROUP_COMMIT)) {
+                wal.onCreated(order);
+                List<Thread> workers = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    Thread worker = new Thread(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            wal.onStatusChanged(order, OrderStatus.PENDING, OrderStatus.PAID);
+                        }
+                    });
+                    workers.add(worker);
+                    worker.start();
+                }
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+
+                // then: 모든 append가 반환되었으면 모두 fsync된 상태
+                assertEquals(1 + threads * perThread, wal.getDurableCount(), "반환된 기록은 모두 fsync되어야 한다");
+            }
+            WalRecovery recovery = new WalRecovery(freshCatalog(), ReservationLedger.untimed());
+            List<Order> orders = recovery.recover(logPath);
+            assertEquals(1 + threads * perThread, recovery.getRecordCount(), "기록이 모두 읽혀야 한다");
+            assertEquals(OrderStatus.PAID, orders.get(0).getStatus());
+        }
+
+        @Test
+        @DisplayName("닫힌 로그에 기록하면 PersistenceException 발생")
+        void rejectAppendAfterClose() {
+            // given
+            Order order = new Order("W-CLOSED", customer, List.of(), amount -> { }, new StandardDelivery());
+            WriteAheadLog wal = new WriteAheadLog(logPath, FsyncPolicy.INTERVAL);
+            wal.close();
+
+            // when / then
+            assertThrows(org.univ.exception.PersistenceException.class, () -> wal.onCreated(order));
+        }
+    }
+}
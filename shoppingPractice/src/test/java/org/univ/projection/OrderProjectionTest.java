@@ -0,0 +1,177 @@
+package org.univ.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.discount.DiscountEngine;
+import org.univ.domain.discount.DiscountRule;
+import org.univ.domain.discount.QuantityTier;
+import org.univ.domain.event.OrderEvent;
+import org.univ.domain.event.OrderEventRecorder;
+import org.univ.domain.event.OrderEventStream;
+import org.univ.domain.money.Money;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Product;
+import org.univ.exception.IllegalOrderStateException;
+import org.univ.exception.PaymentException;
+import org.univ.service.OrderService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주문 이벤트 스트림과 프로젝션 검증")
+class OrderProjectionTest {
+
+    private final OrderEventStream stream = new OrderEventStream();
+    private final OrdersByStatusProjection byStatus = new OrdersByStatusProjection();
+    private final RevenueProjection revenue = new RevenueProjection();
+    private final CustomerHistoryProjection history = new CustomerHistoryProjection();
+    private final OrderService service = new OrderService();
+
+    private final Customer alice = new Customer("C1", "앨리스", "a@univ.org", "010-1111-1111", "서울시");
+    private final Customer bob = new Customer("C2", "밥", "b@univ.org", "010-2222-2222", "부산시");
+    private final Product shirt = new Clothing("E001", "셔츠", 10000, "테스트", 10, "M", "면");
+
+    OrderProjectionTest() {
+        stream.subscribe(byStatus);
+        stream.subscribe(revenue);
+        stream.subscribe(history);
+        service.addOrderListener(new OrderEventRecorder(stream));
+    }
+
+    private void placeSampleOrders() {
+        service.placeOrder(alice, List.of(shirt, shirt), amount -> { }, summary -> { });
+        service.placeOrder(bob, List.of(shirt), amount -> { }, summary -> { });
+        assertThrows(IllegalOrderStateException.class, () -> service.placeOrder(alice, List.of(shirt),
+                amount -> { throw new PaymentException("한도 초과"); }, summary -> { }));
+    }
+
+    @Nested
+    @DisplayName("증분 반영")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("주문 처리 흐름이 이벤트로 기록되고 프로젝션에 바로 반영된다")
+        void projectionsFollowEvents() {
+            // when
+            placeSampleOrders();
+
+            // then
+            assertEquals(2, byStatus.count(OrderStatus.SHIPPED), "배송된 주문 2건");
+            assertEquals(1, byStatus.count(OrderStatus.PENDING), "결제 실패 주문은 결제 대기로 남음");
+            assertEquals(Money.ofWon(30000), revenue.getRevenueMinor(), "결제된 금액 합계");
+            assertEquals(2, revenue.getPaidOrderCount());
+
+            List<OrderView> aliceOrders = history.findByCustomerId("C1");
+            assertEquals(2, aliceOrders.size(), "고객별 이력은 실패 주문도 포함");
+            assertEquals(OrderStatus.SHIPPED, aliceOrders.get(0).getStatus());
+            assertEquals(2, aliceOrders.get(0).getUnitCount());
+            assertEquals(0, aliceOrders.get(1).getUnitCount(), "롤백된 주문은 상품이 모두 빠져야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 후 취소 이벤트는 매출에서 빠진다")
+        void cancelAfterPaymentRefunds() {
+            // given
+            placeSampleOrders();
+            String orderId = history.findByCustomerId("C2").get(0).getOrderId();
+
+            // when
+            stream.append(new OrderEvent(OrderEvent.Type.CANCELLED, orderId, "C2",
+                    LocalDateTime.now(), null, 0, Money.ofWon(10000), "고객 요청"));
+
+            // then
+            assertEquals(Money.ofWon(20000), revenue.getRevenueMinor());
+            assertEquals(1, revenue.getRefundedOrderCount());
+            assertEquals(OrderStatus.CANCELLED, byStatus.statusOf(orderId));
+        }
+
+        @Test
+        @DisplayName("배송 완료된 주문은 환불 대비 금액에서 빠진다")
+        void deliveredOrdersAreEvicted() {
+            // given
+            placeSampleOrders();
+            assertEquals(2, revenue.getRefundableOrderCount());
+            String orderId = history.findByCustomerId("C2").get(0).getOrderId();
+
+            // when
+            stream.append(new OrderEvent(OrderEvent.Type.DELIVERED, orderId, "C2",
+                    LocalDateTime.now(), null, 0, 0, null));
+
+            // then
+            assertEquals(1, revenue.getRefundableOrderCount(), "배송 완료 주문은 더 이상 들고 있지 않아야 한다");
+            assertEquals(Money.ofWon(30000), revenue.getRevenueMinor(), "배송 완료는 매출에 영향이 없어야 한다");
+        }
+
+        @Test
+        @DisplayName("상품 추가/제외 금액은 주문 라인 금액 변화라서 수량 할인 구간을 넘나들어도 이력 총액이 주문 총액과 같다")
+        void lineAmountsFollowOrderTotal() {
+            // given: 의류 3개부터 10% 할인
+            DiscountRule tier = new QuantityTier(Clothing.class, 3, 10);
+            DiscountEngine.global().register(shirt);
+            DiscountEngine.global().addRule(tier);
+            try {
+                Order order = new Order("E-TIER", alice, List.of(), amount -> { }, summary -> { });
+                OrderEventRecorder recorder = new OrderEventRecorder(stream);
+                order.addListener(recorder);
+                recorder.onCreated(order);
+
+                // when
+                order.addProduct(shirt, 2);
+                order.addProduct(shirt);
+                long afterTier = history.findByCustomerId("C1").get(0).getTotalMinor();
+                order.removeProduct(shirt);
+
+                // then
+                assertEquals(Money.ofWon(27000), afterTier, "3개째에서 라인 전체에 할인이 적용된 금액");
+                assertEquals(order.calculateTotalMinor(), history.findByCustomerId("C1").get(0).getTotalMinor());
+                assertEquals(Money.ofWon(20000), order.calculateTotalMinor());
+            } finally {
+                DiscountEngine.global().removeRule(tier);
+                DiscountEngine.global().unregister(shirt.getProductId());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("재구성")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("나중에 구독하거나 다시 만든 프로젝션도 같은 결과를 낸다")
+        void rebuildFromStream() {
+            // given
+            placeSampleOrders();
+            RevenueProjection late = new RevenueProjection();
+
+            // when
+            stream.subscribe(late);
+            stream.rebuild(history);
+
+            // then
+            assertEquals(revenue.getRevenueMinor(), late.getRevenueMinor(), "재생한 매출이 같아야 한다");
+            assertEquals(2, history.findByCustomerId("C1").size(), "다시 만든 이력이 같아야 한다");
+            assertEquals(history.findByCustomerId("C2").get(0).getOrderId(),
+                    stream.eventsOf(history.findByCustomerId("C2").get(0).getOrderId()).get(0).getOrderId());
+        }
+
+        @Test
+        @DisplayName("이벤트 순번은 1부터 빈틈없이 증가한다")
+        void sequentialNumbers() {
+            // when
+            placeSampleOrders();
+            List<OrderEvent> events = stream.eventsAfter(0);
+
+            // then
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(i + 1, events.get(i).getSequence());
+            }
+            assertEquals(OrderEvent.Type.CREATED, events.get(0).getType());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.univ.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Product;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.payment.PaymentMethod;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderRepository 인덱스 동작 검증")
+class OrderRepositoryTest {
+
+    private final OrderRepository repository = new OrderRepository();
+
+    private final Customer alice = new Customer(
+            "C100", "앨리스", "alice@univ.org", "010-0000-0001", "주소: 서울시"
+    );
+    private final Customer bob = new Customer(
+            "C200", "밥", "bob@univ.org", "010-0000-0002", "주소: 부산시"
+    );
+    private final Product product = new Clothing("P100", "티셔츠", 10000, "테스트", 100, "M", "면");
+    private final PaymentMethod pay = amt -> { };
+    private final DeliveryMethod deliver = sum -> { };
+
+    private Order newOrder(String id, Customer customer) {
+        return new Order(id, customer, List.of(product), pay, deliver);
+    }
+
+    @Nested
+    @DisplayName("저장과 조회")
+    class SaveAndFind {
+
+        @Test
+        @DisplayName("주문 ID와 고객 ID로 조회할 수 있다")
+        void findByIdAndCustomer() {
+            // given
+            Order a1 = newOrder("O1", alice);
+            Order a2 = newOrder("O2", alice);
+            Order b1 = newOrder("O3", bob);
+
+            // when
+            repository.save(a1);
+            repository.save(a2);
+            repository.save(b1);
+
+            // then
+            assertSame(a2, repository.findById("O2").orElseThrow(), "ID로 같은 주문을 찾아야 한다");
+            assertTrue(repository.findById("없음").isEmpty(), "없는 ID는 빈 결과여야 한다");
+            assertEquals(List.of(a1, a2), repository.findByCustomerId("C100"), "고객별 주문은 저장 순서여야 한다");
+            assertEquals(List.of(b1), repository.findByCustomerId("C200"));
+            assertTrue(repository.findByCustomerId("C999").isEmpty(), "주문 없는 고객은 빈 목록");
+        }
+
+        @Test
+        @DisplayName("같은 주문 ID를 다시 저장하면 IllegalArgumentException 발생")
+        void rejectDuplicateId() {
+            // given
+            repository.save(newOrder("O1", alice));
+
+            // when / then
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.save(newOrder("O1", bob)),
+                    "중복 주문 ID는 저장할 수 없어야 한다");
+            assertEquals(1, repository.count());
+        }
+
+        @Test
+        @DisplayName("주문 시각 범위로 조회할 수 있다")
+        void findByOrderDateRange() {
+            // given
+            LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+            Order o = newOrder("O1", alice);
+            repository.save(o);
+            LocalDateTime after = LocalDateTime.now().plusSeconds(1);
+
+            // when / then
+            assertEquals(List.of(o), repository.findByOrderDateBetween(before, after));
+            assertTrue(repository.findByOrderDateBetween(after, after.plusDays(1)).isEmpty(),
+                    "범위 밖의 주문은 조회되지 않아야 한다");
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 인덱스")
+    class StatusIndex {
+
+        @Test
+        @DisplayName("주문 상태가 바뀌면 상태별 조회 결과도 바뀐다")
+        void statusIndexFollowsTransitions() {
+            // given
+            Order o = newOrder("O1", alice);
+            repository.save(o);
+            assertEquals(List.of(o), repository.findByStatus(OrderStatus.PENDING));
+
+            // when
+            o.processPayment();
+
+            // then
+            assertTrue(repository.findByStatus(OrderStatus.PENDING).isEmpty(), "PENDING에서 빠져야 한다");
+            assertEquals(List.of(o), repository.findByStatus(OrderStatus.PAID), "PAID로 옮겨져야 한다");
+
+            // when
+            o.startDelivery();
+
+            // then
+            assertEquals(List.of(o), repository.findByStatus(OrderStatus.SHIPPED), "SHIPPED로 옮겨져야 한다");
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 저장하고 상태를 바꿔도 인덱스가 일관된다")
+        void concurrentWriters() throws Exception {
+            // given
+            int threads = 16;
+            int perThread = 500;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when: 각 스레드가 주문을 저장하고 절반은 결제까지 진행
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        Order o = newOrder("O-" + thread + "-" + i, i % 2 == 0 ? alice : bob);
+                        repository.save(o);
+                        if (i % 2 == 0) {
+                            o.processPayment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            // then
+            int total = threads * perThread;
+            assertEquals(total, repository.count(), "모든 주문이 저장되어야 한다");
+            assertEquals(total / 2, repository.findByCustomerId("C100").size());
+            assertEquals(total / 2, repository.findByStatus(OrderStatus.PAID).size());
+            assertEquals(total / 2, repository.findByStatus(OrderStatus.PENDING).size());
+        }
+    }
+}
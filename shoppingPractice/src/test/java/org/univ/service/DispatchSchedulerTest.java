@@ -0,0 +1,216 @@
+package org.univ.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.exception.DeliveryException;
+import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.DeliveryRequest;
+import org.univ.strategy.delivery.ExpressDelivery;
+import org.univ.strategy.delivery.Shipment;
+import org.univ.strategy.delivery.StandardDelivery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DispatchScheduler 배송 합포장 검증")
+class DispatchSchedulerTest {
+
+    // 묶음 배송 호출을 기록하는 배송사 (유해 물품은 거절)
+    static final class RecordingCarrier implements DeliveryMethod {
+        final List<Shipment> shipments = new CopyOnWriteArrayList<>();
+        final int averageDays;
+
+        RecordingCarrier(int averageDays) {
+            this.averageDays = averageDays;
+        }
+
+        @Override
+        public void deliver(String productSummary) {
+        }
+
+        @Override
+        public void deliver(DeliveryRequest request) {
+            if (request.hasAny(DeliveryRequest.HAZARDOUS)) {
+                throw new DeliveryException("유해 물품 배송 불가: " + request.getOrderId());
+            }
+        }
+
+        // 유해 물품이 섞인 묶음은 통째로 거절 (아무것도 배송하지 않음)
+        @Override
+        public List<RuntimeException> dispatch(Shipment shipment) {
+            if (shipment.getHandlingFlags() != 0 && (shipment.getHandlingFlags() & DeliveryRequest.HAZARDOUS) != 0) {
+                throw new DeliveryException("묶음에 유해 물품 포함");
+            }
+            shipments.add(shipment);
+            return new ArrayList<>(Collections.nCopies(shipment.size(), null));
+        }
+
+        @Override
+        public int getAverageDays() {
+            return averageDays;
+        }
+    }
+
+    private static DeliveryRequest request(String orderId, String address, int flags) {
+        return new DeliveryRequest(orderId, address, flags, () -> "주소: " + address);
+    }
+
+    @Nested
+    @DisplayName("묶음 만들기")
+    class GroupingTests {
+
+        @Test
+        @DisplayName("같은 주소의 주문은 묶음 크기가 차면 한 번에 배송된다")
+        void flushBySize() {
+            // given
+            RecordingCarrier carrier = new RecordingCarrier(3);
+            try (DispatchScheduler scheduler = new DispatchScheduler(3, Duration.ofSeconds(10))) {
+                // when
+                List<CompletableFuture<Void>> results = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    results.add(scheduler.submit(carrier, request("O" + i, "서울시 A동", 0)));
+                }
+                CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+                // then
+                assertEquals(1, carrier.shipments.size(), "세 주문이 한 묶음으로 나가야 한다");
+                assertEquals(List.of("O0", "O1", "O2"), carrier.shipments.get(0).getOrderIds());
+                assertEquals(1, scheduler.getShipmentCount());
+            }
+        }
+
+        @Test
+        @DisplayName("주소가 다르거나 배송 방식이 다르면 다른 묶음이 된다")
+        void groupByAddressAndMethod() {
+            // given
+            RecordingCarrier carrier = new RecordingCarrier(3);
+            RecordingCarrier other = new RecordingCarrier(3);
+            try (DispatchScheduler scheduler = new DispatchScheduler(10, Duration.ofSeconds(10))) {
+                // when
+                CompletableFuture<Void> a1 = scheduler.submit(carrier, request("O1", "서울시 A동", 0));
+                CompletableFuture<Void> a2 = scheduler.submit(carrier, request("O2", " 서울시 A동 ", 0));
+                CompletableFuture<Void> b1 = scheduler.submit(carrier, request("O3", "부산시 B동", 0));
+                CompletableFuture<Void> c1 = scheduler.submit(other, request("O4", "서울시 A동", 0));
+                scheduler.flush();
+                CompletableFuture.allOf(a1, a2, b1, c1).join();
+
+                // then
+                assertEquals(2, carrier.shipments.size(), "주소별 두 묶음");
+                assertEquals(1, other.shipments.size());
+                assertEquals(4, scheduler.getRequestCount());
+            }
+        }
+
+        @Test
+        @DisplayName("묶음이 덜 차도 (대기 시간 × 평균 배송일)이 지나면 출발하고, 특급이 먼저 출발한다")
+        void flushByTimeHonouringAverageDays() throws Exception {
+            // given: 1일당 30ms → 특급 30ms, 일반 90ms
+            RecordingCarrier express = new RecordingCarrier(1);
+            RecordingCarrier standard = new RecordingCarrier(3);
+            try (DispatchScheduler scheduler = new DispatchScheduler(100, Duration.ofMillis(30))) {
+                // when
+                CompletableFuture<Void> slow = scheduler.submit(standard, request("S1", "서울시 A동", 0));
+                CompletableFuture<Void> fast = scheduler.submit(express, request("E1", "서울시 A동", 0));
+                fast.get(5, TimeUnit.SECONDS);
+
+                // then
+                assertFalse(slow.isDone(), "일반 배송은 특급보다 오래 모아야 한다");
+                slow.get(5, TimeUnit.SECONDS);
+                assertEquals(1, standard.shipments.size());
+            }
+        }
+
+        @Test
+        @DisplayName("일반/특급 배송 인스턴스가 달라도 같은 종류면 한 묶음이 된다")
+        void sameTypeDifferentInstances() {
+            assertEquals(new StandardDelivery().consolidationKey(), new StandardDelivery().consolidationKey());
+            assertNotEquals(new StandardDelivery().consolidationKey(), new ExpressDelivery().consolidationKey());
+            assertEquals(3, new StandardDelivery().getAverageDays());
+            assertEquals(1, new ExpressDelivery().getAverageDays());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 처리")
+    class FailureTests {
+
+        @Test
+        @DisplayName("묶음 배송이 실패하면 배송할 수 없는 주문만 실패한다")
+        void isolateFailedRequest() {
+            // given
+            RecordingCarrier carrier = new RecordingCarrier(3);
+            try (DispatchScheduler scheduler = new DispatchScheduler(2, Duration.ofSeconds(10))) {
+                // when
+                CompletableFuture<Void> ok = scheduler.submit(carrier, request("O1", "서울시 A동", 0));
+                CompletableFuture<Void> bad = scheduler.submit(carrier,
+                        request("O2", "서울시 A동", DeliveryRequest.HAZARDOUS));
+
+                // then
+                assertDoesNotThrow(ok::join);
+                CompletionException e = assertThrows(CompletionException.class, bad::join);
+                assertInstanceOf(DeliveryException.class, e.getCause());
+            }
+        }
+
+        @Test
+        @DisplayName("기본 묶음 배송이 일부만 실패하면 이미 배송된 주문은 다시 배송하지 않는다")
+        void partialFailureDoesNotRedeliver() {
+            // given: dispatch를 따로 구현하지 않은 배송사 (요청마다 deliver, 두 번째 주문만 실패)
+            Map<String, Integer> deliveries = new ConcurrentHashMap<>();
+            DeliveryMethod carrier = new DeliveryMethod() {
+                @Override
+                public void deliver(String productSummary) {
+                }
+
+                @Override
+                public void deliver(DeliveryRequest request) {
+                    deliveries.merge(request.getOrderId(), 1, Integer::sum);
+                    if (request.hasAny(DeliveryRequest.HAZARDOUS)) {
+                        throw new DeliveryException("유해 물품 배송 불가: " + request.getOrderId());
+                    }
+                }
+            };
+            try (DispatchScheduler scheduler = new DispatchScheduler(3, Duration.ofSeconds(10))) {
+                // when
+                CompletableFuture<Void> first = scheduler.submit(carrier, request("O1", "서울시 A동", 0));
+                CompletableFuture<Void> bad = scheduler.submit(carrier,
+                        request("O2", "서울시 A동", DeliveryRequest.HAZARDOUS));
+                CompletableFuture<Void> last = scheduler.submit(carrier, request("O3", "서울시 A동", 0));
+
+                // then
+                assertDoesNotThrow(first::join);
+                assertDoesNotThrow(last::join);
+                CompletionException e = assertThrows(CompletionException.class, bad::join);
+                assertInstanceOf(DeliveryException.class, e.getCause());
+                assertEquals(Map.of("O1", 1, "O2", 1, "O3", 1), deliveries, "주문마다 한 번씩만 배송되어야 한다");
+            }
+        }
+
+        @Test
+        @DisplayName("consolidated로 감싼 배송 방식은 묶음이 배송될 때까지 기다렸다가 결과를 돌려준다")
+        void consolidatedWrapper() {
+            // given
+            RecordingCarrier carrier = new RecordingCarrier(1);
+            try (DispatchScheduler scheduler = new DispatchScheduler(5, Duration.ofMillis(10))) {
+                DeliveryMethod wrapped = scheduler.consolidated(carrier);
+
+                // when / then
+                assertDoesNotThrow(() -> wrapped.deliver(request("O1", "서울시 A동", 0)));
+                assertThrows(DeliveryException.class,
+                        () -> wrapped.deliver(request("O2", "서울시 A동", DeliveryRequest.HAZARDOUS)));
+                assertEquals(1, wrapped.getAverageDays());
+            }
+        }
+    }
+}
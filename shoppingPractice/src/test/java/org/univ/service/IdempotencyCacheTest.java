@@ -0,0 +1,159 @@
+package org.univ.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyCache 중복 제거 캐시 검증")
+class IdempotencyCacheTest {
+
+    // 테스트에서 시간을 직접 옮길 수 있는 시계
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Nested
+    @DisplayName("중복 요청")
+    class DuplicateTests {
+
+        @Test
+        @DisplayName("같은 키로 다시 요청하면 작업을 실행하지 않고 처음 결과를 돌려준다")
+        void returnOriginalResult() {
+            // given
+            IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), clock);
+
+            // when
+            String first = cache.execute("K1", () -> "결과-" + runs.incrementAndGet());
+            String second = cache.execute("K1", () -> "결과-" + runs.incrementAndGet());
+
+            // then
+            assertEquals("결과-1", first);
+            assertEquals("결과-1", second);
+            assertEquals(1, runs.get(), "작업은 한 번만 실행되어야 한다");
+            assertEquals(1, cache.getHitCount());
+        }
+
+        @Test
+        @DisplayName("진행 중인 키로 요청하면 같은 결과를 함께 기다린다")
+        void shareInFlightResult() {
+            // given
+            IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), clock);
+            CompletableFuture<String> slow = new CompletableFuture<>();
+
+            // when
+            CompletableFuture<String> first = cache.executeAsync("K1", () -> slow);
+            CompletableFuture<String> second = cache.executeAsync("K1", () -> {
+                runs.incrementAndGet();
+                return CompletableFuture.completedFuture("다른 결과");
+            });
+            slow.complete("처음 결과");
+
+            // then
+            assertEquals("처음 결과", first.join());
+            assertEquals("처음 결과", second.join());
+            assertEquals(0, runs.get(), "진행 중인 키의 두 번째 작업은 실행되지 않아야 한다");
+        }
+
+        @Test
+        @DisplayName("실패한 작업은 기억하지 않으므로 같은 키로 다시 시도할 수 있다")
+        void retryAfterFailure() {
+            // given
+            IdempotencyCache<String> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), clock);
+
+            // when
+            assertThrows(IllegalStateException.class,
+                    () -> cache.execute("K1", () -> { throw new IllegalStateException("일시 장애"); }));
+            String retried = cache.execute("K1", () -> "성공");
+
+            // then
+            assertEquals("성공", retried);
+            assertEquals("성공", cache.get("K1").orElseThrow());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료와 크기 제한")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("ttl이 지나면 같은 키의 작업을 다시 실행한다")
+        void expireAfterTtl() {
+            // given
+            IdempotencyCache<Integer> cache = new IdempotencyCache<>(10, Duration.ofMinutes(1), clock);
+            cache.execute("K1", runs::incrementAndGet);
+
+            // when
+            clock.advance(Duration.ofMinutes(2));
+            int second = cache.execute("K1", runs::incrementAndGet);
+
+            // then
+            assertEquals(2, second, "만료된 키는 새로 실행되어야 한다");
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 오래된 키부터 내보낸다")
+        void evictOldestWhenFull() {
+            // given
+            IdempotencyCache<Integer> cache = new IdempotencyCache<>(3, Duration.ofMinutes(1), clock);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                cache.execute("K" + i, runs::incrementAndGet);
+            }
+
+            // then
+            assertEquals(3, cache.size());
+            assertTrue(cache.get("K0").isEmpty(), "가장 오래된 키는 빠져야 한다");
+            assertTrue(cache.get("K4").isPresent());
+            assertEquals(2, cache.getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("진행 중인 키는 크기를 넘거나 ttl이 지나도 내보내지 않아 작업이 다시 실행되지 않는다")
+        void keepInFlightEntries() {
+            // given: 최대 2개, 진행 중인 K0
+            IdempotencyCache<String> cache = new IdempotencyCache<>(2, Duration.ofMinutes(1), clock);
+            CompletableFuture<String> slow = new CompletableFuture<>();
+            CompletableFuture<String> first = cache.executeAsync("K0", () -> slow);
+
+            // when: 완료되는 키 3개를 넣고 ttl보다 오래 기다린 뒤 K0를 다시 요청
+            for (int i = 1; i <= 3; i++) {
+                cache.execute("K" + i, () -> "완료");
+            }
+            int completedKept = cache.size() - 1;
+            clock.advance(Duration.ofMinutes(2));
+            CompletableFuture<String> retried = cache.executeAsync("K0", () -> {
+                runs.incrementAndGet();
+                return CompletableFuture.completedFuture("중복 실행");
+            });
+            slow.complete("처음 결과");
+
+            // then
+            assertEquals(2, completedKept, "크기 제한은 완료된 항목에만 적용되어야 한다");
+            assertEquals(0, runs.get(), "진행 중인 키의 작업은 다시 실행되지 않아야 한다");
+            assertSame(first, retried);
+            assertEquals("처음 결과", cache.get("K0").orElseThrow(), "ttl은 완료 시점부터 잰다");
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.univ.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderIdGenerator 주문 ID 생성기 검증")
+class OrderIdGeneratorTest {
+
+    // 테스트에서 시간을 직접 옮길 수 있는 시계
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Nested
+    @DisplayName("시간순 ID (Snowflake)")
+    class SnowflakeTests {
+
+        @Test
+        @DisplayName("ID는 ORD-로 시작하는 고정 길이이고 생성 시각을 담는다")
+        void formatAndTimestamp() {
+            // given
+            SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(7, clock);
+
+            // when
+            String id = generator.nextId();
+
+            // then
+            assertTrue(id.startsWith("ORD-"));
+            assertEquals(32, id.length());
+            assertEquals(clock.millis(), SnowflakeOrderIdGenerator.timestampOf(id));
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 문자열 순서가 생성 순서와 같다")
+        void sortedByTime() {
+            // given
+            SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, clock);
+            List<String> ids = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                ids.add(generator.nextId());
+                ids.add(generator.nextId());
+                clock.advance(Duration.ofMillis(1));
+            }
+
+            // then
+            List<String> sorted = new ArrayList<>(ids);
+            sorted.sort(null);
+            assertEquals(ids, sorted, "같은 스레드에서 만든 ID는 문자열 정렬 순서가 생성 순서여야 한다");
+        }
+
+        @Test
+        @DisplayName("같은 ms에 순번을 다 쓰면 다음 ms로 넘어가 겹치지 않는다")
+        void sequenceOverflowMovesToNextMillis() {
+            // given
+            SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, clock);
+            Set<String> ids = new HashSet<>();
+
+            // when: 시계를 멈춘 채 한 ms의 순번보다 많이 생성
+            String last = null;
+            for (int i = 0; i < SnowflakeOrderIdGenerator.SEQUENCE_LIMIT + 10; i++) {
+                last = generator.nextId();
+                ids.add(last);
+            }
+
+            // then
+            assertEquals(SnowflakeOrderIdGenerator.SEQUENCE_LIMIT + 10, ids.size());
+            assertEquals(clock.millis() + 1, SnowflakeOrderIdGenerator.timestampOf(last));
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 같은 스레드의 ID는 겹치거나 작아지지 않는다")
+        void clockGoesBackwards() {
+            // given
+            SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, clock);
+            String before = generator.nextId();
+
+            // when
+            clock.advance(Duration.ofSeconds(-5));
+            String after = generator.nextId();
+
+            // then
+            assertTrue(after.compareTo(before) > 0, "시계가 되돌아가도 ID 순서는 유지되어야 한다");
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 같은 ms에 동시에 만들어도 ID가 모두 다르다")
+        void uniqueAcrossThreads() throws InterruptedException {
+            // given: 시계를 멈춰 모든 스레드가 같은 ms를 쓰게 함
+            SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(3, clock);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            int threadCount = 8;
+            int perThread = 2_000;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            // when
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // then
+            assertEquals(threadCount * perThread, ids.size());
+        }
+
+        @Test
+        @DisplayName("노드 ID가 범위를 벗어나면 예외가 발생한다")
+        void invalidNodeId() {
+            assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderIdGenerator(-1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new SnowflakeOrderIdGenerator(SnowflakeOrderIdGenerator.MAX_NODE_ID + 1));
+        }
+
+        @Test
+        @DisplayName("형식이 다른 ID에서는 생성 시각을 읽을 수 없다")
+        void timestampOfInvalidId() {
+            String uuidId = new UuidOrderIdGenerator().nextId();
+
+            assertThrows(IllegalArgumentException.class, () -> SnowflakeOrderIdGenerator.timestampOf(uuidId));
+        }
+    }
+
+    @Nested
+    @DisplayName("UUID ID")
+    class UuidTests {
+
+        @Test
+        @DisplayName("일괄 생성한 ID는 모두 다르고 ORD- 형식을 따른다")
+        void batchIdsAreUnique() {
+            // given
+            UuidOrderIdGenerator generator = new UuidOrderIdGenerator();
+
+            // when
+            String[] ids = generator.nextIds(100);
+
+            // then
+            assertEquals(100, new HashSet<>(Arrays.asList(ids)).size());
+            assertTrue(Arrays.stream(ids).allMatch(id -> id.startsWith("ORD-")));
+        }
+    }
+
+    @Nested
+    @DisplayName("기본 생성기 선택")
+    class DefaultGeneratorTests {
+
+        @Test
+        @DisplayName("노드 ID 설정이 없으면 UUID ID, 있으면 그 노드 ID의 시간순 ID를 쓴다")
+        void chooseByNodeId() {
+            // when
+            OrderIdGenerator unset = OrderService.defaultIdGenerator(null);
+            OrderIdGenerator blank = OrderService.defaultIdGenerator(" ");
+            OrderIdGenerator node = OrderService.defaultIdGenerator(" 42 ");
+
+            // then
+            assertInstanceOf(UuidOrderIdGenerator.class, unset);
+            assertInstanceOf(UuidOrderIdGenerator.class, blank);
+            assertEquals(42, assertInstanceOf(SnowflakeOrderIdGenerator.class, node).getNodeId());
+        }
+
+        @Test
+        @DisplayName("노드 ID가 정수가 아니거나 범위를 벗어나면 예외가 발생한다")
+        void rejectInvalidNodeId() {
+            assertThrows(IllegalArgumentException.class, () -> OrderService.defaultIdGenerator("node-1"));
+            assertThrows(IllegalArgumentException.class, () -> OrderService.defaultIdGenerator("70000"));
+        }
+    }
+}
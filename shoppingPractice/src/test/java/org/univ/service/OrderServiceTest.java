@@ -6,6 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.univ.domain.customer.Customer;
+import org.univ.domain.inventory.ReservationLedger;
+import org.univ.domain.order.OrderMetrics;
+import org.univ.exception.StockUnavailableException;
+import org.univ.metrics.MetricsRegistry;
+import org.univ.metrics.StageMetrics;
+import org.univ.repository.OrderRepository;
 import org.univ.domain.product.Clothing;
 import org.univ.domain.product.Product;
 import org.univ.domain.order.Order;
@@ -14,9 +20,21 @@ import org.univ.exception.DeliveryException;
 import org.univ.exception.PaymentException;
 import org.univ.exception.IllegalOrderStateException;
 import org.univ.strategy.delivery.DeliveryMethod;
+import org.univ.strategy.delivery.Shipment;
+import org.univ.strategy.payment.CreditCardPayment;
 import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentResult;
+import org.univ.strategy.payment.SimulatedPaymentGateway;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,5 +117,399 @@ class OrderServiceTest {
                     "예외 메시지는 '" + expectedMessagePrefix + "'로 시작해야 한다"
             );
         }
+
+        @Test
+        @DisplayName("예상하지 못한 오류는 원인 예외와 스택 트레이스를 담아 알린다")
+        void unexpectedErrorKeepsCause() {
+            // given: 결제 중 게이트웨이 연결이 끊기는 결제 방식
+            IllegalStateException failure = new IllegalStateException("게이트웨이 연결 끊김");
+
+            // when
+            IllegalOrderStateException ex = assertThrows(IllegalOrderStateException.class,
+                    () -> orderService.placeOrder(customer, List.of(dummyProduct), amt -> { throw failure; }, sum -> { }));
+
+            // then
+            assertSame(failure, ex.getCause(), "원인 예외가 남아 있어야 한다");
+            assertTrue(ex.getStackTrace().length > 0, "스택 트레이스가 채워져야 한다");
+            assertEquals(5, dummyProduct.getStockQuantity(), "재고는 복구되어야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 거절은 원인 없이 메시지만 담는다")
+        void expectedFailureHasNoCause() {
+            // when
+            IllegalOrderStateException ex = assertThrows(IllegalOrderStateException.class,
+                    () -> orderService.placeOrder(customer, List.of(dummyProduct),
+                            amt -> { throw new PaymentException("카드 오류"); }, sum -> { }));
+
+            // then
+            assertNull(ex.getCause());
+            assertTrue(ex.getMessage().contains("카드 오류"));
+        }
+    }
+
+    @Nested
+    @DisplayName("placeOrderAsync 동작")
+    class PlaceOrderAsync {
+
+        @Test
+        @DisplayName("정상 요청이면 SHIPPED 상태의 주문으로 완료된다")
+        void completesWithShippedOrder() throws Exception {
+            // given
+            List<Product> products = List.of(dummyProduct, dummyProduct);
+
+            // when
+            Order order = orderService.placeOrderAsync(customer, products, amt -> { }, sum -> { })
+                    .get(5, TimeUnit.SECONDS);
+
+            // then
+            assertEquals(OrderStatus.SHIPPED, order.getStatus(), "비동기 주문도 SHIPPED여야 한다");
+            assertEquals(3, dummyProduct.getStockQuantity(), "재고가 2개 차감되어야 한다");
+        }
+
+        @Test
+        @DisplayName("결제 실패 시 IllegalOrderStateException으로 완료되고 재고가 복구된다")
+        void completesExceptionallyAndRestoresStock() {
+            // given
+            PaymentMethod failPay = amt -> { throw new PaymentException("카드 오류"); };
+
+            // when
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> orderService.placeOrderAsync(customer, List.of(dummyProduct), failPay, sum -> { })
+                            .get(5, TimeUnit.SECONDS));
+
+            // then
+            assertInstanceOf(IllegalOrderStateException.class, ex.getCause(),
+                    "실패 원인은 IllegalOrderStateException이어야 한다");
+            assertEquals(5, dummyProduct.getStockQuantity(), "실패한 주문의 재고는 복구되어야 한다");
+        }
+
+        @Test
+        @DisplayName("비동기 주문들의 결제는 앞 주문을 기다리지 않고 동시에 진행된다")
+        void paymentsOverlapAcrossAsyncOrders() throws Exception {
+            // given: 10건이 모두 결제에 들어와야 풀리는 결제 수단 (한 건씩 처리되면 시간 초과로 실패)
+            int orders = 10;
+            CountDownLatch allInPayment = new CountDownLatch(orders);
+            PaymentMethod pm = amount -> {
+                allInPayment.countDown();
+                try {
+                    if (!allInPayment.await(10, TimeUnit.SECONDS)) {
+                        throw new PaymentException("다른 주문의 결제가 동시에 진행되지 않음");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PaymentException("결제 대기 중 인터럽트");
+                }
+            };
+            Product stocked = new Clothing("P900", "대량상품", 1000, "테스트", 10_000, "M", "면");
+
+            // when
+            List<CompletableFuture<Order>> futures = new ArrayList<>();
+            for (int i = 0; i < orders; i++) {
+                futures.add(orderService.placeOrderAsync(customer, List.of(stocked), pm, sum -> { }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+            // then (처리량 비교는 JMH AsyncPlaceOrderBenchmark에서 측정)
+            for (CompletableFuture<Order> future : futures) {
+                assertEquals(OrderStatus.SHIPPED, future.join().getStatus());
+            }
+            assertEquals(10_000 - orders, stocked.getStockQuantity(), "모든 주문의 재고가 정확히 차감되어야 한다");
+        }
+    }
+
+    @Nested
+    @DisplayName("placeOrders 일괄 주문 동작")
+    class PlaceOrders {
+
+        @Test
+        @DisplayName("요청마다 결과를 반환하고 한 요청의 실패가 다른 요청에 영향을 주지 않는다")
+        void independentOutcomesPerRequest() {
+            // given: 성공 / 재고 부족 / 결제 실패 / 배송 실패 요청
+            Product soldOut = new Clothing("P300", "품절상품", 10000, "테스트", 0, "M", "면");
+            PaymentMethod ok = amt -> { };
+            PaymentMethod declined = amt -> { throw new PaymentException("한도 초과"); };
+            DeliveryMethod deliver = sum -> { };
+            DeliveryMethod noRoute = sum -> { throw new DeliveryException("배송 불가 지역"); };
+            List<OrderRequest> requests = List.of(
+                    new OrderRequest(customer, List.of(dummyProduct), ok, deliver),
+                    new OrderRequest(customer, List.of(soldOut), ok, deliver),
+                    new OrderRequest(customer, List.of(dummyProduct, dummyProduct), declined, deliver),
+                    new OrderRequest(customer, List.of(dummyProduct), ok, noRoute)
+            );
+
+            // when
+            List<OrderOutcome> outcomes = orderService.placeOrders(requests);
+
+            // then
+            assertEquals(4, outcomes.size(), "요청 수만큼 결과가 있어야 한다");
+            assertEquals(OrderOutcome.Status.SUCCESS, outcomes.get(0).getStatus());
+            assertEquals(OrderStatus.SHIPPED, outcomes.get(0).getOrder().getStatus());
+            assertEquals(OrderOutcome.Status.STOCK_OUT, outcomes.get(1).getStatus());
+            assertEquals(OrderOutcome.Status.PAYMENT_FAILED, outcomes.get(2).getStatus());
+            assertEquals(OrderOutcome.Status.DELIVERY_FAILED, outcomes.get(3).getStatus());
+            assertEquals(4, dummyProduct.getStockQuantity(),
+                    "성공한 주문 1건만 재고를 차감하고 나머지는 복구되어야 한다");
+        }
+
+        @Test
+        @DisplayName("배치 안의 주문 ID는 모두 다르고 ORD- 형식을 따른다")
+        void uniqueOrderIds() {
+            // given
+            Product stocked = new Clothing("P301", "대량상품", 1000, "테스트", 1_000, "M", "면");
+            List<OrderRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                requests.add(new OrderRequest(customer, List.of(stocked), amt -> { }, sum -> { }));
+            }
+
+            // when
+            List<OrderOutcome> outcomes = orderService.placeOrders(requests);
+
+            // then
+            long distinct = outcomes.stream().map(o -> o.getOrder().getOrderId()).distinct().count();
+            assertEquals(100, distinct, "주문 ID가 모두 달라야 한다");
+            assertTrue(outcomes.stream().allMatch(o -> o.getOrder().getOrderId().startsWith("ORD-")),
+                    "주문 ID는 ORD-로 시작해야 한다");
+        }
+
+        @Test
+        @DisplayName("같은 게이트웨이의 결제와 같은 주소의 배송은 묶음마다 한 번씩만 호출된다")
+        void batchesGatewayAndCarrierCalls() {
+            // given: 결제 수단 인스턴스는 요청마다 다르지만 게이트웨이는 하나
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            AtomicInteger dispatches = new AtomicInteger();
+            AtomicInteger delivered = new AtomicInteger();
+            DeliveryMethod carrier = new DeliveryMethod() {
+                @Override
+                public void deliver(String productSummary) {
+                    delivered.incrementAndGet();
+                }
+
+                @Override
+                public List<RuntimeException> dispatch(Shipment shipment) {
+                    dispatches.incrementAndGet();
+                    delivered.addAndGet(shipment.size());
+                    return new ArrayList<>(Collections.nCopies(shipment.size(), null));
+                }
+
+                @Override
+                public Object consolidationKey() {
+                    return "carrier";
+                }
+            };
+            Product stocked = new Clothing("P302", "대량상품", 1000, "테스트", 10_000, "M", "면");
+            int count = 200;
+            List<OrderRequest> requests = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                requests.add(new OrderRequest(customer, List.of(stocked),
+                        new CreditCardPayment(String.format("1234123412%02d", 1 + i % 98), "12/30", gateway), carrier));
+            }
+
+            // when
+            List<OrderOutcome> outcomes = orderService.placeOrders(requests);
+
+            // then: 32건씩 묶여 200건이 7번의 호출로 처리됨
+            int expectedCalls = (count + OrderService.BATCH_CHUNK_SIZE - 1) / OrderService.BATCH_CHUNK_SIZE;
+            assertTrue(outcomes.stream().allMatch(OrderOutcome::isSuccess), "모든 주문이 성공해야 한다");
+            assertEquals(expectedCalls, gateway.getCallCount(), "게이트웨이 호출은 묶음 수만큼이어야 한다");
+            assertEquals(count, gateway.getItemCount());
+            assertEquals(expectedCalls, dispatches.get(), "배송사 호출은 묶음 수만큼이어야 한다");
+            assertEquals(count, delivered.get(), "주문마다 한 번씩 배송되어야 한다");
+            assertEquals(10_000 - count, stocked.getStockQuantity());
+        }
+    }
+
+    @Nested
+    @DisplayName("멱등성 키")
+    class IdempotentPlaceOrder {
+
+        @Test
+        @DisplayName("같은 키로 재시도하면 결제하지 않고 처음 주문을 돌려준다")
+        void retryReturnsOriginalOrder() {
+            // given
+            AtomicInteger charges = new AtomicInteger();
+            PaymentMethod pm = amount -> charges.incrementAndGet();
+
+            // when
+            Order first = orderService.placeOrder("REQ-1", customer, List.of(dummyProduct), pm, sum -> { });
+            Order retried = orderService.placeOrder("REQ-1", customer, List.of(dummyProduct), pm, sum -> { });
+
+            // then
+            assertSame(first, retried, "같은 주문이 반환되어야 한다");
+            assertEquals(1, charges.get(), "결제는 한 번만 일어나야 한다");
+            assertEquals(4, dummyProduct.getStockQuantity(), "재고도 한 번만 차감되어야 한다");
+        }
+
+        @Test
+        @DisplayName("실패한 요청은 같은 키로 다시 시도할 수 있다")
+        void retryAfterFailure() {
+            // given
+            PaymentMethod failPay = amount -> { throw new PaymentException("일시 장애"); };
+            assertThrows(IllegalOrderStateException.class,
+                    () -> orderService.placeOrder("REQ-2", customer, List.of(dummyProduct), failPay, sum -> { }));
+
+            // when
+            Order order = orderService.placeOrder("REQ-2", customer, List.of(dummyProduct), amount -> { }, sum -> { });
+
+            // then
+            assertEquals(OrderStatus.SHIPPED, order.getStatus());
+        }
+
+        @Test
+        @DisplayName("비동기 주문도 같은 키의 재요청은 처음 결과를 함께 받는다")
+        void asyncRetrySharesResult() throws Exception {
+            // given
+            AtomicInteger charges = new AtomicInteger();
+            PaymentMethod pm = amount -> charges.incrementAndGet();
+
+            // when
+            CompletableFuture<Order> first =
+                    orderService.placeOrderAsync("REQ-3", customer, List.of(dummyProduct), pm, sum -> { });
+            CompletableFuture<Order> retried =
+                    orderService.placeOrderAsync("REQ-3", customer, List.of(dummyProduct), pm, sum -> { });
+
+            // then
+            assertSame(first.get(5, TimeUnit.SECONDS), retried.get(5, TimeUnit.SECONDS));
+            assertEquals(1, charges.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("tryPlaceOrder 예외 없는 주문")
+    class TryPlaceOrder {
+
+        @Test
+        @DisplayName("정상 요청이면 Placed 결과와 SHIPPED 주문을 돌려준다")
+        void placed() {
+            // when
+            PlaceOrderResult result = orderService.tryPlaceOrder(
+                    customer, List.of(dummyProduct), amount -> { }, sum -> { });
+
+            // then
+            assertInstanceOf(PlaceOrderResult.Placed.class, result);
+            assertTrue(result.isSuccess());
+            assertEquals(OrderStatus.SHIPPED, result.getOrder().getStatus());
+            assertEquals(4, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 StockOut 결과를 돌려주고 재고는 그대로다")
+        void stockOut() {
+            // given: 재고(5개)보다 많이 주문
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                products.add(dummyProduct);
+            }
+
+            // when
+            PlaceOrderResult result = orderService.tryPlaceOrder(customer, products, amount -> { }, sum -> { });
+
+            // then
+            PlaceOrderResult.StockOut stockOut = assertInstanceOf(PlaceOrderResult.StockOut.class, result);
+            assertEquals(OrderOutcome.Status.STOCK_OUT, result.getStatus());
+            assertSame(dummyProduct, stockOut.getProduct());
+            assertEquals(6, stockOut.getRequested());
+            assertEquals(5, stockOut.getAvailable());
+            assertEquals("재고 부족: 티셔츠 (요청 6개, 현재 5개)", result.getMessage());
+            assertEquals(5, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("결제가 거절되면 PaymentDeclined 결과를 돌려주고 재고를 복구한다")
+        void paymentDeclined() {
+            // given: 거절을 결과로 돌려주는 결제 수단 (예외를 만들지 않음)
+            PaymentMethod declining = new PaymentMethod() {
+                @Override
+                public void payMinor(long amountMinor) {
+                    fail("authorize만 호출되어야 한다");
+                }
+
+                @Override
+                public PaymentResult authorize(long amountMinor) {
+                    return PaymentResult.declined(amountMinor, "한도 초과");
+                }
+            };
+
+            // when
+            PlaceOrderResult result = orderService.tryPlaceOrder(
+                    customer, List.of(dummyProduct), declining, sum -> { });
+
+            // then
+            PlaceOrderResult.PaymentDeclined declined =
+                    assertInstanceOf(PlaceOrderResult.PaymentDeclined.class, result);
+            assertEquals("한도 초과", declined.getReason());
+            assertEquals("결제 실패: 한도 초과", result.getMessage());
+            assertEquals(OrderStatus.PENDING, result.getOrder().getStatus());
+            assertEquals(5, dummyProduct.getStockQuantity(), "재고가 복구되어야 한다");
+            assertTrue(orderService.getOrderRepository().findById(result.getOrder().getOrderId()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("배송이 실패하면 DeliveryFailed 결과를 돌려주고 재고를 복구한다")
+        void deliveryFailed() {
+            // when
+            PlaceOrderResult result = orderService.tryPlaceOrder(customer, List.of(dummyProduct),
+                    amount -> { }, sum -> { throw new DeliveryException("주소 불명"); });
+
+            // then
+            assertInstanceOf(PlaceOrderResult.DeliveryFailed.class, result);
+            assertEquals("배송 실패: 주소 불명", result.getMessage());
+            assertEquals(5, dummyProduct.getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("placeOrder가 실패를 알리는 예외는 스택 트레이스를 만들지 않는다")
+        void rollbackExceptionIsStackless() {
+            // when
+            IllegalOrderStateException e = assertThrows(IllegalOrderStateException.class,
+                    () -> orderService.placeOrder(customer, List.of(dummyProduct),
+                            amount -> { throw new PaymentException("카드 오류"); }, sum -> { }));
+
+            // then
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("단계별 지표")
+    class StageMetricsTests {
+
+        private final MetricsRegistry registry = new MetricsRegistry();
+        private final OrderService measured = new OrderService(
+                ReservationLedger.untimed(), null, new OrderRepository(),
+                new IdempotencyCache<>(10, Duration.ofMinutes(1)), new UuidOrderIdGenerator(),
+                new OrderMetrics(registry));
+
+        @Test
+        @DisplayName("예약/결제/배송/전체 단계의 성공과 실패 유형을 기록한다")
+        void recordStages() {
+            // given
+            List<Product> tooMany = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                tooMany.add(dummyProduct);
+            }
+
+            // when
+            measured.placeOrder(customer, List.of(dummyProduct), amount -> { }, sum -> { });
+            assertThrows(IllegalOrderStateException.class, () -> measured.placeOrder(customer, List.of(dummyProduct),
+                    amount -> { throw new PaymentException("카드 오류"); }, sum -> { }));
+            measured.tryPlaceOrder(customer, tooMany, amount -> { }, sum -> { });
+
+            // then
+            StageMetrics reserve = registry.stage(OrderMetrics.RESERVE);
+            StageMetrics payment = registry.stage(OrderMetrics.PAYMENT);
+            StageMetrics delivery = registry.stage(OrderMetrics.DELIVERY);
+            StageMetrics place = registry.stage(OrderMetrics.PLACE);
+            assertEquals(2, reserve.getSuccessCount());
+            assertEquals(1, reserve.getFailureCount(StockUnavailableException.class));
+            assertEquals(1, payment.getSuccessCount());
+            assertEquals(1, payment.getFailureCount(PaymentException.class));
+            assertEquals(1, delivery.getSuccessCount());
+            assertEquals(1, place.getSuccessCount());
+            assertEquals(1, place.getFailureCount(PaymentException.class), "전체 단계는 원인 예외 유형으로 센다");
+            assertEquals(1, place.getFailureCount(StockUnavailableException.class));
+            assertEquals(3, place.getLatency().snapshot().getCount());
+            assertTrue(measured.getMetricsRegistry().dump().contains(OrderMetrics.DELIVERY + " count=1 "));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package org.univ.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.exception.PaymentException;
+import org.univ.strategy.payment.BankTransferPayment;
+import org.univ.strategy.payment.CreditCardPayment;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentResult;
+import org.univ.strategy.payment.SimulatedPaymentGateway;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PaymentBatchDispatcher 결제 승인 마이크로 배칭 검증")
+class PaymentBatchDispatcherTest {
+
+    @Nested
+    @DisplayName("묶음 만들기")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("묶음 크기만큼 모이면 대기 시간을 기다리지 않고 한 번에 승인한다")
+        void flushBySize() {
+            // given: 대기 시간은 길게, 묶음 크기는 4
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            CreditCardPayment card = new CreditCardPayment("123456789012", "12/27", gateway);
+            try (PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(4, Duration.ofSeconds(10))) {
+                // when
+                List<CompletableFuture<PaymentResult>> results = new ArrayList<>();
+                for (int i = 1; i <= 8; i++) {
+                    results.add(dispatcher.submit(card, i * 100L));
+                }
+
+                // then
+                for (int i = 0; i < results.size(); i++) {
+                    assertEquals((i + 1) * 100L, results.get(i).join().getAmountMinor());
+                }
+                assertEquals(2, gateway.getCallCount(), "8건이 4건씩 두 번에 승인되어야 한다");
+            }
+        }
+
+        @Test
+        @DisplayName("묶음이 덜 차도 최대 대기 시간이 지나면 승인한다")
+        void flushByMaxWait() {
+            // given
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            BankTransferPayment bank = new BankTransferPayment("우리은행", "123456", gateway);
+            try (PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(100, Duration.ofMillis(20))) {
+                // when
+                PaymentResult result = dispatcher.submit(bank, 5000).join();
+
+                // then
+                assertTrue(result.isApproved());
+                assertEquals(1, gateway.getCallCount());
+            }
+        }
+
+        @Test
+        @DisplayName("결제 수단 종류가 다르면 같은 묶음 안에서도 따로 승인한다")
+        void groupByBatchKey() {
+            // given
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            CreditCardPayment card = new CreditCardPayment("123456789012", "12/27", gateway);
+            BankTransferPayment bank = new BankTransferPayment("우리은행", "123999999", gateway);
+            try (PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(4, Duration.ofSeconds(10))) {
+                // when
+                CompletableFuture<PaymentResult> c1 = dispatcher.submit(card, 100);
+                CompletableFuture<PaymentResult> b1 = dispatcher.submit(bank, 200);
+                CompletableFuture<PaymentResult> c2 = dispatcher.submit(card, 300);
+                CompletableFuture<PaymentResult> b2 = dispatcher.submit(bank, 400);
+
+                // then
+                assertTrue(c1.join().isApproved());
+                assertTrue(c2.join().isApproved());
+                assertFalse(b1.join().isApproved(), "잔액 부족 계좌는 거절");
+                assertFalse(b2.join().isApproved());
+                assertEquals(1, gateway.getCallCount(), "거절된 계좌이체는 게이트웨이로 가지 않는다");
+                assertEquals(2, dispatcher.getBatchCount(), "카드/계좌이체 두 묶음");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("batched 결제 수단")
+    class BatchedMethodTests {
+
+        @Test
+        @DisplayName("여러 스레드의 payMinor 호출이 묶여 게이트웨이 호출 수가 줄어든다")
+        void coalesceConcurrentPayments() throws Exception {
+            // given: 호출당 20ms 걸리는 게이트웨이
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ofMillis(20));
+            CreditCardPayment card = new CreditCardPayment("123456789012", "12/27", gateway);
+            ExecutorService callers = Executors.newFixedThreadPool(32);
+            try (PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(32, Duration.ofMillis(5))) {
+                PaymentMethod batched = dispatcher.batched(card);
+
+                // when
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    calls.add(callers.submit(() -> batched.payMinor(1000)));
+                }
+                for (Future<?> call : calls) {
+                    call.get();
+                }
+
+                // then
+                assertEquals(64, gateway.getItemCount());
+                assertTrue(gateway.getCallCount() < 64, "동시 호출은 묶여서 승인되어야 한다: " + gateway.getCallCount());
+            } finally {
+                callers.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("거절된 승인은 호출 스레드에서 PaymentException으로 나타난다")
+        void declinedThrowsPaymentException() {
+            // given
+            CreditCardPayment limited = new CreditCardPayment("123456789000", "12/27");
+            try (PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(8, Duration.ofMillis(1))) {
+                PaymentMethod batched = dispatcher.batched(limited);
+
+                // when / then
+                assertThrows(PaymentException.class, () -> batched.payMinor(1000));
+            }
+        }
+
+        @Test
+        @DisplayName("종료된 배처에는 요청을 넣을 수 없다")
+        void rejectAfterClose() {
+            PaymentBatchDispatcher dispatcher = new PaymentBatchDispatcher(8, Duration.ofMillis(1));
+            dispatcher.close();
+
+            assertThrows(IllegalStateException.class,
+                    () -> dispatcher.submit(new CreditCardPayment("123456789012", "12/27"), 1000));
+        }
+    }
+}
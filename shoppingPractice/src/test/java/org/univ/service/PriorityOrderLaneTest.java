@@ -0,0 +1,218 @@
+package org.univ.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.domain.customer.Customer;
+import org.univ.domain.order.Order;
+import org.univ.domain.order.OrderStatus;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Food;
+import org.univ.exception.IllegalOrderStateException;
+import org.univ.exception.PaymentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriorityOrderLane 콜드체인 우선 처리 검증")
+class PriorityOrderLaneTest {
+
+    // 작업 스레드 하나를 gate가 열릴 때까지 붙잡아 두는 작업
+    private static void block(PriorityOrderLane lane, CountDownLatch started, CountDownLatch gate) {
+        lane.submit(false, () -> {
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
+
+    @Nested
+    @DisplayName("처리 순서")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("냉장 주문은 먼저 들어온 일반 주문보다 먼저 처리된다")
+        void coldChainFirst() throws Exception {
+            // given: 작업 스레드 하나가 바쁜 동안 일반 3건, 냉장 1건이 쌓임
+            List<String> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            try (PriorityOrderLane lane = new PriorityOrderLane(1, Duration.ZERO, Duration.ofSeconds(10))) {
+                block(lane, started, gate);
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                CompletableFuture<?> last = null;
+                for (int i = 1; i <= 3; i++) {
+                    String name = "일반" + i;
+                    last = lane.submit(false, () -> executed.add(name));
+                }
+                CompletableFuture<?> cold = lane.submit(true, () -> executed.add("냉장"));
+
+                // when
+                gate.countDown();
+                cold.get(5, TimeUnit.SECONDS);
+                last.get(5, TimeUnit.SECONDS);
+
+                // then
+                assertEquals(List.of("냉장", "일반1", "일반2", "일반3"), executed);
+            }
+        }
+
+        @Test
+        @DisplayName("허용 대기 시간이 지난 일반 주문은 새로 들어온 냉장 주문보다 먼저 처리된다 (aging)")
+        void agingPreventsStarvation() throws Exception {
+            // given
+            List<String> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            try (PriorityOrderLane lane = new PriorityOrderLane(1, Duration.ZERO, Duration.ofMillis(30))) {
+                block(lane, started, gate);
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                CompletableFuture<?> standard = lane.submit(false, () -> executed.add("일반"));
+                Thread.sleep(60);
+                CompletableFuture<?> cold = lane.submit(true, () -> executed.add("냉장"));
+
+                // when
+                gate.countDown();
+                CompletableFuture.allOf(standard, cold).get(5, TimeUnit.SECONDS);
+
+                // then
+                assertEquals(List.of("일반", "냉장"), executed);
+            }
+        }
+
+        @Test
+        @DisplayName("레인별 완료 시간 백분위수를 기록한다")
+        void recordPercentiles() {
+            try (PriorityOrderLane lane = new PriorityOrderLane(2, Duration.ZERO, Duration.ofMillis(50))) {
+                for (int i = 0; i < 10; i++) {
+                    lane.submit(i % 2 == 0, () -> null).join();
+                }
+
+                assertEquals(5, lane.getCompletedCount(true));
+                assertEquals(5, lane.getCompletedCount(false));
+                assertTrue(lane.latencyPercentileMillis(true, 99) >= 0.0);
+                assertThrows(IllegalArgumentException.class, () -> lane.latencyPercentileMillis(true, 120));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("종료")
+    class CloseTests {
+
+        @Test
+        @DisplayName("종료와 겹친 작업도 받아들여졌다면 모두 실행되고, 거절된 작업은 예외로 알린다")
+        void submitRacingClose() throws Exception {
+            for (int round = 0; round < 50; round++) {
+                // given: 여러 스레드가 작업을 넣는 도중에 레인을 닫음
+                PriorityOrderLane lane = new PriorityOrderLane(2, Duration.ZERO, Duration.ofMillis(50));
+                List<CompletableFuture<?>> accepted = new CopyOnWriteArrayList<>();
+                CountDownLatch go = new CountDownLatch(1);
+                List<Thread> submitters = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    Thread submitter = new Thread(() -> {
+                        try {
+                            go.await();
+                            for (int i = 0; i < 50; i++) {
+                                accepted.add(lane.submit(i % 2 == 0, () -> null));
+                            }
+                        } catch (IllegalStateException | InterruptedException e) {
+                            // 닫힌 뒤 들어온 작업은 거절
+                        }
+                    });
+                    submitters.add(submitter);
+                    submitter.start();
+                }
+
+                // when
+                go.countDown();
+                lane.close();
+                for (Thread submitter : submitters) {
+                    submitter.join();
+                }
+
+                // then
+                CompletableFuture.allOf(accepted.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+                assertThrows(IllegalStateException.class, () -> lane.submit(false, () -> null));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("OrderService 연동")
+    class ServiceTests {
+
+        private final Customer customer = new Customer(
+                "C100", "테스터", "test@univ.org", "010-0000-0000", "주소: 서울시"
+        );
+
+        @Test
+        @DisplayName("냉장 상품 주문은 콜드체인 대상이며 레인에서 결제/배송된다")
+        void placeColdChainOrder() {
+            // given
+            Food milk = new Food("F100", "우유", 3000, "테스트", 5, true);
+            OrderService service = new OrderService();
+            try (PriorityOrderLane lane = new PriorityOrderLane(2, Duration.ZERO, Duration.ofMillis(50))) {
+                // when
+                Order order = service.placeOrderAsync(customer, List.of(milk), amount -> { }, summary -> { }, lane)
+                        .join();
+
+                // then
+                assertTrue(order.requiresColdChain());
+                assertEquals(OrderStatus.SHIPPED, order.getStatus());
+                assertEquals(1, lane.getCompletedCount(true));
+                assertTrue(service.getOrderRepository().findById(order.getOrderId()).isPresent());
+            }
+        }
+
+        @Test
+        @DisplayName("레인에서 결제가 실패하면 재고가 복구된다")
+        void rollbackOnFailure() {
+            // given
+            Clothing shirt = new Clothing("P100", "티셔츠", 10000, "테스트", 5, "M", "면");
+            OrderService service = new OrderService();
+            try (PriorityOrderLane lane = new PriorityOrderLane(1, Duration.ZERO, Duration.ofMillis(50))) {
+                // when
+                CompletableFuture<Order> result = service.placeOrderAsync(customer, List.of(shirt),
+                        amount -> { throw new PaymentException("한도 초과"); }, summary -> { }, lane);
+
+                // then
+                CompletionException e = assertThrows(CompletionException.class, result::join);
+                assertInstanceOf(IllegalOrderStateException.class, e.getCause());
+                assertEquals(5, shirt.getStockQuantity());
+                assertEquals(1, lane.getCompletedCount(false));
+            }
+        }
+
+        @Test
+        @DisplayName("종료된 레인에 주문하면 잡아 둔 재고를 돌려주고 실패로 완료된다")
+        void rollbackWhenLaneClosed() {
+            // given
+            Clothing shirt = new Clothing("P101", "티셔츠", 10000, "테스트", 5, "M", "면");
+            OrderService service = new OrderService();
+            PriorityOrderLane lane = new PriorityOrderLane(1, Duration.ZERO, Duration.ofMillis(50));
+            lane.close();
+
+            // when
+            CompletableFuture<Order> result = service.placeOrderAsync(customer, List.of(shirt, shirt),
+                    amount -> { }, summary -> { }, lane);
+
+            // then
+            CompletionException e = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(IllegalOrderStateException.class, e.getCause());
+            assertEquals(5, shirt.getStockQuantity(), "예약했던 재고가 돌아와야 한다");
+        }
+    }
+}
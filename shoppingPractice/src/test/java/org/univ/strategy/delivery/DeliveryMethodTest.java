@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.univ.domain.product.Clothing;
+import org.univ.domain.product.Food;
 import org.univ.exception.DeliveryException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -95,4 +97,83 @@ class DeliveryMethodTest {
                     "주소 누락 또는 특급 배송 키워드 없으면 DeliveryException 발생해야 한다");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("DeliveryRequest 기반 deliver 동작")
+    class DeliveryRequestTests {
+
+        private DeliveryRequest request(String address, int flags) {
+            return new DeliveryRequest("O1", address, flags, () -> {
+                throw new AssertionError("플래그 기반 구현은 요약 문자열을 만들면 안 된다");
+            });
+        }
+
+        @Test
+        @DisplayName("일반 배송: 주소가 있고 제한 플래그가 없으면 통과한다")
+        void standardAcceptsPlainItems() {
+            StandardDelivery sd = new StandardDelivery();
+            assertDoesNotThrow(() -> sd.deliver(request("서울시 강남구", DeliveryRequest.REFRIGERATED)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { DeliveryRequest.HAZARDOUS, DeliveryRequest.FRAGILE })
+        @DisplayName("일반 배송: 유해/취급주의 플래그가 있으면 DeliveryException 발생")
+        void standardRejectsRestrictedItems(int flag) {
+            StandardDelivery sd = new StandardDelivery();
+            assertThrows(DeliveryException.class, () -> sd.deliver(request("서울시", flag)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "", "   " })
+        @DisplayName("주소가 비어 있으면 두 배송 방식 모두 DeliveryException 발생")
+        void rejectBlankAddress(String address) {
+            assertThrows(DeliveryException.class,
+                    () -> new StandardDelivery().deliver(request(address, 0)));
+            assertThrows(DeliveryException.class,
+                    () -> new ExpressDelivery().deliver(request(address, DeliveryRequest.REFRIGERATED)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { DeliveryRequest.REFRIGERATED, DeliveryRequest.SPECIAL_PACKAGING })
+        @DisplayName("특급 배송: 냉장 또는 특수포장 플래그가 있으면 통과한다")
+        void expressAcceptsColdOrSpecial(int flag) {
+            ExpressDelivery ed = new ExpressDelivery();
+            assertDoesNotThrow(() -> ed.deliver(request("서울시", flag)));
+        }
+
+        @Test
+        @DisplayName("특급 배송: 냉장/특수포장 플래그가 없으면 DeliveryException 발생")
+        void expressRejectsPlainItems() {
+            ExpressDelivery ed = new ExpressDelivery();
+            assertThrows(DeliveryException.class, () -> ed.deliver(request("서울시", 0)));
+        }
+
+        @Test
+        @DisplayName("문자열만 구현한 배송 방식은 요약 문자열로 위임받는다")
+        void legacyImplementationReceivesSummary() {
+            // given
+            String[] received = new String[1];
+            DeliveryMethod legacy = summary -> received[0] = summary;
+
+            // when
+            legacy.deliver(new DeliveryRequest("O1", "서울시", 0, () -> "주문ID: O1, 주소: 서울시"));
+
+            // then
+            assertEquals("주문ID: O1, 주소: 서울시", received[0]);
+        }
+
+        @Test
+        @DisplayName("상품 속성으로 취급 조건 플래그가 미리 계산된다")
+        void flagsPrecomputedFromProducts() {
+            // given
+            Food chilled = new Food("F001", "신선 우유", 3000, "유제품", 5, true);
+            Clothing hazardous = new Clothing("C001", "유해 물질 작업복", 30000, "테스트", 5, "L", "면");
+
+            // then
+            assertTrue((chilled.getHandlingFlags() & DeliveryRequest.REFRIGERATED) != 0,
+                    "냉장 식품은 REFRIGERATED 플래그를 가져야 한다");
+            assertTrue((hazardous.getHandlingFlags() & DeliveryRequest.HAZARDOUS) != 0,
+                    "상품명에 '유해'가 있으면 HAZARDOUS 플래그를 가져야 한다");
+        }
+    }
+}
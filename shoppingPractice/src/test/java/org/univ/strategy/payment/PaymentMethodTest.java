@@ -7,6 +7,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.univ.exception.PaymentException;
 
+import java.time.Duration;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("PaymentMethod 구현체 동작 검증")
@@ -159,4 +162,87 @@ class PaymentMethodTest {
                     "계좌번호가 999999로 끝나면 PaymentException이 발생해야 한다");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("일괄 승인(authorizeBatch)")
+    class BatchAuthorizeTests {
+
+        @Test
+        @DisplayName("같은 게이트웨이의 카드 결제들은 게이트웨이 호출 한 번으로 항목별 결과를 받는다")
+        void authorizeBatchWithOneGatewayCall() {
+            // given
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            CreditCardPayment ok = new CreditCardPayment("123456789012", "12/27", gateway);
+            CreditCardPayment limited = new CreditCardPayment("123456789000", "12/27", gateway);
+            List<PaymentRequest> requests = List.of(
+                    new PaymentRequest(ok, 1000),
+                    new PaymentRequest(limited, 2000),
+                    new PaymentRequest(ok, 0),
+                    new PaymentRequest(ok, 3000));
+
+            // when
+            List<PaymentResult> results = ok.authorizeBatch(requests);
+
+            // then
+            assertEquals(4, results.size());
+            assertTrue(results.get(0).isApproved());
+            assertFalse(results.get(1).isApproved(), "한도 초과 카드는 거절");
+            assertFalse(results.get(2).isApproved(), "0원 결제는 거절");
+            assertTrue(results.get(3).isApproved());
+            assertEquals(3000, results.get(3).getAmountMinor());
+            assertEquals(1, gateway.getCallCount(), "거절된 항목을 뺀 나머지를 한 번에 보내야 한다");
+            assertEquals(2, gateway.getItemCount());
+        }
+
+        @Test
+        @DisplayName("게이트웨이가 다른 결제 수단은 같은 묶음에 넣을 수 없다")
+        void rejectForeignMethodInBatch() {
+            // given
+            CreditCardPayment cc = new CreditCardPayment("123456789012", "12/27");
+            BankTransferPayment bt = new BankTransferPayment("우리은행", "123456");
+
+            // when / then
+            assertNotEquals(cc.batchKey(), bt.batchKey());
+            assertThrows(IllegalArgumentException.class,
+                    () -> cc.authorizeBatch(List.of(new PaymentRequest(bt, 1000))));
+        }
+
+        @Test
+        @DisplayName("승인 취소는 게이트웨이가 발급한 승인 번호로 요청한다")
+        void voidByAuthorizationId() {
+            // given
+            SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO);
+            CreditCardPayment cc = new CreditCardPayment("123456789012", "12/27", gateway);
+            BankTransferPayment bt = new BankTransferPayment("우리은행", "123456", gateway);
+            PaymentResult first = cc.authorize(1000);
+            PaymentResult second = bt.authorize(2000);
+
+            // when
+            bt.voidPayment(second);
+            cc.voidPayment(first);
+
+            // then
+            assertNotNull(first.getAuthorizationId(), "승인 결과에 승인 번호가 있어야 한다");
+            assertNotEquals(first.getAuthorizationId(), second.getAuthorizationId());
+            assertEquals(List.of(second.getAuthorizationId(), first.getAuthorizationId()),
+                    gateway.getVoidedAuthorizationIds());
+            assertThrows(IllegalArgumentException.class, () -> cc.voidPayment(PaymentResult.approved(1000)),
+                    "승인 번호 없이는 어떤 청구를 취소할지 알 수 없다");
+        }
+
+        @Test
+        @DisplayName("기본 authorize는 payMinor의 예외를 거절 결과로 바꾼다")
+        void defaultAuthorizeMapsException() {
+            // given
+            PaymentMethod failing = amount -> { throw new PaymentException("한도 초과"); };
+
+            // when
+            PaymentResult result = failing.authorize(1000);
+
+            // then
+            assertFalse(result.isApproved());
+            assertEquals("한도 초과", result.getReason());
+            assertThrows(PaymentException.class, result::throwIfDeclined);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.univ.strategy.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.exception.DeliveryException;
+import org.univ.exception.PaymentException;
+import org.univ.strategy.delivery.ResilientDeliveryMethod;
+import org.univ.strategy.delivery.StandardDelivery;
+import org.univ.strategy.payment.PaymentMethod;
+import org.univ.strategy.payment.PaymentResult;
+import org.univ.strategy.payment.ResilientPaymentMethod;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResilienceGuard 회로 차단/벌크헤드/시간 제한 검증")
+class ResilienceGuardTest {
+
+    // 테스트에서 시간을 직접 옮길 수 있는 시계
+    static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final PaymentMethod failingGateway = amount -> {
+        calls.incrementAndGet();
+        throw new PaymentException("게이트웨이 오류");
+    };
+
+    @Nested
+    @DisplayName("회로 차단기")
+    class CircuitBreakerTests {
+
+        @Test
+        @DisplayName("실패율이 기준을 넘으면 회로가 열리고 이후 호출은 원래 결제 방식까지 가지 않는다")
+        void openAfterFailures() {
+            // given: 최근 4번 중 50% 이상 실패하면 차단
+            CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30), clock);
+            ResilientPaymentMethod pm = new ResilientPaymentMethod(failingGateway,
+                    new ResilienceGuard("카드", breaker, null, null));
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                assertThrows(PaymentException.class, () -> pm.payMinor(1000));
+            }
+            PaymentException rejected = assertThrows(PaymentException.class, () -> pm.payMinor(1000));
+
+            // then
+            assertEquals(CircuitState.OPEN, pm.getCircuitState());
+            assertEquals(4, calls.get(), "차단 후에는 원래 결제 방식을 호출하지 않아야 한다");
+            assertTrue(rejected.getMessage().contains("회로 열림"));
+            assertEquals(4, pm.getStats().getFailureCount());
+            assertEquals(1, pm.getStats().getShortCircuitedCount());
+        }
+
+        @Test
+        @DisplayName("승인 거절은 정상 호출로 기록되어 회로를 열지 않는다")
+        void declinesDoNotOpen() {
+            // given: 최근 4번 중 50% 이상 실패하면 차단, 원래 결제 방식은 항상 거절
+            CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30), clock);
+            ResilientPaymentMethod pm = new ResilientPaymentMethod(amount -> {
+                calls.incrementAndGet();
+                throw new PaymentException("카드 한도 초과");
+            }, new ResilienceGuard("카드", breaker, null, null));
+
+            // when
+            List<PaymentResult> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(pm.authorize(1000));
+            }
+
+            // then
+            assertTrue(results.stream().noneMatch(PaymentResult::isApproved));
+            assertEquals("카드 한도 초과", results.get(9).getReason());
+            assertEquals(CircuitState.CLOSED, pm.getCircuitState());
+            assertEquals(10, calls.get(), "회로가 닫혀 있으므로 모든 승인이 원래 결제 방식까지 가야 한다");
+            assertEquals(10, pm.getStats().getSuccessCount());
+            assertEquals(0, pm.getStats().getFailureCount());
+        }
+
+        @Test
+        @DisplayName("게이트웨이 오류는 실패로 기록되고, 회로가 열리면 승인은 거절 결과로 돌아온다")
+        void gatewayErrorsOpenOnAuthorize() {
+            // given
+            CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30), clock);
+            ResilientPaymentMethod pm = new ResilientPaymentMethod(amount -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("게이트웨이 연결 끊김");
+            }, new ResilienceGuard("카드", breaker, null, null));
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                assertThrows(IllegalStateException.class, () -> pm.authorize(1000));
+            }
+            PaymentResult rejected = pm.authorize(1000);
+
+            // then
+            assertEquals(CircuitState.OPEN, pm.getCircuitState());
+            assertEquals(4, calls.get());
+            assertFalse(rejected.isApproved());
+            assertTrue(rejected.getReason().contains("회로 열림"));
+        }
+
+        @Test
+        @DisplayName("배송 방식의 업무상 거절(주소 없음 등)은 정상 호출로 기록되어 회로를 열지 않는다")
+        void deliveryRejectionsDoNotOpen() {
+            // given: 최근 4번 중 50% 이상 실패하면 차단
+            CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(30), clock);
+            ResilientDeliveryMethod dm = new ResilientDeliveryMethod(new StandardDelivery(),
+                    new ResilienceGuard("택배", breaker, null, null));
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                DeliveryException rejected = assertThrows(DeliveryException.class, () -> dm.deliver("주소 없는 주문"));
+                assertTrue(rejected.getMessage().contains("주소"), "원래 배송 방식의 거절 사유가 그대로 전달되어야 한다");
+            }
+            dm.deliver("주소: 서울");
+
+            // then
+            assertEquals(CircuitState.CLOSED, dm.getCircuitState());
+            assertEquals(11, dm.getStats().getSuccessCount());
+            assertEquals(0, dm.getStats().getFailureCount());
+        }
+
+        @Test
+        @DisplayName("차단 시간이 지나면 시험 호출 하나를 보내고, 성공하면 회로가 닫힌다")
+        void halfOpenTrialCloses() {
+            // given: 한 번 실패로 열린 회로
+            CircuitBreaker breaker = new CircuitBreaker(2, 1, 50, Duration.ofSeconds(30), clock);
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+            assertEquals(CircuitState.OPEN, breaker.getState());
+
+            // when
+            clock.advance(Duration.ofSeconds(31));
+            boolean trial = breaker.tryAcquire();
+            boolean second = breaker.tryAcquire();
+
+            // then
+            assertTrue(trial, "차단 시간이 지나면 시험 호출을 허용해야 한다");
+            assertFalse(second, "시험 호출이 끝나기 전에는 다른 호출을 막아야 한다");
+            assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+            breaker.onSuccess();
+            assertEquals(CircuitState.CLOSED, breaker.getState());
+            assertEquals(0, breaker.getFailureRatePercent(), "회로가 닫히면 기록을 새로 시작해야 한다");
+        }
+
+        @Test
+        @DisplayName("기록 창 밖으로 밀려난 실패는 실패율에 들어가지 않는다")
+        void rollingWindow() {
+            // given
+            CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, Duration.ofSeconds(30), clock);
+
+            // when: 실패 2번 후 성공 4번
+            breaker.onFailure();
+            breaker.onFailure();
+            for (int i = 0; i < 4; i++) {
+                breaker.onSuccess();
+            }
+
+            // then
+            assertEquals(0, breaker.getFailureRatePercent());
+            assertEquals(CircuitState.CLOSED, breaker.getState());
+        }
+    }
+
+    @Nested
+    @DisplayName("벌크헤드와 시간 제한")
+    class BulkheadTimeoutTests {
+
+        @Test
+        @DisplayName("동시 호출 한도를 넘는 호출은 기다리지 않고 거절된다")
+        void rejectWhenFull() throws Exception {
+            // given: 동시 1건, 대기 없음
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ResilientDeliveryMethod dm = new ResilientDeliveryMethod(summary -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, new ResilienceGuard("택배", null, new Bulkhead(1, Duration.ZERO), null));
+            Thread busy = new Thread(() -> dm.deliver("첫 배송"));
+            busy.start();
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // when / then
+            assertThrows(DeliveryException.class, () -> dm.deliver("두 번째 배송"));
+            assertEquals(1, dm.getStats().getBulkheadRejectedCount());
+            assertEquals(1, dm.getGuard().getActiveCalls());
+            release.countDown();
+            busy.join(5000);
+            assertEquals(0, dm.getGuard().getActiveCalls());
+        }
+
+        @Test
+        @DisplayName("시간 제한을 넘기면 바로 실패하지만 자리는 실제 호출이 끝날 때 돌려준다")
+        void timeoutKeepsPermitUntilDone() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            ResilienceGuard guard = new ResilienceGuard("느린 카드",
+                    null, new Bulkhead(1, Duration.ZERO), Duration.ofMillis(20));
+            ResilientPaymentMethod pm = new ResilientPaymentMethod(amount -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, guard);
+
+            // when
+            PaymentException timeout = assertThrows(PaymentException.class, () -> pm.payMinor(1000));
+
+            // then
+            assertTrue(timeout.getMessage().contains("시간 초과"));
+            assertEquals(1, pm.getStats().getTimeoutCount());
+            assertThrows(PaymentException.class, () -> pm.payMinor(1000),
+                    "느린 호출이 끝나기 전에는 자리가 없어야 한다");
+            release.countDown();
+            for (int i = 0; i < 100 && guard.getActiveCalls() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, guard.getActiveCalls());
+        }
+
+        @Test
+        @DisplayName("시간 초과로 거절한 승인이 나중에 승인되면 바로 취소된다")
+        void voidLateApprovalAfterTimeout() throws Exception {
+            // given: 풀려날 때까지 응답하지 않다가 승인하는 결제 방식
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch voided = new CountDownLatch(1);
+            List<PaymentResult> voids = new ArrayList<>();
+            PaymentMethod slowGateway = new PaymentMethod() {
+                @Override
+                public void payMinor(long amountMinor) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                @Override
+                public void voidPayment(PaymentResult approved) {
+                    voids.add(approved);
+                    voided.countDown();
+                }
+            };
+            ResilientPaymentMethod pm = new ResilientPaymentMethod(slowGateway,
+                    new ResilienceGuard("느린 카드", null, null, Duration.ofMillis(20)));
+
+            // when
+            PaymentResult result = pm.authorize(1000);
+            release.countDown();
+
+            // then
+            assertFalse(result.isApproved(), "시간 초과는 거절 결과로 돌아와야 한다");
+            assertTrue(result.getReason().contains("시간 초과"));
+            assertTrue(voided.await(5, TimeUnit.SECONDS), "늦게 도착한 승인은 취소되어야 한다");
+            assertEquals(1, voids.size());
+            assertEquals(1000, voids.get(0).getAmountMinor());
+        }
+
+        @Test
+        @DisplayName("정상 호출은 결과를 그대로 돌려주고 지연 시간이 기록된다")
+        void recordLatency() {
+            // given
+            ResilienceGuard guard = new ResilienceGuard("재고 조회", null, null, Duration.ofSeconds(1));
+
+            // when
+            String result = guard.call(() -> "OK", IllegalStateException::new);
+
+            // then
+            assertEquals("OK", result);
+            assertEquals(1, guard.getStats().getSuccessCount());
+            assertTrue(guard.getStats().getMaxLatencyMillis() >= 0.0);
+        }
+    }
+}
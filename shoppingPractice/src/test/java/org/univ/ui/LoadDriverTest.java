@@ -0,0 +1,117 @@
+package org.univ.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.univ.service.OrderOutcome;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("부하 발생기 검증")
+class LoadDriverTest {
+
+    @Nested
+    @DisplayName("LoadProfile")
+    class ProfileTests {
+
+        @Test
+        @DisplayName("인자로 준 항목만 기본값을 덮어쓴다")
+        void overridesOnlyGivenValues() {
+            // when
+            LoadProfile profile = LoadProfile.parse("--rate=500", "--duration=2", "--cartMean=2.5", "--seed=7");
+
+            // then
+            assertEquals(500.0, profile.getRatePerSecond());
+            assertEquals(1000, profile.getArrivalCount());
+            assertEquals(2.5, profile.getCartMean());
+            assertEquals(7, profile.getSeed());
+            assertEquals(LoadProfile.defaults().getCustomers(), profile.getCustomers());
+        }
+
+        @Test
+        @DisplayName("형식이 틀리거나 모르는 이름이거나 범위를 벗어나면 예외")
+        void rejectsInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("rate=10"));
+            assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("--speed=10"));
+            assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("--rate=0"));
+            assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("--declineRate=1.5"));
+            assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("--cartMean=30", "--cartMax=20"));
+        }
+    }
+
+    @Nested
+    @DisplayName("LoadDriver.run")
+    class RunTests {
+
+        @Test
+        @DisplayName("보낸 주문은 모두 결과로 집계되고 지연이 기록된다")
+        void everyArrivalIsAccounted() {
+            // given
+            LoadProfile profile = LoadProfile.parse("--rate=4000", "--duration=0.25", "--customers=20",
+                    "--products=30", "--declineRate=0", "--deliveryFailureRate=0", "--expressRatio=0.5");
+
+            // when
+            LoadReport report = new LoadDriver(profile).run();
+
+            // then
+            assertEquals(1000, report.getArrivals());
+            assertEquals(0, report.getDropped());
+            assertEquals(0, report.getErrors());
+            assertEquals(1000, report.getCompleted());
+            // 특급 주문에도 냉장 식품이 들어가므로 모두 성공
+            assertEquals(1000, report.getCount(OrderOutcome.Status.SUCCESS));
+            assertEquals(1000, report.getLatency().getCount());
+            assertTrue(report.getCompletedPerSecond() > 0);
+            assertTrue(report.getStageMetrics().contains("order.place"));
+        }
+
+        @Test
+        @DisplayName("결제 거절과 배송 실패를 주입한 비율대로 실패한다")
+        void injectsFailures() {
+            // given
+            LoadProfile declineAll = LoadProfile.parse("--rate=4000", "--duration=0.1", "--declineRate=1");
+            LoadProfile failDelivery = LoadProfile.parse("--rate=4000", "--duration=0.1",
+                    "--declineRate=0", "--deliveryFailureRate=1");
+
+            // when
+            LoadReport declined = new LoadDriver(declineAll).run();
+            LoadReport undelivered = new LoadDriver(failDelivery).run();
+
+            // then
+            assertEquals(400, declined.getCount(OrderOutcome.Status.PAYMENT_FAILED));
+            assertEquals(400, undelivered.getCount(OrderOutcome.Status.DELIVERY_FAILED));
+            assertEquals(0, undelivered.getCount(OrderOutcome.Status.SUCCESS));
+        }
+
+        @Test
+        @DisplayName("재고가 모자라면 재고 부족으로 집계하고 재고를 초과 판매하지 않는다")
+        void stockOutUnderContention() {
+            // given: 상품 3개, 상품당 재고 5개
+            LoadProfile profile = LoadProfile.parse("--rate=4000", "--duration=0.1", "--products=3",
+                    "--stock=5", "--cartMean=1", "--declineRate=0", "--deliveryFailureRate=0");
+
+            // when
+            LoadReport report = new LoadDriver(profile).run();
+
+            // then
+            assertEquals(15, report.getCount(OrderOutcome.Status.SUCCESS));
+            assertEquals(385, report.getCount(OrderOutcome.Status.STOCK_OUT));
+        }
+
+        @Test
+        @DisplayName("동시 처리 상한을 넘는 주문은 보내지 않고 버린다")
+        void dropsBeyondMaxInFlight() {
+            // given: 결제마다 50ms 지연, 동시 처리 최대 10건
+            LoadProfile profile = LoadProfile.parse("--rate=2000", "--duration=0.1", "--paymentLatencyMs=50",
+                    "--maxInFlight=10", "--declineRate=0", "--deliveryFailureRate=0");
+
+            // when
+            LoadReport report = new LoadDriver(profile).run();
+
+            // then
+            assertTrue(report.getDropped() > 0);
+            assertTrue(report.getMaxInFlight() <= 10);
+            assertEquals(report.getArrivals() - report.getDropped(), report.getCompleted());
+        }
+    }
+}